@@ -0,0 +1,49 @@
+package com.f1telemetry.race_telemetry_analyzer.config;
+
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportService;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the {@code faststart} profile (see {@code application-faststart.properties}).
+ *
+ * <p>With {@code openf1.import.lazy-init=true}, every bean of the OpenF1 import (the {@code service.OpenF1API}
+ * services, client, rate limiter, response cache and HTTP transport) is created on first use instead of while the
+ * context starts. Controllers and runners reach them through {@code @Lazy} or {@code ObjectProvider} injection
+ * points, so the application serves stored data before any of them exists.
+ */
+@Configuration
+public class FastStartConfig {
+
+    private static final String OPENF1_IMPORT_PACKAGE = ImportService.class.getPackageName() + ".";
+
+    @Bean
+    @ConditionalOnProperty(name = "openf1.import.lazy-init")
+    public static BeanFactoryPostProcessor lazyOpenF1ImportBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isOpenF1ImportBean(definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * @param definition a bean definition
+     * @return {@code true} if the bean is a class of the OpenF1 import, or is produced by a {@code @Bean} method
+     *         returning one
+     */
+    static boolean isOpenF1ImportBean(BeanDefinition definition) {
+        String typeName = definition.getBeanClassName();
+        if (definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null) {
+            typeName = annotated.getFactoryMethodMetadata().getReturnTypeName();
+        }
+        return typeName != null && typeName.startsWith(OPENF1_IMPORT_PACKAGE);
+    }
+}
@@ -0,0 +1,35 @@
+package com.f1telemetry.race_telemetry_analyzer.config;
+
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ApacheOpenF1HttpTransport;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.JdkOpenF1HttpTransport;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.OpenF1HttpTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class that provides the single {@link OpenF1HttpTransport} used by every OpenF1 API service.
+ *
+ * <p>The implementation is selected with {@code openf1.http.client}: {@code jdk} (default) for the JDK
+ * {@link java.net.http.HttpClient}, or {@code apache} for Apache HttpClient 5. Both keep a pool of
+ * keep-alive connections and negotiate HTTP/2, so connections and TLS sessions are reused across the import.
+ */
+@Configuration
+@EnableConfigurationProperties(OpenF1Properties.class)
+public class OpenF1HttpConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "openf1.http.client", havingValue = "jdk", matchIfMissing = true)
+    public OpenF1HttpTransport jdkOpenF1HttpTransport(OpenF1Properties properties) {
+        OpenF1Properties.Http http = properties.getHttp();
+        return new JdkOpenF1HttpTransport(http.getConnectTimeout(), http.getResponseTimeout());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "openf1.http.client", havingValue = "apache")
+    public OpenF1HttpTransport apacheOpenF1HttpTransport(OpenF1Properties properties) {
+        OpenF1Properties.Http http = properties.getHttp();
+        return new ApacheOpenF1HttpTransport(http.getMaxConnections(), http.getConnectTimeout(), http.getResponseTimeout());
+    }
+}
@@ -0,0 +1,156 @@
+package com.f1telemetry.race_telemetry_analyzer.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the OpenF1 import.
+ *
+ * <p>Bound from the {@code openf1.*} keys in {@code application.properties}. Each nested group
+ * configures one part of the import (ex. {@code openf1.http.*} for the HTTP transport).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "openf1")
+public class OpenF1Properties {
+
+    private String baseUrl = "https://api.openf1.org/v1";  // Root of every OpenF1 request, ex. a local stand-in server
+    private final Http http = new Http();
+    private final RateLimit rateLimit = new RateLimit();
+    private final Cache cache = new Cache();
+    private final ReadCache readCache = new ReadCache();
+    private final Storage storage = new Storage();
+    private final Poll poll = new Poll();
+    @Getter(AccessLevel.NONE)
+    private final Import importSettings = new Import();  // "import" is a keyword, so the getter is written by hand
+
+    public Import getImport() {
+        return importSettings;
+    }
+
+    /**
+     * Settings for the pooled HTTP transport shared by all OpenF1 API services.
+     */
+    @Getter
+    @Setter
+    public static class Http {
+        private String client = "jdk";  // Transport implementation: "jdk" or "apache"
+        private int maxConnections = 16;  // Upper bound of pooled keep-alive connections
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration responseTimeout = Duration.ofSeconds(60);
+    }
+
+    /**
+     * Settings for when the import runs and the concurrency of each of its stages.
+     */
+    @Getter
+    @Setter
+    public static class Import {
+        private boolean onStartup = true;  // Run an import when the application starts
+        private int lapConcurrency = 4;  // Max number of sessions whose laps are fetched at the same time
+        private int positionConcurrency = 4;  // Max number of sessions whose positions are fetched at the same time
+        private int persistConcurrency = 2;  // Threads writing fetched sessions to MongoDB
+        private int writeBatchSize = 1000;  // Documents per MongoDB bulk write
+        private boolean lazyInit = false;  // Create the OpenF1 import beans on first use, see FastStartConfig
+    }
+
+    /**
+     * Settings for polling the latest OpenF1 session, which imports each new session once it has ended.
+     *
+     * <p>The interval adapts to the calendar of known sessions: tight while one runs or has just ended, relaxed
+     * around a race weekend, and slack otherwise.
+     */
+    @Getter
+    @Setter
+    public static class Poll {
+        private boolean enabled = true;
+        private Duration liveInterval = Duration.ofMinutes(2);  // While a known session runs or settles
+        private Duration weekendInterval = Duration.ofMinutes(15);  // Within weekend-window of a known session
+        private Duration idleInterval = Duration.ofHours(6);  // Otherwise, shortened so the next known session start is not missed
+        private Duration weekendWindow = Duration.ofDays(3);
+        private Duration settle = Duration.ofMinutes(10);  // Time after date_end before a session is imported
+    }
+
+    /**
+     * Settings for the process-wide adaptive rate limiter that every OpenF1 request goes through.
+     *
+     * <p>The request rate grows additively while requests succeed and is cut multiplicatively on HTTP 429.
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private double initialRate = 3.0;  // Requests per second when the application starts
+        private double minRate = 0.5;
+        private double maxRate = 10.0;
+        private double burst = 3.0;  // Max number of tokens that can accumulate while idle
+        private double additiveIncrease = 0.5;  // Rate increase (requests/s) per second of successful requests
+        private double decreaseFactor = 0.5;  // Rate multiplier applied on HTTP 429
+        private int maxRetries = 5;  // Max number of retries for rate-limited requests
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Settings for the on-disk cache of OpenF1 responses.
+     *
+     * <p>Responses of past sessions are kept forever. Responses of the latest session and of listing queries
+     * (ex. the race list) expire after {@code volatile-ttl}.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * How the cache is used.
+         */
+        public enum Mode {
+            OFF,  // Every request goes to OpenF1
+            READ_WRITE,  // Cached responses are served, misses are fetched and stored
+            REPLAY_ONLY  // Only cached responses are served, misses fail without touching the network
+        }
+
+        private Mode mode = Mode.READ_WRITE;
+        private Path directory = Path.of(".openf1-cache");
+        private Duration volatileTtl = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Settings for the in-memory caches of data read from MongoDB: races and drivers, and the columnar lap copies.
+     *
+     * <p>The caches are cleared whenever an import writes, so their entries do not expire on their own.
+     */
+    @Getter
+    @Setter
+    public static class ReadCache {
+        private long maximumWeight = 50_000;  // Max number of cached entities; a cached list weighs its size
+        private long columnarMaximumLaps = 200_000;  // Max number of laps held by the columnar lap store
+    }
+
+    /**
+     * Settings for how laps and positions are stored in MongoDB.
+     *
+     * <p>Changing {@code id-format} on a populated database needs {@code backfill-on-startup} (or one run of
+     * {@code CompositeIdMigration}) so the stored ids are rewritten to the new format before the next import.
+     */
+    @Getter
+    @Setter
+    public static class Storage {
+
+        /**
+         * How the composite ids of laps and positions are stored in {@code _id}.
+         */
+        public enum IdFormat {
+            STRING,  // "sessionKey_driverNumber_lapNumber", as built by the model classes
+            PACKED  // One 64-bit long, see CompositeIds
+        }
+
+        private IdFormat idFormat = IdFormat.STRING;
+        private boolean backfillOnStartup = false;  // Rewrite ids stored in the other format before the import runs
+        private boolean deferIndexCreation = false;  // Create the @Document indexes once the application is ready
+    }
+}
@@ -1,30 +1,53 @@
 package com.f1telemetry.race_telemetry_analyzer.config;
 
-import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportService;
+import com.f1telemetry.race_telemetry_analyzer.repository.CompositeIdMigration;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportJobService;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.LatestSessionPoller;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
 /**
  * Configuration class that triggers data import on application startup.
  * This class is marked as a {@code @Configuration} class and defines a
  * {@code @Bean} method that returns an {@code ApplicationRunner}. The
- * {@code ApplicationRunner} calls the ImportService importData() method
- * when the application starts, initiating the data import process.
+ * {@code ApplicationRunner} submits an import job to {@link ImportJobService}
+ * when the application starts; the import runs in the background, so the
+ * application serves the stored data while it progresses.
+ * Set {@code openf1.import.on-startup=false} to serve the stored data without importing.
+ * With {@code openf1.storage.backfill-on-startup=true}, stored lap and position ids are first
+ * rewritten to the configured {@code openf1.storage.id-format}.
+ * With {@code openf1.poll.enabled=true}, the {@link LatestSessionPoller} then keeps importing new sessions as they end.
  */
 @Configuration
 public class StartupImportConfig {
 
-    private final ImportService importService;
+    private final ObjectProvider<ImportJobService> importJobService;
 
-    public StartupImportConfig(ImportService importService) {
-        this.importService = importService;
+    public StartupImportConfig(ObjectProvider<ImportJobService> importJobService) {
+        this.importJobService = importJobService;  // Resolved by the runner, after the web server has started
     }
 
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(name = "openf1.storage.backfill-on-startup")
+    public ApplicationRunner backfillIdsOnStartup(CompositeIdMigration compositeIdMigration) {
+        return args -> compositeIdMigration.migrateAll();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "openf1.import.on-startup", matchIfMissing = true)
     public ApplicationRunner runOnStartup() {
-        return args -> {
-            importService.importData();
-        };
+        return args -> importJobService.getObject().submit("startup");
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "openf1.poll.enabled", matchIfMissing = true)
+    public ApplicationRunner pollLatestSession(ObjectProvider<LatestSessionPoller> latestSessionPoller) {
+        return args -> latestSessionPoller.getObject().start();
     }
 }
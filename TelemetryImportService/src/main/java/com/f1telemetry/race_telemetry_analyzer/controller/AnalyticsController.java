@@ -0,0 +1,75 @@
+package com.f1telemetry.race_telemetry_analyzer.controller;
+
+import com.f1telemetry.race_telemetry_analyzer.model.DriverBestLap;
+import com.f1telemetry.race_telemetry_analyzer.model.DriverPace;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionSummary;
+import com.f1telemetry.race_telemetry_analyzer.service.LapAnalyticsService;
+import com.f1telemetry.race_telemetry_analyzer.service.SessionSummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller serving analytics computed from the stored telemetry.
+ *
+ * <p>This controller interacts with the {@link LapAnalyticsService} and the {@link SessionSummaryService}. Each endpoint replaces fetching every driver's
+ * laps and computing the result client-side.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final LapAnalyticsService lapAnalyticsService;
+    private final SessionSummaryService sessionSummaryService;
+
+    public AnalyticsController(LapAnalyticsService lapAnalyticsService, SessionSummaryService sessionSummaryService) {
+        this.lapAnalyticsService = lapAnalyticsService;
+        this.sessionSummaryService = sessionSummaryService;
+    }
+
+    /**
+     * Retrieves the precomputed summary of a session: each driver's finishing position, lap and pit out counts,
+     * fastest lap and average clean-lap pace.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return a {@link ResponseEntity} containing the summary, or 404 if the session has not been summarized
+     */
+    @GetMapping("/session/{sessionKey}/summary")
+    public ResponseEntity<SessionSummary> getSummary(@PathVariable Integer sessionKey) {
+        return sessionSummaryService.getSummary(sessionKey)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Retrieves each driver's fastest lap, best sectors and ideal lap of a session.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return a {@link ResponseEntity} containing the best laps in driver number order, or 404 if the session has no laps
+     */
+    @GetMapping("/session/{sessionKey}/best-laps")
+    public ResponseEntity<List<DriverBestLap>> getBestLaps(@PathVariable Integer sessionKey) {
+        return lapAnalyticsService.getBestLaps(sessionKey)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Retrieves each driver's fastest, median and mean lap, lap time deviation and best sectors of a session.
+     *
+     * <p>Computed in one aggregation over the session's laps; pit out laps and untimed laps are not counted.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return a {@link ResponseEntity} containing the pace in driver number order, or 404 if the session has no counted laps
+     */
+    @GetMapping("/session/{sessionKey}/pace")
+    public ResponseEntity<List<DriverPace>> getPace(@PathVariable Integer sessionKey) {
+        return lapAnalyticsService.getPace(sessionKey)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -44,6 +45,19 @@ public class DriverController {
         return driverService.getAllDrivers();
     }
 
+    /**
+     * Retrieves the requested fields of all drivers.
+     *
+     * <p>The selection is pushed down to MongoDB as a projection, so unselected fields are never read.
+     *
+     * @param fields a comma-separated list of {@link Driver} properties, ex. {@code fullName,team}
+     * @return the selected fields of each driver, or 400 if a field is unknown
+     */
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllDrivers(@RequestParam String fields) {
+        return driverService.getAllDrivers(FieldSelection.parse(fields, driverService.getDriverFieldNames()));
+    }
+
     /**
      * Retrieves a driver by their unique identifier.
      *
@@ -59,6 +73,19 @@ public class DriverController {
         return driver.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    /**
+     * Retrieves the requested fields of a driver by their unique identifier.
+     *
+     * @param id the unique identifier of the driver
+     * @param fields a comma-separated list of {@link Driver} properties, ex. {@code team}
+     * @return a {@link ResponseEntity} containing the selected fields if found, 404 if not, or 400 if a field is unknown
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getDriverById(@PathVariable String id, @RequestParam String fields) {
+        Optional<Map<String, Object>> driver = driverService.getDriverById(id, FieldSelection.parse(fields, driverService.getDriverFieldNames()));
+        return driver.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * Adds a new driver to the system.
      *
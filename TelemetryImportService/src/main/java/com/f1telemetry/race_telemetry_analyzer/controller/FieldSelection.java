@@ -0,0 +1,42 @@
+package com.f1telemetry.race_telemetry_analyzer.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parses the {@code ?fields=} parameter of the read endpoints.
+ */
+public final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    /**
+     * Parses a comma-separated list of property names, ex. {@code lapNumber,lapDuration}.
+     *
+     * @param fields the raw parameter value
+     * @param allowed the property names of the returned entity
+     * @return the selected property names, in request order
+     * @throws ResponseStatusException with 400 Bad Request if the list is empty or names an unknown property
+     */
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        Set<String> selected = new LinkedHashSet<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(selected::add);
+        if (selected.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fields must name at least one of " + allowed);
+        }
+        for (String field : selected) {
+            if (!allowed.contains(field)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field '" + field + "', expected one of " + allowed);
+            }
+        }
+        return selected;
+    }
+}
@@ -2,20 +2,22 @@ package com.f1telemetry.race_telemetry_analyzer.controller;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Lap;
 import com.f1telemetry.race_telemetry_analyzer.service.LapService;
-import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.LapAPIService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * REST controller for managing lap data.
  *
  * <p>This controller provides endpoints to retrieve lap data. It interacts with
- * the {@link LapService} for retrieving lap data from the local database and the {@link LapAPIService}
- * for fetching lap data from the OpenF1 API.
+ * the {@link LapService} for retrieving lap data from the local database. Laps are imported from the OpenF1 API
+ * by the import jobs of {@code /api/imports}.
  */
 @RestController
 @RequestMapping("/api/laps")
@@ -25,18 +27,56 @@ public class LapController {
     private LapService lapService;
 
     @Autowired
-    private LapAPIService lapAPIService;
+    private ObjectMapper objectMapper;
 
     /**
-     * Retrieves all lap data from the database.
+     * Retrieves one page of laps from the database, in id order.
      *
-     * <p>This method returns a list of all laps currently stored in the system.
+     * <p>Pages are keyset-paginated: pass the {@value ListingResponses#NEXT_CURSOR_HEADER} header of a page as
+     * {@code after} to get the next one. The header is absent on the last page.
      *
-     * @return a list of {@link Lap} entities
+     * @param after the id of the last lap of the previous page; omit for the first page
+     * @param limit the maximum number of laps to return, at most {@value ListingResponses#MAX_LIMIT}
+     * @return a {@link ResponseEntity} containing the page of {@link Lap} entities, or 400 if {@code after} is malformed
      */
     @GetMapping
-    public List<Lap> getAllLaps() {
-        return lapService.getAllLaps();
+    public ResponseEntity<List<Lap>> getLaps(@RequestParam(required = false) String after,
+                                             @RequestParam(defaultValue = "" + ListingResponses.DEFAULT_LIMIT) int limit) {
+        int pageSize = ListingResponses.pageSize(limit);
+        return ListingResponses.page(ListingResponses.query(() -> lapService.getLapPage(after, pageSize)), pageSize, Lap::getId);
+    }
+
+    /**
+     * Retrieves one page of laps from the database, returning only the requested fields.
+     *
+     * <p>The selection is pushed down to MongoDB as a projection. The id is always included as the page cursor.
+     *
+     * @param fields a comma-separated list of {@link Lap} properties, ex. {@code lapNumber,lapDuration}
+     * @param after the id of the last lap of the previous page; omit for the first page
+     * @param limit the maximum number of laps to return, at most {@value ListingResponses#MAX_LIMIT}
+     * @return a {@link ResponseEntity} containing the page of selected fields, or 400 if a field is unknown or
+     * {@code after} is malformed
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getLaps(@RequestParam String fields,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(defaultValue = "" + ListingResponses.DEFAULT_LIMIT) int limit) {
+        int pageSize = ListingResponses.pageSize(limit);
+        Set<String> selected = FieldSelection.parse(fields, lapService.getLapFieldNames());
+        List<Map<String, Object>> page = ListingResponses.query(() -> lapService.getLapPage(after, pageSize, selected));
+        return ListingResponses.page(page, pageSize, lap -> (String) lap.get("id"));
+    }
+
+    /**
+     * Streams every lap in the database as newline-delimited JSON.
+     *
+     * <p>Documents are written as the MongoDB cursor produces them, so memory use does not grow with the collection.
+     *
+     * @return a {@link StreamingResponseBody} writing one {@link Lap} per line
+     */
+    @GetMapping(produces = ListingResponses.NDJSON)
+    public StreamingResponseBody streamAllLaps() {
+        return ListingResponses.ndjson(lapService::streamAllLaps, objectMapper);
     }
 
     /**
@@ -54,4 +94,21 @@ public class LapController {
         return lapService.getLapsBySessionAndDriver(sessionKey, driverNumber);
     }
 
+    /**
+     * Retrieves the requested fields of the laps for a specific session and driver.
+     *
+     * <p>Selections within {@code sessionKey}, {@code driverNumber} and {@code lapNumber} are covered by the lap
+     * index, so MongoDB answers them without reading the lap documents.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param driverNumber the driver number to filter lap data by
+     * @param fields a comma-separated list of {@link Lap} properties, ex. {@code lapNumber,lapDuration}
+     * @return the selected fields of each lap, in lap order
+     */
+    @GetMapping(value = "/session/{sessionKey}/driver/{driverNumber}", params = "fields")
+    public List<Map<String, Object>> getLapsBySessionAndDriver(@PathVariable Integer sessionKey, @PathVariable Integer driverNumber,
+                                                               @RequestParam String fields) {
+        return lapService.getLapsBySessionAndDriver(sessionKey, driverNumber, FieldSelection.parse(fields, lapService.getLapFieldNames()));
+    }
+
 }
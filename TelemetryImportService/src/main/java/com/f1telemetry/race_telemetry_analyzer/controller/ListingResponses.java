@@ -0,0 +1,100 @@
+package com.f1telemetry.race_telemetry_analyzer.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Builds the responses of the collection listing endpoints.
+ *
+ * <p>Listings are either keyset-paginated JSON pages, whose {@value #NEXT_CURSOR_HEADER} header carries the
+ * {@code after} value of the next page, or {@value #NDJSON} streams written one document per line as the
+ * MongoDB cursor produces them. Neither ever holds the whole collection in memory.
+ */
+public final class ListingResponses {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 1000;
+    public static final int MAX_LIMIT = 10_000;
+
+    private ListingResponses() {
+    }
+
+    /**
+     * Clamps a requested page size to {@code [1, MAX_LIMIT]}.
+     *
+     * @param limit the requested page size
+     * @return the page size to query
+     */
+    public static int pageSize(int limit) {
+        return Math.clamp(limit, 1, MAX_LIMIT);
+    }
+
+    /**
+     * Queries one page of a keyset-paginated listing.
+     *
+     * @param query queries the page, throwing {@link IllegalArgumentException} if its {@code after} cursor is malformed
+     * @param <T> the document type
+     * @return the documents of the page
+     * @throws ResponseStatusException with 400 Bad Request if the {@code after} cursor is malformed
+     */
+    public static <T> List<T> query(Supplier<List<T>> query) {
+        try {
+            return query.get();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed after cursor: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Wraps one page of a keyset-paginated listing.
+     *
+     * @param page the documents of the page, in id order
+     * @param limit the page size that was queried
+     * @param idOf extracts the id of a document
+     * @param <T> the document type
+     * @return a 200 response with the page, and the {@value #NEXT_CURSOR_HEADER} header unless this is the last page
+     */
+    public static <T> ResponseEntity<List<T>> page(List<T> page, int limit, Function<T, String> idOf) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == limit) {
+            response.header(NEXT_CURSOR_HEADER, idOf.apply(page.getLast()));
+        }
+        return response.body(page);
+    }
+
+    /**
+     * Streams documents as newline-delimited JSON.
+     *
+     * <p>The stream is opened only once the response is being written, and closed when writing ends or fails,
+     * releasing the MongoDB cursor.
+     *
+     * @param documents opens the stream of documents to write
+     * @param objectMapper the mapper used for the JSON of each document
+     * @param <T> the document type
+     * @return a body writing one JSON document per line
+     */
+    public static <T> StreamingResponseBody ndjson(Supplier<Stream<T>> documents, ObjectMapper objectMapper) {
+        ObjectWriter writer = objectMapper.writer();
+        return out -> {
+            try (Stream<T> stream = documents.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                         .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                for (T document : (Iterable<T>) stream::iterator) {
+                    writer.writeValue(generator, document);
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+    }
+}
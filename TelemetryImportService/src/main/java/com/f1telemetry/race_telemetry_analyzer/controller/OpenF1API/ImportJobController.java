@@ -0,0 +1,64 @@
+package com.f1telemetry.race_telemetry_analyzer.controller.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportJob;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * REST controller for triggering OpenF1 imports and following their progress.
+ *
+ * <p>Imports run in the background through {@link ImportJobService}: triggering one returns immediately with the
+ * job, whose per-stage counts and throughput can then be polled.
+ */
+@RestController
+@RequestMapping("/api/imports")
+public class ImportJobController {
+
+    @Autowired
+    @Lazy
+    private ImportJobService importJobService;
+
+    /**
+     * Starts an OpenF1 import, or joins the one already running.
+     *
+     * @return HTTP 202 with the job and its location
+     */
+    @PostMapping
+    public ResponseEntity<ImportJob> startImport() {
+        ImportJob job = importJobService.submit("api");
+        return ResponseEntity.accepted().location(URI.create("/api/imports/" + job.getId())).body(job);
+    }
+
+    /**
+     * Retrieves the status and per-stage progress of an import job.
+     *
+     * @param id the id of the job
+     * @return the job, or HTTP 404 if no job with this id is retained
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJob> getImport(@PathVariable String id) {
+        return importJobService.find(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Retrieves the most recent import jobs.
+     *
+     * @return the retained jobs, most recent first
+     */
+    @GetMapping
+    public List<ImportJob> getImports() {
+        return importJobService.findRecent();
+    }
+}
@@ -1,22 +1,24 @@
 package com.f1telemetry.race_telemetry_analyzer.controller;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import com.f1telemetry.race_telemetry_analyzer.model.PositionSample;
 import com.f1telemetry.race_telemetry_analyzer.service.PositionService;
-import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.PositionAPIService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 
 /**
  * REST controller for managing position data.
  *
  * <p>This controller provides endpoints to retrieve position data. It interacts with
- * the {@link PositionService} for accessing position data from the local database and the {@link PositionAPIService}
- * for importing position data from the OpenF1 API.
+ * the {@link PositionService} for accessing position data from the local database. Positions are imported from the
+ * OpenF1 API by the import jobs of {@code /api/imports}.
  */
 @RestController
 @RequestMapping("/api/positions")
@@ -26,18 +28,36 @@ public class PositionController {
     private PositionService positionService;
 
     @Autowired
-    private PositionAPIService positionAPIService;
+    private ObjectMapper objectMapper;
 
     /**
-     * Retrieves all positions from the system.
+     * Retrieves one page of positions from the database, in id order.
      *
-     * <p>This method returns a list of all positions currently stored in the database.
+     * <p>Pages are keyset-paginated: pass the {@value ListingResponses#NEXT_CURSOR_HEADER} header of a page as
+     * {@code after} to get the next one. The header is absent on the last page.
      *
-     * @return a list of {@link Position} entities
+     * @param after the id of the last position of the previous page; omit for the first page
+     * @param limit the maximum number of positions to return, at most {@value ListingResponses#MAX_LIMIT}
+     * @return a {@link ResponseEntity} containing the page of {@link Position} entities, or 400 if {@code after} is
+     * malformed
      */
     @GetMapping
-    public List<Position> getAllPositions() {
-        return positionService.getAllPositions();
+    public ResponseEntity<List<Position>> getPositions(@RequestParam(required = false) String after,
+                                             @RequestParam(defaultValue = "" + ListingResponses.DEFAULT_LIMIT) int limit) {
+        int pageSize = ListingResponses.pageSize(limit);
+        return ListingResponses.page(ListingResponses.query(() -> positionService.getPositionPage(after, pageSize)), pageSize, Position::getId);
+    }
+
+    /**
+     * Streams every position in the database as newline-delimited JSON.
+     *
+     * <p>Documents are written as the MongoDB cursor produces them, so memory use does not grow with the collection.
+     *
+     * @return a {@link StreamingResponseBody} writing one {@link Position} per line
+     */
+    @GetMapping(produces = ListingResponses.NDJSON)
+    public StreamingResponseBody streamAllPositions() {
+        return ListingResponses.ndjson(positionService::streamAllPositions, objectMapper);
     }
 
     /**
@@ -56,4 +76,24 @@ public class PositionController {
         return position != null ? ResponseEntity.ok(position) : ResponseEntity.notFound().build();
     }
 
+    /**
+     * Retrieves the position updates of every driver in a session within a time range, in date order.
+     *
+     * <p>The history is read from the time-series collection with one range scan of its
+     * {@code (meta.sessionKey, date)} index.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param from the first date to include, as an ISO-8601 instant (ex. {@code 2023-09-17T12:00:00Z}); omit for the start of the session
+     * @param to the date to stop before, as an ISO-8601 instant; omit for the end of the session
+     * @return a {@link ResponseEntity} containing the {@link PositionSample} entities, or 400 Bad Request if {@code from} is after {@code to}
+     */
+    @GetMapping("/session/{sessionKey}/timeline")
+    public ResponseEntity<List<PositionSample>> getTimeline(@PathVariable Integer sessionKey,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(positionService.getTimeline(sessionKey, from, to));
+    }
 }
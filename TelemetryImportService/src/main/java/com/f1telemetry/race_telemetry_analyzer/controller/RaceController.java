@@ -10,6 +10,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -42,6 +43,19 @@ public class RaceController {
         return raceService.getAllRaces();
     }
 
+    /**
+     * Retrieves the requested fields of all races.
+     *
+     * <p>The selection is pushed down to MongoDB as a projection, so unselected fields are never read.
+     *
+     * @param fields a comma-separated list of {@link Race} properties, ex. {@code sessionKey,countryName}
+     * @return the selected fields of each race, or 400 if a field is unknown
+     */
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllRaces(@RequestParam String fields) {
+        return raceService.getAllRaces(FieldSelection.parse(fields, raceService.getRaceFieldNames()));
+    }
+
     /**
      * Retrieves a race by its session key.
      *
@@ -57,6 +71,19 @@ public class RaceController {
         return race.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    /**
+     * Retrieves the requested fields of a race by its session key.
+     *
+     * @param session_key the session key of the race to retrieve
+     * @param fields a comma-separated list of {@link Race} properties, ex. {@code year,circuitName}
+     * @return a {@link ResponseEntity} containing the selected fields if found, 404 if not, or 400 if a field is unknown
+     */
+    @GetMapping(value = "/{session_key}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getRaceBySessionKey(@PathVariable String session_key, @RequestParam String fields) {
+        Optional<Map<String, Object>> race = raceService.getRaceBySessionKey(session_key, FieldSelection.parse(fields, raceService.getRaceFieldNames()));
+        return race.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * Adds a new race to the system.
      *
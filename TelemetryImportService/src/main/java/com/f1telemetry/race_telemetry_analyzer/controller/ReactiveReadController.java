@@ -0,0 +1,122 @@
+package com.f1telemetry.race_telemetry_analyzer.controller;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.f1telemetry.race_telemetry_analyzer.service.ReactiveReadService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST controller serving the read endpoints of the API through the reactive MongoDB driver.
+ *
+ * <p>Endpoints mirror the blocking ones under {@code /api/reactive}. Handlers return a {@link Flux} or {@link Mono},
+ * so the request thread is released as soon as the query is started; the response is completed asynchronously when
+ * MongoDB answers. JSON responses are collected into one array; requesting {@value ListingResponses#NDJSON} streams
+ * each document as it arrives.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveReadController {
+
+    private final ReactiveReadService reactiveReadService;
+
+    public ReactiveReadController(ReactiveReadService reactiveReadService) {
+        this.reactiveReadService = reactiveReadService;
+    }
+
+    /**
+     * @return every race
+     */
+    @GetMapping("/races")
+    public Flux<Race> getAllRaces() {
+        return reactiveReadService.getAllRaces();
+    }
+
+    /**
+     * @param session_key the session key of the race to retrieve
+     * @return the race if found, or 404 Not Found if not
+     */
+    @GetMapping("/races/{session_key}")
+    public Mono<ResponseEntity<Race>> getRaceBySessionKey(@PathVariable Integer session_key) {
+        return reactiveReadService.getRaceBySessionKey(session_key)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * @return every driver
+     */
+    @GetMapping("/drivers")
+    public Flux<Driver> getAllDrivers() {
+        return reactiveReadService.getAllDrivers();
+    }
+
+    /**
+     * @param id the unique identifier of the driver
+     * @return the driver if found, or 404 Not Found if not
+     */
+    @GetMapping("/drivers/{id}")
+    public Mono<ResponseEntity<Driver>> getDriverById(@PathVariable String id) {
+        return reactiveReadService.getDriverById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Streams every lap as newline-delimited JSON, one document per line as the cursor produces it.
+     *
+     * @return every lap
+     */
+    @GetMapping(value = "/laps", produces = ListingResponses.NDJSON)
+    public Flux<Lap> streamAllLaps() {
+        return reactiveReadService.getAllLaps();
+    }
+
+    /**
+     * @param sessionKey the session key identifying the race session
+     * @param driverNumber the driver number to filter lap data by
+     * @return the laps of the driver in the session
+     */
+    @GetMapping("/laps/session/{sessionKey}/driver/{driverNumber}")
+    public Flux<Lap> getLapsBySessionAndDriver(@PathVariable Integer sessionKey, @PathVariable Integer driverNumber) {
+        return reactiveReadService.getLapsBySessionAndDriver(sessionKey, driverNumber);
+    }
+
+    /**
+     * Streams every position as newline-delimited JSON, one document per line as the cursor produces it.
+     *
+     * @return every position
+     */
+    @GetMapping(value = "/positions", produces = ListingResponses.NDJSON)
+    public Flux<Position> streamAllPositions() {
+        return reactiveReadService.getAllPositions();
+    }
+
+    /**
+     * @param sessionKey the session key identifying the race session
+     * @return the positions of every driver in the session
+     */
+    @GetMapping("/positions/session/{sessionKey}")
+    public Flux<Position> getPositionsBySession(@PathVariable Integer sessionKey) {
+        return reactiveReadService.getPositionsBySession(sessionKey);
+    }
+
+    /**
+     * @param sessionKey the session key identifying the race session
+     * @param driverNumber the driver's number
+     * @return the driver's position in the session if found, or 404 Not Found if not
+     */
+    @GetMapping("/positions/session/{sessionKey}/driver/{driverNumber}")
+    public Mono<ResponseEntity<Position>> getPositionBySessionAndDriver(@PathVariable Integer sessionKey, @PathVariable Integer driverNumber) {
+        return reactiveReadService.getPositionBySessionAndDriver(sessionKey, driverNumber)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,107 @@
+package com.f1telemetry.race_telemetry_analyzer.model;
+
+/**
+ * Packs the composite ids of {@link Lap} and {@link Position} into one 64-bit long, for
+ * {@code openf1.storage.id-format=packed}.
+ *
+ * <p>The session key takes the high 32 bits, the driver number the next 16 and the lap number the low 16
+ * (0 for a position). Packed ids sort by session, then driver, then lap, and take 8 bytes in a document and in the
+ * {@code _id} index, against the 10 to 20 bytes of their string form plus its length prefix.
+ *
+ * <p>The string form ({@code sessionKey_driverNumber_lapNumber}, or {@code sessionKey_driverNumber} for a position)
+ * stays the id of the domain objects and of the REST API; only the stored {@code _id} changes.
+ */
+public final class CompositeIds {
+
+    private static final int MAX_NUMBER = 0xFFFF;
+
+    private CompositeIds() {
+    }
+
+    /**
+     * @param sessionKey the session key identifying the race session, from 0 to {@link Integer#MAX_VALUE}
+     * @param driverNumber the driver's number, from 0 to 65535
+     * @param lapNumber the lap number, from 0 to 65535
+     * @return the packed id of the lap
+     * @throws IllegalArgumentException if a part is out of range
+     */
+    public static long lapId(int sessionKey, int driverNumber, int lapNumber) {
+        return ((long) checkSessionKey(sessionKey) << 32) | ((long) checkNumber(driverNumber, "driver") << 16) | checkNumber(lapNumber, "lap");
+    }
+
+    /**
+     * @param sessionKey the session key identifying the race session, from 0 to {@link Integer#MAX_VALUE}
+     * @param driverNumber the driver's number, from 0 to 65535
+     * @return the packed id of the position
+     * @throws IllegalArgumentException if a part is out of range
+     */
+    public static long positionId(int sessionKey, int driverNumber) {
+        return lapId(sessionKey, driverNumber, 0);
+    }
+
+    /**
+     * Packs a string id of a lap ({@code sessionKey_driverNumber_lapNumber}) or a position
+     * ({@code sessionKey_driverNumber}).
+     *
+     * @param id the string id
+     * @return the packed id
+     * @throws IllegalArgumentException if the id is not made of two or three numbers in range, joined by {@code _}
+     */
+    public static long pack(String id) {
+        String[] parts = id.split("_", -1);
+        if (parts.length != 2 && parts.length != 3) {
+            throw new IllegalArgumentException("Not a lap or position id: " + id);
+        }
+        try {
+            int sessionKey = Integer.parseInt(parts[0]);
+            int driverNumber = Integer.parseInt(parts[1]);
+            return parts.length == 3
+                    ? lapId(sessionKey, driverNumber, Integer.parseInt(parts[2]))
+                    : positionId(sessionKey, driverNumber);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a lap or position id: " + id, e);
+        }
+    }
+
+    /**
+     * @param packed a packed lap id
+     * @return the lap id in string form, ex. {@code 9158_44_12}
+     */
+    public static String toLapId(long packed) {
+        return sessionKey(packed) + "_" + driverNumber(packed) + "_" + lapNumber(packed);
+    }
+
+    /**
+     * @param packed a packed position id
+     * @return the position id in string form, ex. {@code 9158_44}
+     */
+    public static String toPositionId(long packed) {
+        return sessionKey(packed) + "_" + driverNumber(packed);
+    }
+
+    public static int sessionKey(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    public static int driverNumber(long packed) {
+        return (int) (packed >>> 16) & MAX_NUMBER;
+    }
+
+    public static int lapNumber(long packed) {
+        return (int) packed & MAX_NUMBER;
+    }
+
+    private static int checkSessionKey(int sessionKey) {
+        if (sessionKey < 0) {
+            throw new IllegalArgumentException("Session key out of range: " + sessionKey);
+        }
+        return sessionKey;
+    }
+
+    private static int checkNumber(int number, String name) {
+        if (number < 0 || number > MAX_NUMBER) {
+            throw new IllegalArgumentException("The " + name + " number is out of range: " + number);
+        }
+        return number;
+    }
+}
@@ -0,0 +1,16 @@
+package com.f1telemetry.race_telemetry_analyzer.model;
+
+/**
+ * A driver's fastest lap of a session, with their best sector times.
+ *
+ * @param driverNumber the driver's number
+ * @param lapNumber the number of the fastest lap
+ * @param lapDuration the duration of the fastest lap, in seconds
+ * @param bestSector1 the driver's best first sector of the session, in seconds, or {@code null} if none was timed
+ * @param bestSector2 the driver's best second sector of the session, in seconds, or {@code null} if none was timed
+ * @param bestSector3 the driver's best third sector of the session, in seconds, or {@code null} if none was timed
+ * @param idealLapDuration the sum of the best sectors, or {@code null} if a sector was never timed
+ */
+public record DriverBestLap(int driverNumber, int lapNumber, float lapDuration,
+                            Float bestSector1, Float bestSector2, Float bestSector3, Float idealLapDuration) {
+}
@@ -0,0 +1,21 @@
+package com.f1telemetry.race_telemetry_analyzer.model;
+
+/**
+ * A driver's race pace over a session, computed from their timed laps.
+ *
+ * <p>Pit out laps and laps without a positive duration are not counted. Durations are in seconds.
+ *
+ * @param driverNumber the driver's number
+ * @param lapCount the number of counted laps
+ * @param fastestLapNumber the number of the fastest lap
+ * @param fastestLap the duration of the fastest lap
+ * @param medianLap the median lap duration
+ * @param meanLap the mean lap duration
+ * @param stdDevLap the sample standard deviation of the lap durations, or {@code null} with a single lap
+ * @param bestSector1 the best first sector of the counted laps, or {@code null} if none was timed
+ * @param bestSector2 the best second sector of the counted laps, or {@code null} if none was timed
+ * @param bestSector3 the best third sector of the counted laps, or {@code null} if none was timed
+ */
+public record DriverPace(int driverNumber, int lapCount, int fastestLapNumber, double fastestLap, double medianLap,
+                         double meanLap, Double stdDevLap, Double bestSector1, Double bestSector2, Double bestSector3) {
+}
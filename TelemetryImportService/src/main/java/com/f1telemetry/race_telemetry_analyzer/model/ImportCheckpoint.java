@@ -0,0 +1,73 @@
+package com.f1telemetry.race_telemetry_analyzer.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Represents the import progress of one entity type for one race session.
+ *
+ * <p>This class is mapped to the "import_checkpoints" collection in MongoDB. There is one document per
+ * session and entity type, identified by {@code sessionKey_entityType}, so an interrupted import can skip
+ * the units it already completed and retry only failed or missing ones.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@Document(collection = "import_checkpoints") // MongoDB collection for import checkpoints
+@CompoundIndex(name = "entity_status", def = "{'entityType': 1, 'status': 1}")
+public class ImportCheckpoint {
+
+    /**
+     * The kinds of data imported per session.
+     */
+    public enum EntityType {
+        DRIVERS,
+        LAPS,
+        POSITIONS,
+        SUMMARIES  // The session's SessionSummary, built from its laps and positions
+    }
+
+    /**
+     * The outcome of the last import attempt of a unit.
+     */
+    public enum Status {
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    private String id;  // Unique ID for each checkpoint, ex. "9159_LAPS"
+    private Integer sessionKey;
+    private EntityType entityType;
+    private Status status;
+    private Integer itemCount;
+    private String lastError;
+    private Instant updatedAt;
+
+    public ImportCheckpoint(Integer sessionKey, EntityType entityType, Status status, Integer itemCount, String lastError) {
+        this.id = buildId(sessionKey, entityType);
+        this.sessionKey = sessionKey;
+        this.entityType = entityType;
+        this.status = status;
+        this.itemCount = itemCount;
+        this.lastError = lastError;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Builds the checkpoint ID of a session and entity type.
+     *
+     * @param sessionKey the session key of the race
+     * @param entityType the imported entity type
+     * @return the checkpoint ID, ex. "9159_LAPS"
+     */
+    public static String buildId(Integer sessionKey, EntityType entityType) {
+        return sessionKey + "_" + entityType;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
@@ -12,11 +13,14 @@ import org.springframework.data.mongodb.core.mapping.Document;
  * <p>This class is mapped to the "laps" collection in MongoDB using Spring Data's {@code @Document} annotation.
  * Each lap has an identifier composed of the session key, driver number, and lap number.
  * It includes information such as lap duration, sector times, speed trap speed, and whether it was a pit out lap.
+ *
+ * <p>The compound index serves lookups by session and driver, returning the laps in lap order.
  */
 @Setter
 @Getter
 @NoArgsConstructor
 @Document(collection = "laps") // This tells Spring that this class maps to the "laps" collection in MongoDB
+@CompoundIndex(name = "session_driver_lap", def = "{'sessionKey': 1, 'driverNumber': 1, 'lapNumber': 1}")
 public class Lap {
 
     @Id
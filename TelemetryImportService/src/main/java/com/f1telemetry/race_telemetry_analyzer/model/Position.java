@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
@@ -11,11 +12,14 @@ import org.springframework.data.mongodb.core.mapping.Document;
  *
  * <p>This class is mapped to the "position" collection in MongoDB using Spring Data's {@code @Document} annotation.
  * Each position has a composite key formed from the session key and driver number, along with the driver's position in the race.
+ *
+ * <p>The compound index serves lookups by session and driver.
  */
 @Setter
 @Getter
 @NoArgsConstructor
 @Document(collection = "position") // This tells Spring that this class maps to the "laps" collection in MongoDB
+@CompoundIndex(name = "session_driver", def = "{'sessionKey': 1, 'driverNumber': 1}")
 public class Position {
 
     @Id
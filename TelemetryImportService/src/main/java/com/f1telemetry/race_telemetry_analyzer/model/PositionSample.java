@@ -0,0 +1,59 @@
+package com.f1telemetry.race_telemetry_analyzer.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.time.Instant;
+
+/**
+ * One position update of a driver during a session, as reported by OpenF1.
+ *
+ * <p>This class is mapped to the "position_samples" time-series collection. MongoDB groups the samples into
+ * compressed buckets, one series per {@code meta} value, so every session and driver is stored as its own
+ * column-compressed run of dates and positions. OpenF1 only reports position changes, usually minutes apart per
+ * driver, hence the {@link Granularity#MINUTES minutes} granularity: a driver's whole race fits in one bucket.
+ *
+ * <p>Samples have no id of their own; a session's samples are replaced as a whole when it is re-imported. Each
+ * replacement writes a new {@link Meta#getGeneration() generation} of the session's samples, so readers can keep
+ * reading the previous one until the new one is complete.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "position_samples")
+@TimeSeries(collection = "position_samples", timeField = "date", metaField = "meta", granularity = Granularity.MINUTES)
+public class PositionSample {
+
+    private Instant date;
+    private Meta meta;
+    private Integer position;
+
+    public PositionSample(Instant date, Integer sessionKey, Integer driverNumber, Integer position) {
+        this(date, new Meta(sessionKey, driverNumber), position);
+    }
+
+    /**
+     * The series a sample belongs to.
+     */
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Meta {
+        private Integer sessionKey;
+        private Integer driverNumber;
+        @JsonIgnore
+        private Long generation;  // Set when the sample is written, see PositionHistoryRepository
+
+        public Meta(Integer sessionKey, Integer driverNumber) {
+            this(sessionKey, driverNumber, null);
+        }
+    }
+}
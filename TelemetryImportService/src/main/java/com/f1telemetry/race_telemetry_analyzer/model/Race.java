@@ -7,11 +7,14 @@ import lombok.Setter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
+
 /**
  * Represents a race session.
  *
  * <p>This class is mapped to the "races" collection in MongoDB using Spring Data's {@code @Document} annotation.
  * Each race is identified by a session key and contains other details like the year, session name, country, and circuit name.
+ * The scheduled start and end of the session make the stored races a calendar, used to decide how often to poll OpenF1.
  */
 
 @Setter
@@ -27,6 +30,12 @@ public class Race {
     private String sessionName;
     private String countryName;
     private String circuitName;
+    private Instant dateStart;
+    private Instant dateEnd;
+
+    public Race(Integer sessionKey, Integer year, String sessionName, String countryName, String circuitName) {
+        this(sessionKey, year, sessionName, countryName, circuitName, null, null);
+    }
 
 }
 
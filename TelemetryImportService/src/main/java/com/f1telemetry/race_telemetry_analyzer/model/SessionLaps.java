@@ -0,0 +1,170 @@
+package com.f1telemetry.race_telemetry_analyzer.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read-only, columnar copy of the laps of one session, for analytics.
+ *
+ * <p>Each {@link Lap} property is held in a primitive array indexed by row, so a scan over one property reads
+ * contiguous memory instead of following a pointer per boxed field. Rows are ordered by driver number, then lap
+ * number; the rows of each driver form one contiguous run, see {@link #driverStart(int)}.
+ *
+ * <p>Missing times are stored as {@link Float#NaN} and missing integers as {@link #MISSING}.
+ */
+public final class SessionLaps {
+
+    /**
+     * Stored in the integer columns for values OpenF1 did not report.
+     */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private static final Comparator<Lap> ROW_ORDER = Comparator
+            .comparing(Lap::getDriverNumber, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Lap::getLapNumber, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final int sessionKey;
+    private final int[] driverNumbers;
+    private final int[] lapNumbers;
+    private final float[] lapDurations;
+    private final float[] sector1s;
+    private final float[] sector2s;
+    private final float[] sector3s;
+    private final int[] speedTrapSpeeds;
+    private final BitSet pitOutLaps;
+    private final int[] driverRuns;  // Start row of each driver's run, followed by the row count
+
+    private SessionLaps(int sessionKey, int[] driverNumbers, int[] lapNumbers, float[] lapDurations, float[] sector1s,
+                        float[] sector2s, float[] sector3s, int[] speedTrapSpeeds, BitSet pitOutLaps, int[] driverRuns) {
+        this.sessionKey = sessionKey;
+        this.driverNumbers = driverNumbers;
+        this.lapNumbers = lapNumbers;
+        this.lapDurations = lapDurations;
+        this.sector1s = sector1s;
+        this.sector2s = sector2s;
+        this.sector3s = sector3s;
+        this.speedTrapSpeeds = speedTrapSpeeds;
+        this.pitOutLaps = pitOutLaps;
+        this.driverRuns = driverRuns;
+    }
+
+    /**
+     * Copies the laps of a session into columns.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param laps the laps of the session, in any order
+     * @return the columnar copy
+     */
+    public static SessionLaps of(int sessionKey, Collection<Lap> laps) {
+        List<Lap> rows = new ArrayList<>(laps);
+        rows.sort(ROW_ORDER);
+
+        int size = rows.size();
+        int[] driverNumbers = new int[size];
+        int[] lapNumbers = new int[size];
+        float[] lapDurations = new float[size];
+        float[] sector1s = new float[size];
+        float[] sector2s = new float[size];
+        float[] sector3s = new float[size];
+        int[] speedTrapSpeeds = new int[size];
+        BitSet pitOutLaps = new BitSet(size);
+        int[] runStarts = new int[size + 1];
+        int runs = 0;
+        for (int row = 0; row < size; row++) {
+            Lap lap = rows.get(row);
+            driverNumbers[row] = intOrMissing(lap.getDriverNumber());
+            lapNumbers[row] = intOrMissing(lap.getLapNumber());
+            lapDurations[row] = floatOrNaN(lap.getLapDuration());
+            sector1s[row] = floatOrNaN(lap.getSector1());
+            sector2s[row] = floatOrNaN(lap.getSector2());
+            sector3s[row] = floatOrNaN(lap.getSector3());
+            speedTrapSpeeds[row] = intOrMissing(lap.getSpeedTrapSpeed());
+            pitOutLaps.set(row, Boolean.TRUE.equals(lap.getIsPitOutLap()));
+            if (row == 0 || driverNumbers[row] != driverNumbers[row - 1]) {
+                runStarts[runs++] = row;
+            }
+        }
+        runStarts[runs] = size;
+
+        return new SessionLaps(sessionKey, driverNumbers, lapNumbers, lapDurations, sector1s, sector2s, sector3s,
+                speedTrapSpeeds, pitOutLaps, Arrays.copyOf(runStarts, runs + 1));
+    }
+
+    private static int intOrMissing(Integer value) {
+        return value != null ? value : MISSING;
+    }
+
+    private static float floatOrNaN(Float value) {
+        return value != null ? value : Float.NaN;
+    }
+
+    public int getSessionKey() {
+        return sessionKey;
+    }
+
+    /**
+     * @return the number of laps (rows) in the session
+     */
+    public int size() {
+        return lapNumbers.length;
+    }
+
+    /**
+     * @return the number of drivers with at least one lap
+     */
+    public int driverCount() {
+        return driverRuns.length - 1;
+    }
+
+    /**
+     * @param driver the driver's position in driver number order, from 0 to {@link #driverCount()} - 1
+     * @return the first row of the driver's laps
+     */
+    public int driverStart(int driver) {
+        return driverRuns[driver];
+    }
+
+    /**
+     * @param driver the driver's position in driver number order, from 0 to {@link #driverCount()} - 1
+     * @return the row after the driver's last lap
+     */
+    public int driverEnd(int driver) {
+        return driverRuns[driver + 1];
+    }
+
+    public int driverNumber(int row) {
+        return driverNumbers[row];
+    }
+
+    public int lapNumber(int row) {
+        return lapNumbers[row];
+    }
+
+    public float lapDuration(int row) {
+        return lapDurations[row];
+    }
+
+    public float sector1(int row) {
+        return sector1s[row];
+    }
+
+    public float sector2(int row) {
+        return sector2s[row];
+    }
+
+    public float sector3(int row) {
+        return sector3s[row];
+    }
+
+    public int speedTrapSpeed(int row) {
+        return speedTrapSpeeds[row];
+    }
+
+    public boolean isPitOutLap(int row) {
+        return pitOutLaps.get(row);
+    }
+}
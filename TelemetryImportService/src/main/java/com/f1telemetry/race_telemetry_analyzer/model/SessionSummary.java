@@ -0,0 +1,48 @@
+package com.f1telemetry.race_telemetry_analyzer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Precomputed per-driver rollups of one session.
+ *
+ * <p>This class is mapped to the "session_summaries" collection in MongoDB, with one document per session keyed by
+ * its session key. Documents are rebuilt by the import only for the sessions it touched, so reading a summary is a
+ * single fetch by id.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "session_summaries")
+public class SessionSummary {
+
+    @Id
+    private Integer sessionKey;
+    private List<DriverSummary> drivers;  // In driver number order
+    private Instant updatedAt;
+
+    /**
+     * One driver's rollup. Clean laps are laps that are not pit out laps and have a positive duration.
+     */
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DriverSummary {
+        private Integer driverNumber;
+        private Integer finishingPosition;  // null if OpenF1 reported no position
+        private int lapCount;
+        private int pitOutLaps;
+        private Integer fastestLapNumber;  // null without a clean lap
+        private Double fastestLap;
+        private Double averageCleanLap;
+    }
+}
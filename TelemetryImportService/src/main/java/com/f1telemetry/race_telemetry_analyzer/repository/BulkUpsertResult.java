@@ -0,0 +1,25 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+/**
+ * Counts reported by MongoDB for a bulk upsert.
+ *
+ * @param matched the number of existing documents matched by id
+ * @param modified the number of matched documents whose content changed
+ * @param upserted the number of documents inserted because no document had their id
+ * @param batches the number of bulk writes sent to MongoDB
+ */
+public record BulkUpsertResult(int matched, int modified, int upserted, int batches) {
+
+    public static final BulkUpsertResult EMPTY = new BulkUpsertResult(0, 0, 0, 0);
+
+    /**
+     * @return the number of documents written, whether matched or inserted
+     */
+    public int written() {
+        return matched + upserted;
+    }
+
+    BulkUpsertResult plus(int matched, int modified, int upserted) {
+        return new BulkUpsertResult(this.matched + matched, this.modified + modified, this.upserted + upserted, batches + 1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes entities with assigned ids to MongoDB using unordered bulk upserts.
+ *
+ * <p>{@code MongoRepository.saveAll} replaces entities with an assigned id one round trip at a time. This writer
+ * instead sends one {@link BulkOperations.BulkMode#UNORDERED unordered} bulk write per
+ * {@code openf1.import.write-batch-size} entities, each entity being a {@code replaceOne} upsert on its id.
+ * Entities sharing an id are collapsed to the last one, so a batch never upserts the same document twice.
+ *
+ * <p>When {@link StoredIds} stores the ids of the entity type packed, each entity is converted to a document whose
+ * {@code _id} is replaced by its packed form before it is written.
+ *
+ * <p>Every batch is recorded in {@link ImportMetrics} as one bulk write of its collection.
+ */
+@Repository
+public class BulkUpsertWriter {
+
+    private final MongoTemplate mongoTemplate;
+    private final StoredIds storedIds;
+    private final ImportMetrics importMetrics;
+    private final int batchSize;
+
+    @Autowired
+    public BulkUpsertWriter(MongoTemplate mongoTemplate, StoredIds storedIds, OpenF1Properties properties, ImportMetrics importMetrics) {
+        this.mongoTemplate = mongoTemplate;
+        this.storedIds = storedIds;
+        this.importMetrics = importMetrics;
+        this.batchSize = Math.max(1, properties.getImport().getWriteBatchSize());
+    }
+
+    /**
+     * Upserts every entity into the collection of {@code entityType}.
+     *
+     * @param entityType the mapped entity class
+     * @param entities the entities to write; each must have an id
+     * @param <T> the entity type
+     * @return the counts reported by MongoDB, summed over every batch
+     */
+    public <T> BulkUpsertResult upsertAll(Class<T> entityType, Collection<? extends T> entities) {
+        if (entities.isEmpty()) {
+            return BulkUpsertResult.EMPTY;
+        }
+
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext = mongoTemplate.getConverter().getMappingContext();
+        MongoPersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(entityType);
+
+        // Keep the last entity per id; later rows of the same document win, as they would with saveAll
+        Map<Object, T> entitiesById = new LinkedHashMap<>();
+        for (T entity : entities) {
+            entitiesById.put(persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier(), entity);
+        }
+
+        BulkUpsertResult result = BulkUpsertResult.EMPTY;
+        List<Map.Entry<Object, T>> batch = new ArrayList<>(Math.min(batchSize, entitiesById.size()));
+        for (Map.Entry<Object, T> entry : entitiesById.entrySet()) {
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                result = writeBatch(entityType, batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            result = writeBatch(entityType, batch, result);
+        }
+        return result;
+    }
+
+    private <T> BulkUpsertResult writeBatch(Class<T> entityType, List<Map.Entry<Object, T>> batch, BulkUpsertResult result) {
+        long start = System.nanoTime();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityType);
+        boolean packed = storedIds.isPacked(entityType);
+        for (Map.Entry<Object, T> entry : batch) {
+            if (packed) {
+                Object storedId = storedIds.toStored(entityType, entry.getKey());
+                Document document = new Document();
+                mongoTemplate.getConverter().write(entry.getValue(), document);
+                document.put("_id", storedId);  // A document replacement is written as is, without being mapped again
+                operations.replaceOne(Query.query(Criteria.where("_id").is(storedId)), document, FindAndReplaceOptions.options().upsert());
+            } else {
+                operations.replaceOne(Query.query(Criteria.where("_id").is(entry.getKey())), entry.getValue(), FindAndReplaceOptions.options().upsert());
+            }
+        }
+        BulkWriteResult written = operations.execute();
+        importMetrics.bulkWritten(mongoTemplate.getCollectionName(entityType), start, batch.size());
+        return result.plus(written.getMatchedCount(), written.getModifiedCount(), written.getUpserts().size());
+    }
+}
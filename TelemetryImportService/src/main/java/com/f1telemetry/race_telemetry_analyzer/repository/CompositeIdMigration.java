@@ -0,0 +1,99 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.model.CompositeIds;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Rewrites the stored ids of laps and positions into the format configured by {@code openf1.storage.id-format}.
+ *
+ * <p>Documents whose {@code _id} is in the other format are read from a cursor and written back one
+ * {@code openf1.import.write-batch-size} batch at a time: each batch is upserted under the new ids with an
+ * unordered bulk write, then the documents under the old ids are removed. A run that stops part way leaves both
+ * copies of at most one batch, which the next run rewrites again, so the migration can simply be run until it
+ * reports nothing left to do. Documents are read back with their string id in either format, see
+ * {@link StoredIds}.
+ */
+@Repository
+public class CompositeIdMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompositeIdMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final StoredIds storedIds;
+    private final int batchSize;
+
+    public CompositeIdMigration(MongoTemplate mongoTemplate, StoredIds storedIds, OpenF1Properties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.storedIds = storedIds;
+        this.batchSize = Math.max(1, properties.getImport().getWriteBatchSize());
+    }
+
+    /**
+     * Migrates the laps, then the positions.
+     *
+     * @return the number of documents whose id was rewritten
+     */
+    public long migrateAll() {
+        return migrate(Lap.class) + migrate(Position.class);
+    }
+
+    /**
+     * Rewrites every document of {@code entityType} stored under an id in the other format.
+     *
+     * @param entityType {@link Lap} or {@link Position}
+     * @return the number of documents whose id was rewritten
+     */
+    public long migrate(Class<?> entityType) {
+        boolean packed = storedIds.isPacked(entityType);
+        String collection = mongoTemplate.getCollectionName(entityType);
+        Query stale = new Query(Criteria.where("_id").type(packed ? JsonSchemaObject.Type.stringType() : JsonSchemaObject.Type.longType()));
+
+        long migrated = 0;
+        List<Document> batch = new ArrayList<>(batchSize);
+        try (Stream<Document> documents = mongoTemplate.stream(stale, Document.class, collection)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                batch.add(document);
+                if (batch.size() == batchSize) {
+                    migrated += rewrite(entityType, collection, packed, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            migrated += rewrite(entityType, collection, packed, batch);
+        }
+        logger.info("Rewrote {} {} ids to the {} format", migrated, collection, packed ? "packed" : "string");
+        return migrated;
+    }
+
+    private int rewrite(Class<?> entityType, String collection, boolean packed, List<Document> batch) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        List<Object> oldIds = new ArrayList<>(batch.size());
+        for (Document document : batch) {
+            Object oldId = document.get("_id");
+            Object newId = packed ? CompositeIds.pack((String) oldId) : storedIds.toDomain(entityType, oldId);
+            oldIds.add(oldId);
+            document.put("_id", newId);
+            operations.replaceOne(Query.query(Criteria.where("_id").is(newId)), document, FindAndReplaceOptions.options().upsert());
+        }
+        operations.execute();
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(oldIds)), collection);
+        return batch.size();
+    }
+}
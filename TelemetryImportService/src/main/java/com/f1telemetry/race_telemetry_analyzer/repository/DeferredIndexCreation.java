@@ -0,0 +1,71 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes declared on the {@code @Document} classes once the application is ready, instead of while the
+ * mapping context starts.
+ *
+ * <p>Enabled with {@code openf1.storage.defer-index-creation=true}, together with
+ * {@code spring.data.mongodb.auto-index-creation=false}. Startup then makes no MongoDB round trip; the indexes are
+ * ensured on a background thread, where creating an index that already exists is a no-op. Time-series collections
+ * are skipped: ensuring an index on a missing one would create it as a regular collection, so
+ * {@link PositionHistoryRepository} creates them itself.
+ */
+@Component
+@ConditionalOnProperty(name = "openf1.storage.defer-index-creation")
+public class DeferredIndexCreation {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeferredIndexCreation.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public DeferredIndexCreation(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexesInBackground() {
+        Thread thread = new Thread(this::createIndexes, "mongo-index-creation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Ensures the indexes of every mapped {@code @Document} class.
+     *
+     * @return the number of indexes ensured
+     */
+    int createIndexes() {
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        int created = 0;
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class) || entity.isAnnotationPresent(TimeSeries.class)) {
+                continue;
+            }
+            try {
+                for (IndexDefinition index : indexResolver.resolveIndexFor(entity.getType())) {
+                    mongoTemplate.indexOps(entity.getType()).ensureIndex(index);
+                    created++;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Could not create the indexes of {}.", entity.getCollection(), e);
+            }
+        }
+        logger.info("Ensured {} deferred MongoDB indexes.", created);
+        return created;
+    }
+}
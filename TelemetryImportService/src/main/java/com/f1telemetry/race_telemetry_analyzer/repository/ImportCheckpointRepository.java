@@ -0,0 +1,18 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.model.ImportCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for accessing and managing {@link ImportCheckpoint} data in MongoDB.
+ *
+ * <p>This repository extends {@link MongoRepository} to provide CRUD operations for the {@link ImportCheckpoint} entity.
+ * It also includes a custom method to find the checkpoints of an entity type with a given status.
+ */
+@Repository
+public interface ImportCheckpointRepository extends MongoRepository<ImportCheckpoint, String> {
+    List<ImportCheckpoint> findByEntityTypeAndStatus(ImportCheckpoint.EntityType entityType, ImportCheckpoint.Status status);
+}
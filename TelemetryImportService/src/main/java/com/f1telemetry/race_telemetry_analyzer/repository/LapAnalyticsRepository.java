@@ -0,0 +1,161 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.model.DriverPace;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionSummary.DriverSummary;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the aggregation pipelines behind the lap analytics endpoints.
+ *
+ * <p>Each pipeline computes its result in one pass over the {@code laps} collection on the server, starting with a
+ * match on {@code sessionKey} that is served by the {@code session_driver_lap} index.
+ */
+@Repository
+public class LapAnalyticsRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public LapAnalyticsRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Computes the pace of every driver of a session.
+     *
+     * <p>Laps are sorted by driver and duration before grouping, so each driver's durations are collected in order
+     * and the median is read from the middle of that array. This avoids {@code $median}, which needs MongoDB 7.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return the pace of each driver with at least one counted lap, in driver number order
+     */
+    public List<DriverPace> aggregatePace(Integer sessionKey) {
+        return mongoTemplate.aggregate(paceAggregation(sessionKey), Lap.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(LapAnalyticsRepository::toDriverPace)
+                .toList();
+    }
+
+    static Aggregation paceAggregation(Integer sessionKey) {
+        return Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("sessionKey").is(sessionKey)
+                        .and("isPitOutLap").ne(true)
+                        .and("lapDuration").gt(0)),
+                Aggregation.sort(Sort.by("driverNumber", "lapDuration")),
+                Aggregation.group("driverNumber")
+                        .count().as("lapCount")
+                        .first("lapNumber").as("fastestLapNumber")
+                        .min("lapDuration").as("fastestLap")
+                        .avg("lapDuration").as("meanLap")
+                        .stdDevSamp("lapDuration").as("stdDevLap")
+                        .min("sector1").as("bestSector1")
+                        .min("sector2").as("bestSector2")
+                        .min("sector3").as("bestSector3")
+                        .push("lapDuration").as("durations"),
+                Aggregation.sort(Sort.by(Aggregation.previousOperation())),
+                context -> new Document("$project", new Document("_id", 0)
+                        .append("driverNumber", "$_id")
+                        .append("lapCount", 1)
+                        .append("fastestLapNumber", 1)
+                        .append("fastestLap", 1)
+                        .append("medianLap", median("$durations", "$lapCount"))
+                        .append("meanLap", 1)
+                        .append("stdDevLap", 1)
+                        .append("bestSector1", 1)
+                        .append("bestSector2", 1)
+                        .append("bestSector3", 1)));
+    }
+
+    /**
+     * Computes the per-driver rollups of a session's {@link com.f1telemetry.race_telemetry_analyzer.model.SessionSummary}.
+     *
+     * <p>Laps are sorted clean laps first, then by duration, so the first lap of each driver's group is their fastest
+     * clean lap. Finishing positions are not part of the laps and are left {@code null}.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return the rollup of each driver with at least one lap, in driver number order
+     */
+    public List<DriverSummary> aggregateDriverSummaries(Integer sessionKey) {
+        return mongoTemplate.aggregate(summaryAggregation(sessionKey), Lap.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(LapAnalyticsRepository::toDriverSummary)
+                .toList();
+    }
+
+    static Aggregation summaryAggregation(Integer sessionKey) {
+        Document clean = new Document("$and", List.of(
+                new Document("$ne", List.of("$isPitOutLap", true)),
+                new Document("$gt", List.of("$lapDuration", 0))));
+        return Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("sessionKey").is(sessionKey)),
+                context -> new Document("$addFields", new Document("clean", clean)),
+                context -> new Document("$sort", new Document("driverNumber", 1).append("clean", -1).append("lapDuration", 1)),
+                context -> new Document("$group", new Document("_id", "$driverNumber")
+                        .append("lapCount", new Document("$sum", 1))
+                        .append("pitOutLaps", new Document("$sum", new Document("$cond", List.of(new Document("$eq", List.of("$isPitOutLap", true)), 1, 0))))
+                        .append("fastestLapNumber", new Document("$first", ifClean("$lapNumber")))
+                        .append("fastestLap", new Document("$first", ifClean("$lapDuration")))
+                        .append("averageCleanLap", new Document("$avg", ifClean("$lapDuration")))),
+                context -> new Document("$sort", new Document("_id", 1)));
+    }
+
+    /**
+     * The value for clean laps and {@code null} otherwise, which {@code $avg} skips.
+     */
+    private static Document ifClean(String value) {
+        return new Document("$cond", Arrays.asList("$clean", value, null));
+    }
+
+    static DriverSummary toDriverSummary(Document document) {
+        Number fastestLapNumber = document.get("fastestLapNumber", Number.class);
+        return new DriverSummary(
+                document.get("_id", Number.class).intValue(),
+                null,
+                document.get("lapCount", Number.class).intValue(),
+                document.get("pitOutLaps", Number.class).intValue(),
+                fastestLapNumber != null ? fastestLapNumber.intValue() : null,
+                doubleOrNull(document, "fastestLap"),
+                doubleOrNull(document, "averageCleanLap"));
+    }
+
+    /**
+     * The median of a sorted array: its middle element, or the mean of the two middle elements.
+     */
+    private static Document median(String sortedArray, String size) {
+        Document middle = new Document("$toInt", new Document("$floor", new Document("$divide", List.of(size, 2))));
+        Document upper = new Document("$arrayElemAt", List.of(sortedArray, "$$middle"));
+        Document lower = new Document("$arrayElemAt", List.of(sortedArray, new Document("$subtract", List.of("$$middle", 1))));
+        Document odd = new Document("$eq", List.of(new Document("$mod", List.of(size, 2)), 1));
+        return new Document("$let", new Document("vars", new Document("middle", middle))
+                .append("in", new Document("$cond", List.of(odd, upper, new Document("$avg", List.of(lower, upper))))));
+    }
+
+    static DriverPace toDriverPace(Document document) {
+        return new DriverPace(
+                document.get("driverNumber", Number.class).intValue(),
+                document.get("lapCount", Number.class).intValue(),
+                document.get("fastestLapNumber", Number.class).intValue(),
+                document.get("fastestLap", Number.class).doubleValue(),
+                document.get("medianLap", Number.class).doubleValue(),
+                document.get("meanLap", Number.class).doubleValue(),
+                doubleOrNull(document, "stdDevLap"),
+                doubleOrNull(document, "bestSector1"),
+                doubleOrNull(document, "bestSector2"),
+                doubleOrNull(document, "bestSector3"));
+    }
+
+    private static Double doubleOrNull(Document document, String key) {
+        Number value = document.get(key, Number.class);
+        return value != null ? value.doubleValue() : null;
+    }
+}
@@ -1,10 +1,12 @@
 package com.f1telemetry.race_telemetry_analyzer.repository;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing and managing {@link Lap} data in MongoDB.
@@ -22,4 +24,37 @@ public interface LapRepository extends MongoRepository<Lap, String> {
      * @return a list of {@link Lap} entities matching the session key and driver number
      */
     List<Lap> findBySessionKeyAndDriverNumber(Integer sessionKey, Integer driverNumber);
+
+    /**
+     * Finds all laps of a session.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return a list of {@link Lap} entities of the session, in no particular order
+     */
+    List<Lap> findBySessionKey(Integer sessionKey);
+
+    /**
+     * Finds the next page of laps in id order, for keyset pagination.
+     *
+     * @param after the id of the last lap of the previous page; {@code ""} for the first page
+     * @param limit the maximum number of laps to return
+     * @return up to {@code limit} {@link Lap} entities whose id sorts after {@code after}
+     */
+    List<Lap> findByIdGreaterThanOrderByIdAsc(String after, Limit limit);
+
+    /**
+     * Finds the next page of laps in id order when their ids are stored packed, see {@link StoredIds}.
+     *
+     * @param after the packed id of the last lap of the previous page; {@code -1} for the first page
+     * @param limit the maximum number of laps to return
+     * @return up to {@code limit} {@link Lap} entities whose packed id is greater than {@code after}
+     */
+    List<Lap> findByIdGreaterThanOrderByIdAsc(long after, Limit limit);
+
+    /**
+     * Streams every lap from a MongoDB cursor. The stream must be closed to release the cursor.
+     *
+     * @return a {@link Stream} of all {@link Lap} entities, fetched batch by batch as it is consumed
+     */
+    Stream<Lap> streamAllBy();
 }
@@ -0,0 +1,137 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.model.PositionSample;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reads and writes the position history of each session in the {@link PositionSample} time-series collection.
+ *
+ * <p>Inserting into a missing collection would create a regular one, so the time-series collection and its
+ * {@code (meta.sessionKey, meta.generation, date)} index are created explicitly before the first write. The index
+ * serves the timeline range scans; MongoDB's own index on the whole {@code meta} document cannot be used by a filter
+ * on one of its fields.
+ *
+ * <p>Time-series collections cannot be written in a transaction, so a session is replaced by generations instead:
+ * the new samples are inserted under a new {@code meta.generation}, the session's current generation, kept in the
+ * {@value #GENERATIONS} collection, is switched to it, and only then are older generations deleted. Reads follow
+ * the current generation, so they see either the previous history or the new one, never a mix or a gap.
+ */
+@Repository
+public class PositionHistoryRepository {
+
+    static final String GENERATIONS = "position_sample_generations";
+
+    private final MongoTemplate mongoTemplate;
+    private final ImportMetrics importMetrics;
+    private volatile boolean collectionReady;
+
+    public PositionHistoryRepository(MongoTemplate mongoTemplate, ImportMetrics importMetrics) {
+        this.mongoTemplate = mongoTemplate;
+        this.importMetrics = importMetrics;
+    }
+
+    /**
+     * Replaces the position history of a session.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param samples the session's samples, possibly none; any previously stored samples of the session are removed.
+     *                Their {@code meta.generation} is set to the generation they are written as.
+     */
+    public void replaceSession(Integer sessionKey, List<PositionSample> samples) {
+        ensureCollection();
+        long generation = nextGeneration(sessionKey);
+        if (!samples.isEmpty()) {
+            samples.forEach(sample -> sample.getMeta().setGeneration(generation));
+            long start = System.nanoTime();
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PositionSample.class).insert(samples).execute();
+            importMetrics.bulkWritten(mongoTemplate.getCollectionName(PositionSample.class), start, samples.size());
+        }
+        // $max, so a concurrent replacement that reserved a later generation is never switched back
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(sessionKey)), new Update().max("current", generation), GENERATIONS);
+        // A filter on meta fields alone is a bucket-level delete, which time-series collections support
+        mongoTemplate.remove(new Query(Criteria.where("meta.sessionKey").is(sessionKey).and("meta.generation").not().gte(generation)),
+                PositionSample.class);
+    }
+
+    /**
+     * Finds the position updates of a session within a time range, in date order.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param from the first date to include, or {@code null} for the start of the session
+     * @param to the date to stop before, or {@code null} for the end of the session
+     * @return the samples of every driver in the range; the order of updates sharing a date is unspecified
+     */
+    public List<PositionSample> findTimeline(Integer sessionKey, Instant from, Instant to) {
+        Document generations = mongoTemplate.findById(sessionKey, Document.class, GENERATIONS);
+        Long generation = generations != null && generations.get("current") instanceof Number current ? current.longValue() : null;
+        return mongoTemplate.find(timelineQuery(sessionKey, generation, from, to), PositionSample.class);
+    }
+
+    /**
+     * @param generation the current generation of the session, or {@code null} if it was written before generations
+     */
+    static Query timelineQuery(Integer sessionKey, Long generation, Instant from, Instant to) {
+        Criteria criteria = Criteria.where("meta.sessionKey").is(sessionKey);
+        if (generation != null) {
+            criteria.and("meta.generation").is(generation);
+        }
+        if (from != null || to != null) {
+            Criteria date = criteria.and("date");
+            if (from != null) {
+                date.gte(from);
+            }
+            if (to != null) {
+                date.lt(to);
+            }
+        }
+        // The date alone: a secondary key could not be served by the index and would sort in memory
+        return new Query(criteria).with(Sort.by("date"));
+    }
+
+    /**
+     * Reserves the next generation of a session's samples.
+     */
+    private long nextGeneration(Integer sessionKey) {
+        Document generations = mongoTemplate.findAndModify(new Query(Criteria.where("_id").is(sessionKey)), new Update().inc("next", 1L),
+                FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, GENERATIONS);
+        return ((Number) generations.get("next")).longValue();
+    }
+
+    private void ensureCollection() {
+        if (collectionReady) {
+            return;
+        }
+        synchronized (this) {
+            if (!collectionReady) {
+                if (!mongoTemplate.collectionExists(PositionSample.class)) {
+                    try {
+                        mongoTemplate.createCollection(PositionSample.class);  // Options taken from @TimeSeries
+                    } catch (RuntimeException e) {
+                        if (!mongoTemplate.collectionExists(PositionSample.class)) {  // Else another instance created it
+                            throw e;
+                        }
+                    }
+                }
+                mongoTemplate.indexOps(PositionSample.class).ensureIndex(new Index()
+                        .named("session_generation_date")
+                        .on("meta.sessionKey", Sort.Direction.ASC)
+                        .on("meta.generation", Sort.Direction.ASC)
+                        .on("date", Sort.Direction.ASC));
+                collectionReady = true;
+            }
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.f1telemetry.race_telemetry_analyzer.repository;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for accessing and managing {@link Position} data in MongoDB.
  *
@@ -20,4 +24,37 @@ public interface PositionRepository extends MongoRepository<Position, String> {
      * @return the {@link Position} entity matching the session key and driver number
      */
     Position findBySessionKeyAndDriverNumber(Integer sessionKey, Integer driverNumber);
+
+    /**
+     * Finds the positions of every driver of a session.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return a list of {@link Position} entities of the session
+     */
+    List<Position> findBySessionKey(Integer sessionKey);
+
+    /**
+     * Finds the next page of positions in id order, for keyset pagination.
+     *
+     * @param after the id of the last position of the previous page; {@code ""} for the first page
+     * @param limit the maximum number of positions to return
+     * @return up to {@code limit} {@link Position} entities whose id sorts after {@code after}
+     */
+    List<Position> findByIdGreaterThanOrderByIdAsc(String after, Limit limit);
+
+    /**
+     * Finds the next page of positions in id order when their ids are stored packed, see {@link StoredIds}.
+     *
+     * @param after the packed id of the last position of the previous page; {@code -1} for the first page
+     * @param limit the maximum number of positions to return
+     * @return up to {@code limit} {@link Position} entities whose packed id is greater than {@code after}
+     */
+    List<Position> findByIdGreaterThanOrderByIdAsc(long after, Limit limit);
+
+    /**
+     * Streams every position from a MongoDB cursor. The stream must be closed to release the cursor.
+     *
+     * @return a {@link Stream} of all {@link Position} entities, fetched batch by batch as it is consumed
+     */
+    Stream<Position> streamAllBy();
 }
@@ -0,0 +1,88 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs queries that return only selected fields of a document, for the {@code ?fields=} parameter of the read endpoints.
+ *
+ * <p>The selection is pushed down to MongoDB as a projection, so unselected fields never leave the database.
+ * {@code _id} is excluded unless the id property is selected; a query whose filter and selected fields all
+ * belong to one index (ex. lap numbers by session and driver) is then answered from the index alone.
+ *
+ * <p>Selected ids are returned in their domain form, see {@link StoredIds#toDomain(Class, Object)}.
+ */
+@Repository
+public class ProjectionRepository {
+
+    private final MongoTemplate mongoTemplate;
+    private final StoredIds storedIds;
+
+    public ProjectionRepository(MongoTemplate mongoTemplate, StoredIds storedIds) {
+        this.mongoTemplate = mongoTemplate;
+        this.storedIds = storedIds;
+    }
+
+    /**
+     * Lists the property names of an entity that can be selected.
+     *
+     * @param entityType the mapped entity class
+     * @return the property names, ex. {@code lapNumber}, in declaration order
+     */
+    public Set<String> propertyNames(Class<?> entityType) {
+        Set<String> names = new LinkedHashSet<>();
+        persistentEntity(entityType).doWithProperties((MongoPersistentProperty property) -> names.add(property.getName()));
+        return names;
+    }
+
+    /**
+     * Runs a query returning only the selected properties of each document.
+     *
+     * @param entityType the mapped entity class; the query's criteria use its property names
+     * @param query the filter, sort and limit of the query; its own projection is replaced
+     * @param properties the property names to return, all valid for {@code entityType}
+     * @return one map per document, keyed by property name, holding the selected properties that are present
+     */
+    public List<Map<String, Object>> find(Class<?> entityType, Query query, Set<String> properties) {
+        MongoPersistentEntity<?> entity = persistentEntity(entityType);
+        Map<String, String> propertiesByField = new LinkedHashMap<>();
+        for (String property : properties) {
+            propertiesByField.put(entity.getRequiredPersistentProperty(property).getFieldName(), property);
+        }
+
+        Query projected = Query.of(query);
+        properties.forEach(property -> projected.fields().include(property));
+        if (!propertiesByField.containsKey("_id")) {
+            projected.fields().exclude("_id");  // Lets MongoDB answer from an index that covers the selected fields
+        }
+
+        // Querying through the domain type maps property names in the filter, sort and projection to field names
+        return mongoTemplate.query(entityType).as(Document.class).matching(projected).all().stream()
+                .map(document -> {
+                    Map<String, Object> selected = new LinkedHashMap<>();
+                    propertiesByField.forEach((field, property) -> {
+                        if (field.equals("_id")) {
+                            selected.put(property, storedIds.toDomain(entityType, document.get(field)));
+                        } else if (document.containsKey(field)) {
+                            selected.put(property, document.get(field));
+                        }
+                    });
+                    return selected;
+                })
+                .toList();
+    }
+
+    private MongoPersistentEntity<?> persistentEntity(Class<?> entityType) {
+        return mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(entityType);
+    }
+}
@@ -0,0 +1,14 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.model.SessionSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for accessing and managing {@link SessionSummary} data in MongoDB.
+ *
+ * <p>Summaries are keyed by session key, so they are read with {@link #findById(Object)}.
+ */
+@Repository
+public interface SessionSummaryRepository extends MongoRepository<SessionSummary, Integer> {
+}
@@ -0,0 +1,92 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties.Storage.IdFormat;
+import com.f1telemetry.race_telemetry_analyzer.model.CompositeIds;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Translates the string ids of {@link Lap} and {@link Position} to and from the {@code _id} stored in MongoDB,
+ * following {@code openf1.storage.id-format}.
+ *
+ * <p>With {@link IdFormat#PACKED} the ids are written as {@link CompositeIds packed longs}. Reading a long
+ * {@code _id} into the {@code String} id property would yield its decimal digits, so this class is also an
+ * {@link AfterConvertCallback} that restores the string form on every lap and position read through
+ * {@code MongoTemplate} or a repository. It does so whatever the configured format, which keeps a collection that
+ * is part way through {@link CompositeIdMigration} readable.
+ */
+@Component
+public class StoredIds implements AfterConvertCallback<Object> {
+
+    private final IdFormat idFormat;
+
+    public StoredIds(OpenF1Properties properties) {
+        this.idFormat = properties.getStorage().getIdFormat();
+    }
+
+    /**
+     * @param entityType the mapped entity class
+     * @return whether the ids of {@code entityType} are stored as packed longs
+     */
+    public boolean isPacked(Class<?> entityType) {
+        return idFormat == IdFormat.PACKED && (entityType == Lap.class || entityType == Position.class);
+    }
+
+    /**
+     * @param entityType the mapped entity class
+     * @param id the id of an entity
+     * @return the {@code _id} the entity is stored under
+     * @throws IllegalArgumentException if the id is packed and is not a lap or position id
+     */
+    public Object toStored(Class<?> entityType, Object id) {
+        return isPacked(entityType) ? CompositeIds.pack((String) id) : id;
+    }
+
+    /**
+     * @param entityType the mapped entity class
+     * @param storedId an {@code _id} read from MongoDB, in either format
+     * @return the id of the entity in its domain form
+     */
+    public Object toDomain(Class<?> entityType, Object storedId) {
+        if (storedId instanceof Long packed) {
+            if (entityType == Lap.class) {
+                return CompositeIds.toLapId(packed);
+            }
+            if (entityType == Position.class) {
+                return CompositeIds.toPositionId(packed);
+            }
+        }
+        return storedId;
+    }
+
+    /**
+     * Converts the {@code after} cursor of a listing page to the {@code _id} value the next page starts after.
+     *
+     * @param entityType the mapped entity class
+     * @param after the id of the last entity of the previous page, or {@code null} for the first page
+     * @return a stored id that sorts before every stored id of the collection when {@code after} is {@code null}
+     * @throws IllegalArgumentException if the ids are packed and {@code after} is not a lap or position id
+     */
+    public Object cursor(Class<?> entityType, String after) {
+        if (isPacked(entityType)) {
+            return after != null ? CompositeIds.pack(after) : -1L;
+        }
+        return after != null ? after : "";
+    }
+
+    @Override
+    public Object onAfterConvert(Object entity, Document document, String collection) {
+        if (document.get("_id") instanceof Long packed) {
+            if (entity instanceof Lap lap) {
+                lap.setId(CompositeIds.toLapId(packed));
+            } else if (entity instanceof Position position) {
+                position.setId(CompositeIds.toPositionId(packed));
+            }
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,13 @@
+package com.f1telemetry.race_telemetry_analyzer.repository.reactive;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Non-blocking counterpart of {@link com.f1telemetry.race_telemetry_analyzer.repository.DriverRepository}, used by
+ * the reactive read API.
+ */
+@Repository
+public interface ReactiveDriverRepository extends ReactiveMongoRepository<Driver, String> {
+}
@@ -0,0 +1,22 @@
+package com.f1telemetry.race_telemetry_analyzer.repository.reactive;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking counterpart of {@link com.f1telemetry.race_telemetry_analyzer.repository.LapRepository}, used by the
+ * reactive read API.
+ */
+@Repository
+public interface ReactiveLapRepository extends ReactiveMongoRepository<Lap, String> {
+    /**
+     * Finds all laps for a given session and driver.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param driverNumber the number of the driver
+     * @return a {@link Flux} of {@link Lap} entities matching the session key and driver number
+     */
+    Flux<Lap> findBySessionKeyAndDriverNumber(Integer sessionKey, Integer driverNumber);
+}
@@ -0,0 +1,31 @@
+package com.f1telemetry.race_telemetry_analyzer.repository.reactive;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link com.f1telemetry.race_telemetry_analyzer.repository.PositionRepository}, used by
+ * the reactive read API.
+ */
+@Repository
+public interface ReactivePositionRepository extends ReactiveMongoRepository<Position, String> {
+    /**
+     * Finds the position of a driver for a specific session.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param driverNumber the number of the driver
+     * @return a {@link Mono} of the {@link Position} matching the session key and driver number, or empty
+     */
+    Mono<Position> findBySessionKeyAndDriverNumber(Integer sessionKey, Integer driverNumber);
+
+    /**
+     * Finds the positions of every driver of a session.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return a {@link Flux} of {@link Position} entities of the session
+     */
+    Flux<Position> findBySessionKey(Integer sessionKey);
+}
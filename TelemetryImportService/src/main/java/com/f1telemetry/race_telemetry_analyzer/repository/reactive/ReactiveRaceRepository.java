@@ -0,0 +1,13 @@
+package com.f1telemetry.race_telemetry_analyzer.repository.reactive;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Non-blocking counterpart of {@link com.f1telemetry.race_telemetry_analyzer.repository.RaceRepository}, used by the
+ * reactive read API.
+ */
+@Repository
+public interface ReactiveRaceRepository extends ReactiveMongoRepository<Race, Integer> {
+}
@@ -0,0 +1,27 @@
+package com.f1telemetry.race_telemetry_analyzer.repository.reactive;
+
+import com.f1telemetry.race_telemetry_analyzer.repository.StoredIds;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveAfterConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Restores the string ids of laps and positions read through the reactive repositories, as {@link StoredIds} does
+ * for the blocking ones.
+ */
+@Component
+public class ReactiveStoredIdCallback implements ReactiveAfterConvertCallback<Object> {
+
+    private final StoredIds storedIds;
+
+    public ReactiveStoredIdCallback(StoredIds storedIds) {
+        this.storedIds = storedIds;
+    }
+
+    @Override
+    public Publisher<Object> onAfterConvert(Object entity, Document document, String collection) {
+        return Mono.just(storedIds.onAfterConvert(entity, document, collection));
+    }
+}
@@ -0,0 +1,85 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionLaps;
+import com.f1telemetry.race_telemetry_analyzer.repository.LapRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory, columnar copies of the laps of each session, for analytics.
+ *
+ * <p>A session is loaded from the {@link LapRepository} the first time it is read and kept as {@link SessionLaps}
+ * until its laps are written again, see {@link #evict(Collection)}. The store is bounded by
+ * {@code openf1.read-cache.columnar-maximum-laps}, evicting the least used sessions first, and is published as the
+ * {@code cache.*} metrics tagged {@code cache=columnar-laps}.
+ */
+@Service
+public class ColumnarLapStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarLapStore.class);
+
+    private final LapRepository lapRepository;
+    private final Cache<Integer, SessionLaps> sessions;
+
+    @Autowired
+    public ColumnarLapStore(LapRepository lapRepository, OpenF1Properties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(lapRepository, properties.getReadCache().getColumnarMaximumLaps());
+        CaffeineCacheMetrics.monitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), sessions, "columnar-laps");
+    }
+
+    ColumnarLapStore(LapRepository lapRepository, long maximumLaps) {
+        this.lapRepository = lapRepository;
+        this.sessions = Caffeine.newBuilder()
+                .maximumWeight(maximumLaps)
+                .weigher((Integer sessionKey, SessionLaps laps) -> Math.max(1, laps.size()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Retrieves the columnar laps of a session, loading them on first use.
+     *
+     * <p>Concurrent reads of a missing session load it once. A load overlapping {@link #evict(Collection)} is
+     * discarded, so a copy read before a write is never kept after it.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return an {@link Optional} containing the laps of the session, or empty if the session has no laps
+     */
+    public Optional<SessionLaps> getSession(Integer sessionKey) {
+        return Optional.ofNullable(sessions.get(sessionKey, this::load));  // A null load is not cached
+    }
+
+    private SessionLaps load(Integer sessionKey) {
+        List<Lap> laps = lapRepository.findBySessionKey(sessionKey);
+        if (laps.isEmpty()) {
+            return null;  // Not cached, so a session imported later is picked up
+        }
+        SessionLaps loaded = SessionLaps.of(sessionKey, laps);
+        logger.info("Loaded {} laps of session {} into the columnar lap store", loaded.size(), sessionKey);
+        return loaded;
+    }
+
+    /**
+     * Drops the cached copies of sessions whose laps changed, so the next read reloads them. Must be called after
+     * the write: an invalidation waits for a load of the same session in progress and then drops its result.
+     *
+     * @param sessionKeys the session keys of the written laps
+     */
+    public void evict(Collection<Integer> sessionKeys) {
+        sessions.invalidateAll(sessionKeys);
+    }
+}
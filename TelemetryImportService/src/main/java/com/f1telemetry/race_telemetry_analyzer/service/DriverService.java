@@ -1,17 +1,25 @@
 package com.f1telemetry.race_telemetry_analyzer.service;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
 import com.f1telemetry.race_telemetry_analyzer.repository.DriverRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.ProjectionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service for managing driver data.
  *
  * <p>This service is responsible for performing CRUD operations on the {@link Driver} entity using the {@link DriverRepository}.
+ * Reads of whole entities go through the {@link ReadThroughCache}, which every write through this service clears.
  */
 @Service
 public class DriverService {
@@ -19,13 +27,22 @@ public class DriverService {
     @Autowired
     private DriverRepository driverRepository;
 
+    @Autowired
+    private BulkUpsertWriter bulkUpsertWriter;
+
+    @Autowired
+    private ProjectionRepository projectionRepository;
+
+    @Autowired
+    private ReadThroughCache readThroughCache;
+
     /**
-     * Retrieves all drivers from the MongoDB database.
+     * Retrieves all drivers, from the cache or the MongoDB database.
      *
-     * @return a list of {@link Driver} entities
+     * @return an unmodifiable list of {@link Driver} entities
      */
     public List<Driver> getAllDrivers() {
-        return driverRepository.findAll();
+        return readThroughCache.get("drivers", () -> List.copyOf(driverRepository.findAll()));
     }
 
     /**
@@ -35,7 +52,37 @@ public class DriverService {
      * @return an {@link Optional} containing the driver if found, or empty if not
      */
     public Optional<Driver> getDriverById(String id) {
-        return driverRepository.findById(id);
+        return readThroughCache.get("driver:" + id, () -> driverRepository.findById(id));
+    }
+
+    /**
+     * Retrieves all drivers, returning only the selected fields.
+     *
+     * @param fields the {@link Driver} properties to return
+     * @return the drivers, each as a map of property name to value
+     */
+    public List<Map<String, Object>> getAllDrivers(Set<String> fields) {
+        return projectionRepository.find(Driver.class, new Query(), fields);
+    }
+
+    /**
+     * Retrieves a driver by its unique identifier, returning only the selected fields.
+     *
+     * @param id the unique identifier of the driver
+     * @param fields the {@link Driver} properties to return
+     * @return an {@link Optional} containing the selected fields of the driver if found, or empty if not
+     */
+    public Optional<Map<String, Object>> getDriverById(String id, Set<String> fields) {
+        return projectionRepository.find(Driver.class, new Query(Criteria.where("fullName").is(id)), fields)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * @return the {@link Driver} properties that can be selected with {@code ?fields=}
+     */
+    public Set<String> getDriverFieldNames() {
+        return projectionRepository.propertyNames(Driver.class);
     }
 
     /**
@@ -45,17 +92,21 @@ public class DriverService {
      * @return the saved {@link Driver} entity
      */
     public Driver addDriver(Driver driver) {
-        return driverRepository.save(driver);
+        Driver savedDriver = driverRepository.save(driver);
+        readThroughCache.invalidateAll();
+        return savedDriver;
     }
 
     /**
-     * Adds a list of drivers to the database.
+     * Adds or replaces a list of drivers in the database using unordered bulk upserts.
      *
      * @param driversToAdd a list of {@link Driver} entities to save
-     * @return a list of saved {@link Driver} entities
+     * @return the matched, modified and upserted counts of the write
      */
-    public List<Driver> addDrivers(List<Driver> driversToAdd) {
-        return driverRepository.saveAll(driversToAdd);
+    public BulkUpsertResult addDrivers(List<Driver> driversToAdd) {
+        BulkUpsertResult result = bulkUpsertWriter.upsertAll(Driver.class, driversToAdd);
+        readThroughCache.invalidateAll();
+        return result;
     }
 
     /**
@@ -65,6 +116,7 @@ public class DriverService {
      */
     public void deleteDriver(String id) {
         driverRepository.deleteById(id);
+        readThroughCache.invalidateAll();
     }
 
     /**
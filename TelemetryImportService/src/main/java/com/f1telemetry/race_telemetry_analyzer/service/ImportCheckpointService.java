@@ -0,0 +1,58 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.model.ImportCheckpoint;
+import com.f1telemetry.race_telemetry_analyzer.model.ImportCheckpoint.EntityType;
+import com.f1telemetry.race_telemetry_analyzer.model.ImportCheckpoint.Status;
+import com.f1telemetry.race_telemetry_analyzer.repository.ImportCheckpointRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for managing import checkpoints.
+ *
+ * <p>This service records the outcome of every (session, entity type) unit of an import using the
+ * {@link ImportCheckpointRepository}, and tells the import which units are already complete.
+ */
+@Service
+public class ImportCheckpointService {
+
+    @Autowired
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    /**
+     * Retrieves the session keys whose import of an entity type completed.
+     *
+     * @param entityType the imported entity type
+     * @return the session keys with a completed checkpoint
+     */
+    public Set<Integer> getCompletedSessionKeys(EntityType entityType) {
+        return importCheckpointRepository.findByEntityTypeAndStatus(entityType, Status.COMPLETED).stream()
+                .map(ImportCheckpoint::getSessionKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Records that the import of a unit completed.
+     *
+     * @param sessionKey the session key of the race
+     * @param entityType the imported entity type
+     * @param itemCount the number of items imported
+     */
+    public void markCompleted(Integer sessionKey, EntityType entityType, int itemCount) {
+        importCheckpointRepository.save(new ImportCheckpoint(sessionKey, entityType, Status.COMPLETED, itemCount, null));
+    }
+
+    /**
+     * Records that the import of a unit failed, so it is retried by the next import.
+     *
+     * @param sessionKey the session key of the race
+     * @param entityType the imported entity type
+     * @param error the cause of the failure
+     */
+    public void markFailed(Integer sessionKey, EntityType entityType, Throwable error) {
+        importCheckpointRepository.save(new ImportCheckpoint(sessionKey, entityType, Status.FAILED, 0, String.valueOf(error)));
+    }
+}
@@ -0,0 +1,193 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportStage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer instrumentation of the OpenF1 import, from the HTTP requests to the MongoDB writes.
+ *
+ * <p>Timers publish percentile histograms, so latency quantiles can be aggregated across instances from
+ * {@code /actuator/prometheus}. OpenF1 meters are tagged with the API {@code endpoint} (ex. {@code laps}), never
+ * with the full URL, to keep their cardinality bounded.
+ *
+ * <ul>
+ *   <li>{@code openf1.requests}: HTTP requests sent to OpenF1, by endpoint and status ({@code error} if no response)</li>
+ *   <li>{@code openf1.requests.active} / {@code openf1.requests.waiting}: requests in flight, and requests waiting
+ *       for a rate-limit token</li>
+ *   <li>{@code openf1.ratelimit.wait}: time spent waiting for a rate-limit token</li>
+ *   <li>{@code openf1.requests.retries} / {@code openf1.requests.dropped}: retried 429s, and requests given up by
+ *       reason ({@code max-retries}, {@code replay-miss}, {@code error})</li>
+ *   <li>{@code openf1.cache.hits}: requests answered from the response cache</li>
+ *   <li>{@code openf1.parse}: decoding of a response body into model objects, by endpoint</li>
+ *   <li>{@code mongo.bulk.writes} / {@code mongo.documents.written}: bulk writes and the documents they carried,
+ *       by collection; the rate of the counter is the write throughput in documents per second</li>
+ *   <li>{@code import.stage} / {@code import.stage.items}: units of each {@link ImportStage} and their items</li>
+ *   <li>{@code import.runs}: whole imports, by outcome</li>
+ * </ul>
+ */
+@Component
+public class ImportMetrics {
+
+    private final MeterRegistry registry;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger waitingRequests = new AtomicInteger();
+
+    @Autowired
+    public ImportMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public ImportMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("openf1.requests.active", activeRequests, AtomicInteger::get)
+                .description("OpenF1 requests sent and not yet answered")
+                .register(registry);
+        Gauge.builder("openf1.requests.waiting", waitingRequests, AtomicInteger::get)
+                .description("OpenF1 requests waiting for a rate-limit token")
+                .register(registry);
+    }
+
+    /**
+     * Records that a request starts waiting for a rate-limit token.
+     *
+     * @return the {@link System#nanoTime()} at which it started waiting
+     */
+    public long rateLimitWaitStarted() {
+        waitingRequests.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records that a request stopped waiting for a rate-limit token without getting one.
+     */
+    public void rateLimitWaitAbandoned() {
+        waitingRequests.decrementAndGet();
+    }
+
+    /**
+     * Records that a request got its rate-limit token and is being sent.
+     *
+     * @param waitStartNanos the value returned by {@link #rateLimitWaitStarted()}
+     * @return the {@link System#nanoTime()} at which the request is sent
+     */
+    public long requestStarted(long waitStartNanos) {
+        long now = System.nanoTime();
+        waitingRequests.decrementAndGet();
+        activeRequests.incrementAndGet();
+        timer("openf1.ratelimit.wait", "Time spent waiting for a rate-limit token").record(now - waitStartNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    /**
+     * Records the outcome of a request sent to OpenF1.
+     *
+     * @param url the requested URL
+     * @param status the HTTP status code, or {@code null} if no response was received
+     * @param startNanos the value returned by {@link #requestStarted(long)}
+     */
+    public void requestFinished(String url, Integer status, long startNanos) {
+        activeRequests.decrementAndGet();
+        timer("openf1.requests", "OpenF1 HTTP requests", "endpoint", endpoint(url), "status", status != null ? status.toString() : "error")
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param url the URL of a rate-limited request that is retried
+     */
+    public void requestRetried(String url) {
+        Counter.builder("openf1.requests.retries").description("Rate-limited OpenF1 requests that were retried")
+                .tag("endpoint", endpoint(url)).register(registry).increment();
+    }
+
+    /**
+     * @param url the URL of a request that was given up
+     * @param reason why it was given up, ex. {@code max-retries}
+     */
+    public void requestDropped(String url, String reason) {
+        Counter.builder("openf1.requests.dropped").description("OpenF1 requests given up without a usable response")
+                .tag("endpoint", endpoint(url)).tag("reason", reason).register(registry).increment();
+    }
+
+    /**
+     * @param url the URL of a request answered from the response cache
+     */
+    public void cacheHit(String url) {
+        Counter.builder("openf1.cache.hits").description("OpenF1 requests answered from the response cache")
+                .tag("endpoint", endpoint(url)).register(registry).increment();
+    }
+
+    /**
+     * Records the decoding of one OpenF1 response.
+     *
+     * @param endpoint the API endpoint of the response, ex. {@code laps}
+     * @param startNanos the {@link System#nanoTime()} at which decoding started
+     */
+    public void parsed(String endpoint, long startNanos) {
+        timer("openf1.parse", "Decoding of OpenF1 responses", "endpoint", endpoint).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records one bulk write to MongoDB.
+     *
+     * @param collection the collection written to
+     * @param startNanos the {@link System#nanoTime()} at which the write started
+     * @param documents the number of documents in the write
+     */
+    public void bulkWritten(String collection, long startNanos, int documents) {
+        timer("mongo.bulk.writes", "Bulk writes to MongoDB", "collection", collection).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("mongo.documents.written").description("Documents written to MongoDB by bulk writes")
+                .tag("collection", collection).register(registry).increment(documents);
+    }
+
+    /**
+     * Records one unit of an import stage.
+     *
+     * @param stage the stage
+     * @param nanos the duration of the unit
+     * @param items the number of items the unit processed
+     */
+    public void stageUnit(ImportStage stage, long nanos, int items) {
+        String tag = stage.name().toLowerCase().replace('_', '-');
+        timer("import.stage", "Units of work of each import stage", "stage", tag).record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("import.stage.items").description("Items processed by each import stage")
+                .tag("stage", tag).register(registry).increment(items);
+    }
+
+    /**
+     * Records a whole import.
+     *
+     * @param outcome {@code success} or {@code failure}
+     * @param nanos the duration of the import
+     */
+    public void importFinished(String outcome, long nanos) {
+        timer("import.runs", "OpenF1 imports", "outcome", outcome).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param url an OpenF1 URL, ex. {@code https://api.openf1.org/v1/laps?session_key=9158}
+     * @return the endpoint of the URL, ex. {@code laps}, or {@code other} if it is not an OpenF1 API URL
+     */
+    static String endpoint(String url) {
+        int start = url.indexOf("/v1/");
+        if (start < 0) {
+            return "other";
+        }
+        start += "/v1/".length();
+        int end = url.indexOf('?', start);
+        return url.substring(start, end >= 0 ? end : url.length());
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name).description(description).tags(tags).publishPercentileHistogram().register(registry);
+    }
+}
@@ -0,0 +1,90 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.model.DriverBestLap;
+import com.f1telemetry.race_telemetry_analyzer.model.DriverPace;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionLaps;
+import com.f1telemetry.race_telemetry_analyzer.repository.LapAnalyticsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service computing lap analytics for a session.
+ *
+ * <p>Best laps read the session from the {@link ColumnarLapStore}, scanning primitive columns rather than
+ * {@link com.f1telemetry.race_telemetry_analyzer.model.Lap} objects. Pace is aggregated by MongoDB through the
+ * {@link LapAnalyticsRepository}, so no lap leaves the database.
+ */
+@Service
+public class LapAnalyticsService {
+
+    @Autowired
+    private ColumnarLapStore columnarLapStore;
+
+    @Autowired
+    private LapAnalyticsRepository lapAnalyticsRepository;
+
+    /**
+     * Computes each driver's fastest lap and best sectors of a session.
+     *
+     * <p>Pit out laps and laps without a positive duration are ignored. Drivers without such a lap are omitted.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return an {@link Optional} containing the best laps in driver number order, or empty if the session has no laps
+     */
+    public Optional<List<DriverBestLap>> getBestLaps(Integer sessionKey) {
+        return columnarLapStore.getSession(sessionKey).map(LapAnalyticsService::bestLaps);
+    }
+
+    /**
+     * Computes each driver's fastest, median and mean lap, lap time deviation and best sectors of a session.
+     *
+     * <p>Pit out laps and laps without a positive duration are ignored. Drivers without such a lap are omitted.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return an {@link Optional} containing the pace in driver number order, or empty if the session has no counted laps
+     */
+    public Optional<List<DriverPace>> getPace(Integer sessionKey) {
+        List<DriverPace> pace = lapAnalyticsRepository.aggregatePace(sessionKey);
+        return pace.isEmpty() ? Optional.empty() : Optional.of(pace);
+    }
+
+    static List<DriverBestLap> bestLaps(SessionLaps laps) {
+        List<DriverBestLap> bestLaps = new ArrayList<>(laps.driverCount());
+        for (int driver = 0; driver < laps.driverCount(); driver++) {
+            int fastest = -1;
+            float bestSector1 = Float.NaN;
+            float bestSector2 = Float.NaN;
+            float bestSector3 = Float.NaN;
+            for (int row = laps.driverStart(driver); row < laps.driverEnd(driver); row++) {
+                float duration = laps.lapDuration(row);
+                if (laps.isPitOutLap(row) || !(duration > 0)) {  // Also rejects NaN
+                    continue;
+                }
+                if (fastest < 0 || duration < laps.lapDuration(fastest)) {
+                    fastest = row;
+                }
+                bestSector1 = min(bestSector1, laps.sector1(row));
+                bestSector2 = min(bestSector2, laps.sector2(row));
+                bestSector3 = min(bestSector3, laps.sector3(row));
+            }
+            if (fastest >= 0) {
+                float ideal = bestSector1 + bestSector2 + bestSector3;
+                bestLaps.add(new DriverBestLap(laps.driverNumber(fastest), laps.lapNumber(fastest), laps.lapDuration(fastest),
+                        boxed(bestSector1), boxed(bestSector2), boxed(bestSector3), boxed(ideal)));
+            }
+        }
+        return bestLaps;
+    }
+
+    private static float min(float best, float value) {
+        return Float.isNaN(best) || value < best ? value : best;  // A NaN value never replaces a timed best
+    }
+
+    private static Float boxed(float value) {
+        return Float.isNaN(value) ? null : value;
+    }
+}
@@ -1,11 +1,25 @@
 package com.f1telemetry.race_telemetry_analyzer.service;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
 import com.f1telemetry.race_telemetry_analyzer.repository.LapRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.ProjectionRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.StoredIds;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for managing lap data.
@@ -18,6 +32,18 @@ public class LapService {
     @Autowired
     private LapRepository lapRepository;
 
+    @Autowired
+    private BulkUpsertWriter bulkUpsertWriter;
+
+    @Autowired
+    private ProjectionRepository projectionRepository;
+
+    @Autowired
+    private ColumnarLapStore columnarLapStore;
+
+    @Autowired
+    private StoredIds storedIds;
+
     /**
      * Retrieves all laps from the MongoDB database.
      *
@@ -27,6 +53,76 @@ public class LapService {
         return lapRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of laps in stored id order.
+     *
+     * <p>String ids sort as text; packed ids sort by session, driver and lap number.
+     *
+     * @param after the id of the last lap of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of laps to return
+     * @return up to {@code limit} {@link Lap} entities
+     * @throws IllegalArgumentException if ids are stored packed and {@code after} is not a lap id
+     */
+    public List<Lap> getLapPage(String after, int limit) {
+        Object cursor = storedIds.cursor(Lap.class, after);
+        return cursor instanceof Long packed
+                ? lapRepository.findByIdGreaterThanOrderByIdAsc(packed.longValue(), Limit.of(limit))
+                : lapRepository.findByIdGreaterThanOrderByIdAsc((String) cursor, Limit.of(limit));
+    }
+
+    /**
+     * Retrieves one page of laps in stored id order, returning only the selected fields.
+     *
+     * <p>The id is always returned, since it is the cursor of the next page.
+     *
+     * @param after the id of the last lap of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of laps to return
+     * @param fields the {@link Lap} properties to return
+     * @return up to {@code limit} laps, each as a map of property name to value
+     * @throws IllegalArgumentException if ids are stored packed and {@code after} is not a lap id
+     */
+    public List<Map<String, Object>> getLapPage(String after, int limit, Set<String> fields) {
+        Set<String> selected = new LinkedHashSet<>(fields);
+        selected.add("id");
+        Query query = new Query(Criteria.where("id").gt(storedIds.cursor(Lap.class, after)))
+                .with(Sort.by("id"))
+                .limit(limit);
+        return projectionRepository.find(Lap.class, query, selected);
+    }
+
+    /**
+     * Retrieves laps for a specific session and driver in lap order, returning only the selected fields.
+     *
+     * <p>Selections within {@code sessionKey}, {@code driverNumber} and {@code lapNumber} are answered from the
+     * lap index alone.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param driverNumber the driver's number
+     * @param fields the {@link Lap} properties to return
+     * @return the laps, each as a map of property name to value
+     */
+    public List<Map<String, Object>> getLapsBySessionAndDriver(Integer sessionKey, Integer driverNumber, Set<String> fields) {
+        Query query = new Query(Criteria.where("sessionKey").is(sessionKey).and("driverNumber").is(driverNumber))
+                .with(Sort.by("lapNumber"));
+        return projectionRepository.find(Lap.class, query, fields);
+    }
+
+    /**
+     * @return the {@link Lap} properties that can be selected with {@code ?fields=}
+     */
+    public Set<String> getLapFieldNames() {
+        return projectionRepository.propertyNames(Lap.class);
+    }
+
+    /**
+     * Streams every lap in the database from a MongoDB cursor.
+     *
+     * @return a {@link Stream} of {@link Lap} entities; the caller must close it
+     */
+    public Stream<Lap> streamAllLaps() {
+        return lapRepository.streamAllBy();
+    }
+
     /**
      * Retrieves laps for a specific session and driver.
      *
@@ -39,11 +135,16 @@ public class LapService {
     }
 
     /**
-     * Adds a list of laps to the database.
+     * Adds or replaces a list of laps in the database using unordered bulk upserts.
+     *
+     * <p>The columnar copies of the written sessions are dropped, so analytics see the new laps.
      *
      * @param laps a list of {@link Lap} entities to save
+     * @return the matched, modified and upserted counts of the write
      */
-    public void addLaps(List<Lap> laps) {
-        lapRepository.saveAll(laps);
+    public BulkUpsertResult addLaps(List<Lap> laps) {
+        BulkUpsertResult result = bulkUpsertWriter.upsertAll(Lap.class, laps);
+        columnarLapStore.evict(laps.stream().map(Lap::getSessionKey).filter(Objects::nonNull).collect(Collectors.toSet()));
+        return result;
     }
 }
@@ -0,0 +1,90 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link OpenF1HttpTransport} backed by an Apache HttpClient 5 async client.
+ *
+ * <p>Connections are kept alive in a {@link PoolingAsyncClientConnectionManager} bounded by {@code maxConnections}.
+ * HTTP/2 is negotiated through ALPN on TLS connections, falling back to HTTP/1.1 when the server does not support it.
+ */
+public class ApacheOpenF1HttpTransport implements OpenF1HttpTransport {
+
+    private final CloseableHttpAsyncClient client;
+
+    public ApacheOpenF1HttpTransport(int maxConnections, Duration connectTimeout, Duration responseTimeout) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .build())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                        .build())
+                .build();
+
+        this.client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .build())
+                .build();
+        this.client.start();
+    }
+
+    @Override
+    public CompletableFuture<OpenF1Response> getAsync(String url) {
+        SimpleHttpRequest request = SimpleRequestBuilder.get(url)
+                .addHeader("Accept", "application/json")
+                .build();
+
+        CompletableFuture<OpenF1Response> future = new CompletableFuture<>();
+        client.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                byte[] body = response.getBodyBytes();
+                future.complete(new OpenF1Response(
+                        response.getCode(),
+                        new ByteArrayInputStream(body != null ? body : new byte[0]),
+                        Optional.ofNullable(response.getFirstHeader("Retry-After")).map(Header::getValue)
+                ));
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                future.completeExceptionally(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+    }
+}
@@ -0,0 +1,102 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of asynchronous tasks of one import stage that run at the same time.
+ *
+ * <p>Unlike a {@link java.util.concurrent.Semaphore}, submitting never blocks the caller: tasks beyond the limit
+ * are queued and started as running tasks complete. This lets a single thread feed several stages (ex. lap and
+ * position fetches) that then progress concurrently.
+ *
+ * <p>Tasks whose future is already complete (ex. responses served from the cache) release their slot on the thread
+ * that started them. Tasks started that way are run one after the other by the outermost start on the thread
+ * instead of nesting, so a long queue of synchronous completions does not grow the stack.
+ */
+class BoundedStage {
+
+    /** Tasks ready to start on this thread, while an outer {@link #run(Runnable)} is draining them */
+    private static final ThreadLocal<Queue<Runnable>> READY = new ThreadLocal<>();
+
+    private final int maxConcurrency;
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private int running;
+
+    BoundedStage(int maxConcurrency) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    /**
+     * Submits a task, starting it immediately if the stage has capacity.
+     *
+     * @param task supplies the asynchronous work; only invoked once a slot is free
+     * @param <T> the result type
+     * @return a {@link CompletableFuture} completing with the task's result
+     */
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            CompletableFuture<T> future;
+            try {
+                future = task.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((value, ex) -> {
+                release();
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                } else {
+                    result.complete(value);
+                }
+            });
+        };
+
+        boolean startNow;
+        synchronized (this) {
+            startNow = running < maxConcurrency;
+            if (startNow) {
+                running++;
+            } else {
+                pending.add(start);
+            }
+        }
+        if (startNow) {
+            run(start);
+        }
+        return result;
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = pending.poll();
+            if (next == null) {
+                running--;
+            }
+        }
+        if (next != null) {
+            run(next);  // The freed slot is handed straight to the next queued task
+        }
+    }
+
+    private static void run(Runnable start) {
+        Queue<Runnable> ready = READY.get();
+        if (ready != null) {
+            ready.add(start);  // Started by the loop below once the current task returns
+            return;
+        }
+        ready = new ArrayDeque<>();
+        READY.set(ready);
+        try {
+            for (Runnable task = start; task != null; task = ready.poll()) {
+                task.run();
+            }
+        } finally {
+            READY.remove();
+        }
+    }
+}
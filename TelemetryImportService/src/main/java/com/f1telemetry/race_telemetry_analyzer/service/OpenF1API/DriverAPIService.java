@@ -1,32 +1,28 @@
 package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
 
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
 import com.f1telemetry.race_telemetry_analyzer.model.Driver;
 import com.f1telemetry.race_telemetry_analyzer.model.Race;
 import com.f1telemetry.race_telemetry_analyzer.service.DriverService;
-import com.f1telemetry.race_telemetry_analyzer.service.RaceService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Semaphore;
 
 /**
  * Service responsible for fetching and managing driver data from the OpenF1 API.
  *
  * <p>This service handles asynchronous requests to the OpenF1 API to fetch driver data for a list of race sessions.
- * It supports rate-limited requests using exponential backoff and retries and performs batch upsert of drivers into the database.
+ * Requests go through the shared {@link OpenF1Client}, which paces them and retries rate-limited requests,
+ * and fetched drivers are batch upserted into the database.
  */
 @Service
 public class DriverAPIService {
@@ -35,13 +31,19 @@ public class DriverAPIService {
     private DriverService driverService;
 
     @Autowired
-    private RaceService raceService;
+    private OpenF1Client openF1Client;
 
-    private static final String DRIVER_API_BASE_URL = "https://api.openf1.org/v1/drivers?session_key=";
+    @Autowired
+    private OpenF1JsonDecoder decoder;
+
+    @Autowired
+    private ImportMetrics importMetrics;
+
+    @Autowired
+    private OpenF1Properties properties;
+
+    private static final String DRIVER_API_PATH = "/drivers?session_key=";
     private static final Logger logger = LoggerFactory.getLogger(DriverAPIService.class);
-    private static final int INITIAL_DELAY_MS = 1000;  // Initial delay for exponential backoff
-    private static final int MAX_RETRIES = 5;  // Max number of retries for rate-limited requests
-    private final HttpClient client = HttpClient.newHttpClient();
 
     /**
      * Validates driver information before processing it.
@@ -56,29 +58,26 @@ public class DriverAPIService {
     }
 
     /**
-     * Fetches drivers from the OpenF1 API for multiple race sessions.
+     * Fetches drivers from the OpenF1 API for multiple race sessions, reporting which sessions were fetched.
      *
      * @param races a list of races to fetch drivers for
+     * @param fetchedSessions receives the number of valid drivers of every session that was fetched and parsed successfully
      * @return a list of drivers imported from OpenF1
      * @throws IOException if there is an I/O error during the fetch
      * @throws InterruptedException if the thread is interrupted during the fetch
      */
-    public List<Driver> fetchDriversFromOpenF1(List<Race> races) throws IOException, InterruptedException {
+    public List<Driver> fetchDriversFromOpenF1(List<Race> races, Map<Integer, Integer> fetchedSessions) throws IOException, InterruptedException {
         List<Integer> sessionKeys = races.stream()
                 .map(Race::getSessionKey)
                 .toList();
 
         List<CompletableFuture<Void>> futures = new ArrayList<>();
         List<Driver> driversToUpsert = new ArrayList<>();
-        Semaphore semaphore = new Semaphore(3);  // Limit to 3 concurrent requests
 
+        // Request pacing and rate-limit retries are handled by the shared OpenF1Client
         for (Integer sessionKey : sessionKeys) {
-            semaphore.acquire();  // Acquire permit
-            String sessionURL = DRIVER_API_BASE_URL + sessionKey;
-
-            // Create and send the request, with retry and backoff handling
-            CompletableFuture<Void> future = sendRequest(sessionURL, sessionKey, driversToUpsert, semaphore,0, INITIAL_DELAY_MS);
-            futures.add(future);
+            String sessionURL = properties.getBaseUrl() + DRIVER_API_PATH + sessionKey;
+            futures.add(sendRequest(sessionURL, sessionKey, driversToUpsert, fetchedSessions));
         }
 
         // Wait for all futures to complete
@@ -93,77 +92,49 @@ public class DriverAPIService {
     }
 
     /**
-     * Sends an API request with retry support.
+     * Sends an API request for the drivers of one session.
      *
      * @param sessionURL the session URL for the request
      * @param sessionKey the session key to identify the request
      * @param driversToUpsert the list to collect drivers for upserting
-     * @param semaphore semaphore to limit concurrency
-     * @param retryCount the current retry count
-     * @param delayMs the delay for retrying the request
+     * @param fetchedSessions receives the driver count of the session if it is fetched successfully
      * @return a {@link CompletableFuture} that completes when the request is done
      */
-    private CompletableFuture<Void> sendRequest(String sessionURL, Integer sessionKey, List<Driver> driversToUpsert, Semaphore semaphore, int retryCount, int delayMs) {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(sessionURL))
-                .header("Accept", "application/json")
-                .build();
-        return sendRequestWithRetry(request, sessionURL, sessionKey, driversToUpsert, retryCount, delayMs)
+    private CompletableFuture<Void> sendRequest(String sessionURL, Integer sessionKey, List<Driver> driversToUpsert, Map<Integer, Integer> fetchedSessions) {
+        return openF1Client.getAsync(sessionURL)
+                .thenAccept(response -> {
+                    try (response) {
+                        if (response.statusCode() == 200) {
+                            // If the request was successful, process the drivers
+                            List<Driver> sessionDrivers = new ArrayList<>();
+                            if (processDriversResponse(response.body(), sessionDrivers)) {
+                                fetchedSessions.put(sessionKey, sessionDrivers.size());
+                            }
+                            synchronized (driversToUpsert) {
+                                driversToUpsert.addAll(sessionDrivers);
+                            }
+                        } else {
+                            logger.error("Failed to fetch drivers for session {}: response code {}", sessionKey, response.statusCode());
+                        }
+                    }
+                })
                 .exceptionally(ex -> {
                     logger.error("Request for session {} failed.", sessionKey, ex);
                     return null;
-                })
-                .whenComplete((result, ex) -> semaphore.release());  // Release the semaphore after the request is complete
-    }
-
-    /**
-     * Sends a request and retries if necessary due to rate limiting (HTTP 429).
-     *
-     * @param request the request to send
-     * @param sessionURL the session URL
-     * @param sessionKey the session key
-     * @param driversToUpsert the list of drivers to upsert
-     * @param retryCount the current retry count
-     * @param delayMs the delay between retries
-     * @return a {@link CompletableFuture} that completes when the request is done
-     */
-    private CompletableFuture<Void> sendRequestWithRetry(HttpRequest request, String sessionURL, Integer sessionKey, List<Driver> driversToUpsert, int retryCount, int delayMs) {
-        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenAccept(response -> {
-                    if (response.statusCode() == 200) {
-                        // If the request was successful, process the drivers
-                        processDriversResponse(response.body(), driversToUpsert);
-                    } else if (response.statusCode() == 429) {
-                        // If we hit a rate limit (429), handle it by retrying with exponential backoff
-                        handleRateLimit(response, request, sessionURL, sessionKey, driversToUpsert, retryCount, delayMs);
-                    } else {
-                        logger.error("Failed to fetch drivers for session {}: response code {}", sessionKey, response.statusCode());
-                    }
                 });
     }
 
     /**
      * Processes the API response and extracts valid driver data.
      *
-     * @param jsonResponse the JSON response from the API
+     * @param body the JSON response body from the API
      * @param driversToUpsert the list to collect drivers for upserting
+     * @return {@code true} if the whole response was parsed, {@code false} if parsing failed
      */
-    private void processDriversResponse(String jsonResponse, List<Driver> driversToUpsert) {
+    boolean processDriversResponse(InputStream body, List<Driver> driversToUpsert) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-
-            for (JsonNode driverNode : rootNode) {
-                String driverName = driverNode.get("full_name").asText();
-                Driver driver = new Driver(
-                        driverName,
-                        driverNode.get("broadcast_name").asText(null),
-                        driverNode.get("team_name").asText(null),
-                        driverNode.get("country_code").asText(null),
-                        driverNode.get("driver_number").asInt(0),
-                        driverNode.get("headshot_url").asText(null)
-                );
-
+            long start = System.nanoTime();
+            decoder.readDrivers(body, driver -> {
                 if (isValidDriver(driver)) {
                     synchronized (driversToUpsert) {
                         driversToUpsert.add(driver);
@@ -171,52 +142,12 @@ public class DriverAPIService {
                 } else {
                     logger.debug("Skipping invalid driver: {}", driver.toString());
                 }
-            }
+            });
+            importMetrics.parsed("drivers", start);
         } catch (IOException e) {
             logger.error("Failed to process driver data.", e);
+            return false;
         }
-    }
-
-    /**
-     * Handles rate-limiting errors by retrying the request with an exponential backoff.
-     *
-     * @param response the HTTP response
-     * @param request the request to retry
-     * @param sessionURL the session URL
-     * @param sessionKey the session key
-     * @param driversToUpsert the list of drivers to upsert
-     * @param retryCount the current retry count
-     * @param delayMs the delay between retries
-     */
-    private void handleRateLimit(HttpResponse<String> response, HttpRequest request, String sessionURL, Integer sessionKey, List<Driver> driversToUpsert, int retryCount, int delayMs) {
-        Optional<String> retryAfter = response.headers().firstValue("Retry-After");
-        int retryDelay = retryAfter.map(Integer::parseInt).orElse(delayMs);  // Default to provided delay if Retry-After is missing
-
-        logger.warn("Rate limit exceeded for session {}. Retrying after {} ms", sessionKey, retryDelay);
-
-        try {
-            Thread.sleep(retryDelay);  // Wait for the specified duration before retrying
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        if (retryCount < MAX_RETRIES) {
-            // Retry the request with an incremented retry count
-            sendRequest(sessionURL, sessionKey, driversToUpsert, new Semaphore(1), retryCount + 1, retryDelay * 2);
-        } else {
-            logger.error("Max retries reached for session {}. Skipping.", sessionKey);
-        }
-    }
-
-
-    /**
-     * Fetches drivers for all races from OpenF1 API.
-     *
-     * @return a list of drivers from OpenF1
-     * @throws IOException if there is an I/O error
-     * @throws InterruptedException if the thread is interrupted
-     */
-    public List<Driver> fetchAllDriversFromOpenF1() throws IOException, InterruptedException {
-        return fetchDriversFromOpenF1(raceService.getAllRaces());
+        return true;
     }
 }
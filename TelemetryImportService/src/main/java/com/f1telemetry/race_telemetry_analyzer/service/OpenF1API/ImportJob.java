@@ -0,0 +1,119 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One run of the OpenF1 import, submitted through {@link ImportJobService}.
+ *
+ * <p>The job shares its {@link ImportReport} with the running import, so {@link #getStages()} reports the progress
+ * of every stage while the import is still running.
+ */
+public class ImportJob {
+
+    /**
+     * The lifecycle of a job: {@code QUEUED}, then {@code RUNNING}, then one of the finished statuses.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        UP_TO_DATE,
+        COMPLETED,
+        FAILED;
+
+        /**
+         * @return {@code true} if a job with this status will not change anymore
+         */
+        public boolean isFinished() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+
+    private final String id;
+    private final String trigger;
+    private final Instant submittedAt;
+    private final ImportReport report;
+    private final JsonNode latestSession;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    ImportJob(String id, String trigger, ImportReport report, JsonNode latestSession) {
+        this.id = id;
+        this.trigger = trigger;
+        this.submittedAt = Instant.now();
+        this.report = report;
+        this.latestSession = latestSession;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return what submitted the job, ex. {@code startup} or {@code api}
+     */
+    public String getTrigger() {
+        return trigger;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return the message of the error that stopped the import, or {@code null}
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return the progress of every stage with recorded work so far
+     */
+    public List<ImportReport.StageProgress> getStages() {
+        return report.progress();
+    }
+
+    ImportReport report() {
+        return report;
+    }
+
+    /**
+     * @return the latest session row the job was submitted with, or {@code null} if the import fetches it
+     */
+    JsonNode latestSession() {
+        return latestSession;
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void finished(Status outcome) {
+        finishedAt = Instant.now();
+        status = outcome;
+    }
+
+    void failed(Throwable cause) {
+        error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        finished(Status.FAILED);
+    }
+}
@@ -0,0 +1,132 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs OpenF1 imports as background jobs, one at a time.
+ *
+ * <p>Imports run on a dedicated thread, so neither application startup nor the HTTP thread that triggers an import
+ * waits for OpenF1. Submitting while a job is queued or running returns that job instead of starting another one:
+ * a second import would only repeat the same requests against the same checkpoints.
+ *
+ * <p>The last {@value #RETAINED_JOBS} jobs are kept in memory for progress queries.
+ */
+@Service
+public class ImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+
+    static final int RETAINED_JOBS = 20;
+
+    private final ImportService importService;
+    private final ImportMetrics importMetrics;
+    private final Executor executor;
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    };
+    private ImportJob current;
+
+    @Autowired
+    public ImportJobService(ImportService importService, ImportMetrics importMetrics) {
+        this(importService, importMetrics, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "openf1-import");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    ImportJobService(ImportService importService, ImportMetrics importMetrics, Executor executor) {
+        this.importService = importService;
+        this.importMetrics = importMetrics;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts an import in the background, unless one is already queued or running.
+     *
+     * @param trigger what requested the import, ex. {@code api}
+     * @return the new job, or the unfinished job the request was coalesced into
+     */
+    public ImportJob submit(String trigger) {
+        return submit(trigger, null);
+    }
+
+    /**
+     * Starts an import of an already fetched latest session in the background, unless one is already queued or running.
+     *
+     * @param trigger what requested the import, ex. {@code poller}
+     * @param latestSession the latest session row from OpenF1, reused by the import instead of fetching it again,
+     *                      or {@code null} to let the import fetch it
+     * @return the new job, or the unfinished job the request was coalesced into
+     */
+    public synchronized ImportJob submit(String trigger, JsonNode latestSession) {
+        if (current != null && !current.getStatus().isFinished()) {
+            logger.info("Import requested by {} joins running import job {}.", trigger, current.getId());
+            return current;
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), trigger, new ImportReport(importMetrics), latestSession);
+        jobs.put(job.getId(), job);
+        current = job;
+        logger.info("Import job {} submitted by {}.", job.getId(), trigger);
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * @param id the id of a job
+     * @return the job, if it is one of the retained jobs
+     */
+    public synchronized Optional<ImportJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * @return the retained jobs, most recent first
+     */
+    public synchronized List<ImportJob> findRecent() {
+        List<ImportJob> recent = new ArrayList<>(jobs.values());
+        Collections.reverse(recent);
+        return recent;
+    }
+
+    void run(ImportJob job) {
+        job.started();
+        try {
+            job.finished(importService.importData(job.report(), job.latestSession()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.failed(e);
+        } catch (Exception e) {
+            logger.error("Import job {} failed.", job.getId(), e);
+            job.failed(e);
+        }
+        logger.info("Import job {} finished: {}.", job.getId(), job.getStatus());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Collects timings of the stages of one import.
+ *
+ * <p>Stages that process several units (ex. one lap fetch per session) are merged: the report keeps the first start,
+ * the last end, the summed busy time and the number of items processed. The critical path is derived from
+ * {@link ImportStage#getDependencies()} by walking back from the last stage to finish.
+ *
+ * <p>When created with {@link ImportMetrics}, every recorded unit is also published as an {@code import.stage} timing.
+ */
+public class ImportReport {
+
+    private final Map<ImportStage, StageTiming> timings = new EnumMap<>(ImportStage.class);
+    private final ImportMetrics metrics;
+
+    public ImportReport() {
+        this(null);
+    }
+
+    /**
+     * @param metrics the metrics receiving every recorded unit, or {@code null} to keep the timings in the report only
+     */
+    public ImportReport(ImportMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Runs a synchronous stage and records its timing.
+     *
+     * @param stage the stage being run
+     * @param task the work of the stage
+     * @param <T> the result type
+     * @return the result of {@code task}
+     * @throws Exception if {@code task} fails
+     */
+    public <T> T time(ImportStage stage, Callable<T> task) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            record(stage, start, 0);
+        }
+    }
+
+    /**
+     * Records one unit of work of a stage, ending now.
+     *
+     * @param stage the stage the unit belongs to
+     * @param startNanos the {@link System#nanoTime()} at which the unit started
+     * @param items the number of items (ex. laps) the unit processed
+     */
+    public synchronized void record(ImportStage stage, long startNanos, int items) {
+        long end = System.nanoTime();
+        timings.computeIfAbsent(stage, key -> new StageTiming()).add(startNanos, end, items);
+        if (metrics != null) {
+            metrics.stageUnit(stage, end - startNanos, items);
+        }
+    }
+
+    /**
+     * @param stage the stage
+     * @return the number of items recorded for the stage
+     */
+    public synchronized long items(ImportStage stage) {
+        StageTiming timing = timings.get(stage);
+        return timing != null ? timing.items : 0;
+    }
+
+    /**
+     * Snapshots the stages recorded so far; while the import runs, each stage reflects its units completed so far.
+     *
+     * @return the progress of every stage with recorded work, in stage order
+     */
+    public synchronized List<StageProgress> progress() {
+        List<StageProgress> progress = new ArrayList<>(timings.size());
+        timings.forEach((stage, timing) -> progress.add(new StageProgress(stage, timing.units, timing.items,
+                timing.wall().toMillis(), timing.busy().toMillis(), timing.itemsPerSecond())));
+        return progress;
+    }
+
+    /**
+     * Builds the chain of dependent stages that determined when the import finished.
+     *
+     * @return the critical path, from the first stage to the last one to finish
+     */
+    public synchronized List<ImportStage> criticalPath() {
+        List<ImportStage> path = new ArrayList<>();
+        ImportStage current = latest(List.of(ImportStage.values()));
+        while (current != null) {
+            path.add(current);
+            current = latest(current.getDependencies());
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * @return a one-line summary of every recorded stage followed by the critical path
+     */
+    public synchronized String summary() {
+        StringBuilder summary = new StringBuilder("Import stages:");
+        timings.forEach((stage, timing) -> summary.append(String.format(" [%s: wall %d ms, busy %d ms, %d units, %d items]",
+                stage.displayName(), timing.wall().toMillis(), timing.busy().toMillis(), timing.units, timing.items)));
+
+        List<ImportStage> path = criticalPath();
+        if (!path.isEmpty()) {
+            long total = timings.get(path.getLast()).lastEnd - timings.get(path.getFirst()).firstStart;
+            summary.append(" Critical path: ")
+                    .append(String.join(" -> ", path.stream().map(ImportStage::displayName).toList()))
+                    .append(String.format(" (%d ms)", Duration.ofNanos(total).toMillis()));
+        }
+        return summary.toString();
+    }
+
+    private ImportStage latest(List<ImportStage> candidates) {
+        ImportStage latest = null;
+        for (ImportStage stage : candidates) {
+            ImportStage recorded = timings.containsKey(stage) ? stage : latest(stage.getDependencies());  // Looks past stages with no work
+            if (recorded != null && (latest == null || timings.get(recorded).lastEnd > timings.get(latest).lastEnd)) {
+                latest = recorded;
+            }
+        }
+        return latest;
+    }
+
+    private static final class StageTiming {
+        private long firstStart = Long.MAX_VALUE;
+        private long lastEnd = Long.MIN_VALUE;
+        private long busyNanos;
+        private int units;
+        private long items;
+
+        void add(long start, long end, int itemCount) {
+            firstStart = Math.min(firstStart, start);
+            lastEnd = Math.max(lastEnd, end);
+            busyNanos += end - start;
+            units++;
+            items += itemCount;
+        }
+
+        Duration wall() {
+            return Duration.ofNanos(lastEnd - firstStart);
+        }
+
+        Duration busy() {
+            return Duration.ofNanos(busyNanos);
+        }
+
+        double itemsPerSecond() {
+            long wallNanos = lastEnd - firstStart;
+            return wallNanos > 0 ? items * 1e9 / wallNanos : 0;
+        }
+    }
+
+    /**
+     * The progress of one stage.
+     *
+     * @param stage the stage
+     * @param units the number of units of work completed (ex. one per session)
+     * @param items the number of items processed by those units (ex. laps)
+     * @param wallMillis the time from the start of the first unit to the end of the last one
+     * @param busyMillis the summed duration of the units
+     * @param itemsPerSecond the throughput of the stage over its wall time
+     */
+    public record StageProgress(ImportStage stage, int units, long items, long wallMillis, long busyMillis, double itemsPerSecond) {
+    }
+}
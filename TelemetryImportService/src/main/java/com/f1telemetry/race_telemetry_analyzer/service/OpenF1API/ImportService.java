@@ -1,19 +1,59 @@
 package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
 
 
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
 import com.f1telemetry.race_telemetry_analyzer.model.*;
+import com.f1telemetry.race_telemetry_analyzer.model.ImportCheckpoint.EntityType;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportCheckpointService;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.f1telemetry.race_telemetry_analyzer.service.LapService;
+import com.f1telemetry.race_telemetry_analyzer.service.PositionService;
+import com.f1telemetry.race_telemetry_analyzer.service.ReadThroughCache;
+import com.f1telemetry.race_telemetry_analyzer.service.SessionSummaryService;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Service for importing race telemetry data from the OpenF1 API.
  *
  * <p>This service is responsible for orchestrating the import of races, drivers, laps, and positions,
  * and updating the latest session information in the system.
+ *
+ * <p>The import follows the dependency graph of {@link ImportStage}. Races and drivers are imported first; then
+ * every race's laps and positions are fetched concurrently, each bounded by its own {@code openf1.import.*-concurrency}
+ * setting, and each race is persisted on a dedicated pool as soon as it has been fetched. Stage timings and
+ * the critical path are logged once the import finishes.
+ *
+ * <p>Every (session, entity type) unit is checkpointed through {@link ImportCheckpointService}. Units completed by an
+ * earlier import are skipped, and the latest session is only updated once every unit has completed, so an
+ * interrupted import resumes where it stopped. A unit is only checkpointed as completed once its race ended more
+ * than {@code openf1.poll.settle} ago and it returned items: the race list can hold races that are scheduled but
+ * have not run yet, whose fetches come back empty, and those are left pending for a later import.
+ *
+ * <p>Each import and every unit of its stages are also recorded in {@link ImportMetrics}.
  */
 @Service
 public class ImportService {
@@ -25,13 +65,49 @@ public class ImportService {
     private final LapAPIService lapAPIService;
     private final LatestSessionService latestSessionService;
     private final PositionAPIService positionAPIService;
+    private final LapService lapService;
+    private final PositionService positionService;
+    private final ImportCheckpointService checkpointService;
+    private final SessionSummaryService sessionSummaryService;
+    private final ReadThroughCache readThroughCache;
+    private final ImportMetrics importMetrics;
+    private final OpenF1Properties properties;
+    private final ExecutorService persistExecutor;
+    private final Clock clock;
+
+    @Autowired
+    public ImportService(RaceAPIService raceAPIService, DriverAPIService driverAPIService, LapAPIService lapAPIService, LatestSessionService latestSessionService, PositionAPIService positionAPIService,
+                         LapService lapService, PositionService positionService, ImportCheckpointService checkpointService,
+                         SessionSummaryService sessionSummaryService, ReadThroughCache readThroughCache, ImportMetrics importMetrics,
+                         OpenF1Properties properties) {
+        this(raceAPIService, driverAPIService, lapAPIService, latestSessionService, positionAPIService, lapService, positionService,
+                checkpointService, sessionSummaryService, readThroughCache, importMetrics, properties, Clock.systemUTC());
+    }
 
-    public ImportService(RaceAPIService raceAPIService, DriverAPIService driverAPIService, LapAPIService lapAPIService, LatestSessionService latestSessionService, PositionAPIService positionAPIService) {
+    ImportService(RaceAPIService raceAPIService, DriverAPIService driverAPIService, LapAPIService lapAPIService, LatestSessionService latestSessionService, PositionAPIService positionAPIService,
+                  LapService lapService, PositionService positionService, ImportCheckpointService checkpointService,
+                  SessionSummaryService sessionSummaryService, ReadThroughCache readThroughCache, ImportMetrics importMetrics,
+                  OpenF1Properties properties, Clock clock) {
         this.raceAPIService = raceAPIService;
         this.driverAPIService = driverAPIService;
         this.lapAPIService = lapAPIService;
         this.latestSessionService = latestSessionService;
         this.positionAPIService = positionAPIService;
+        this.lapService = lapService;
+        this.positionService = positionService;
+        this.checkpointService = checkpointService;
+        this.sessionSummaryService = sessionSummaryService;
+        this.readThroughCache = readThroughCache;
+        this.importMetrics = importMetrics;
+        this.properties = properties;
+        this.clock = clock;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.persistExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getImport().getPersistConcurrency()), runnable -> {
+            Thread thread = new Thread(runnable, "openf1-persist-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
 
@@ -40,44 +116,270 @@ public class ImportService {
      * Check if new race telemetry is available using {@code latestSessionService}.
      * If so, import new races, drivers, laps, and positions.
      * Finally, updates the latest session to avoid duplicate imports.
-     * Triggered on application startup from config/StartupImportConfig
+     * Run in the background by {@link ImportJobService}, which reads the progress of every stage from {@code report}.
+     * The latest session is fetched once per import; the same row is saved once the import completes.
      *
-     * @throws IOException If an I/O error occurs during data fetching.
-     * @throws InterruptedException If the thread is interrupted during data fetching.
+     * @param report the report receiving the timing and item count of every unit of work as it completes
+     * @param latestSessionFromAPI the latest session row if the caller already fetched it, or {@code null} to fetch it
+     * @return {@link ImportJob.Status#UP_TO_DATE} if no new session was available, else {@link ImportJob.Status#COMPLETED}
+     * @throws IOException If an I/O error occurs while checking for a new session or importing it.
+     * @throws InterruptedException If the thread is interrupted while checking for a new session or importing it.
+     * @throws IllegalStateException If some sessions could not be imported; they are checkpointed as failed.
      */
-    public void importData() throws IOException, InterruptedException {
-        if (latestSessionService.isNewSessionAvailable()) {
+    public ImportJob.Status importData(ImportReport report, JsonNode latestSessionFromAPI) throws IOException, InterruptedException {
+        JsonNode latestSessionRow = latestSessionFromAPI != null ? latestSessionFromAPI : latestSessionService.fetchLatestSession();
+        ImportJob.Status status = ImportJob.Status.UP_TO_DATE;
+        if (latestSessionService.isNewSession(latestSessionRow)) {
             logger.info("New session found, beginning import.");
+            long start = System.nanoTime();
+            status = ImportJob.Status.FAILED;
             try {
                 // Import races
                 logger.info("Beginning race import from OpenF1API...");
-                List<Race> races = raceAPIService.fetchRacesFromOpenF1();
+                List<Race> races = report.time(ImportStage.RACES, raceAPIService::fetchRacesFromOpenF1);
                 logger.info("{} races imported.", races.size());
 
                 // Import drivers
                 logger.info("Beginning driver import from OpenF1API...");
-                List<Driver> drivers = driverAPIService.fetchDriversFromOpenF1(races);
+                List<Driver> drivers = report.time(ImportStage.DRIVERS, () -> importDrivers(races));
                 logger.info("{} drivers imported.", drivers.size());
 
-                // Import laps
-                logger.info("Beginning lap import from OpenF1API...");
-                List<Lap> laps = lapAPIService.fetchLapsFromOpenF1(races, drivers);
-                logger.info("{} laps imported.", laps.size());
-
-                // Import positions
-                logger.info("Beginning position import from OpenF1API...");
-                List<Position> positions = positionAPIService.fetchPositionsFromOpenF1(races, drivers);
-                logger.info("{} positions imported.", positions.size());
+                // Import laps and positions side by side, persisting and summarizing each race as soon as it is fetched
+                logger.info("Beginning lap and position import from OpenF1API...");
+                importSessions(races, drivers, report);
+                logger.info("{} laps imported.", report.items(ImportStage.LAP_PERSIST));
+                logger.info("{} positions imported.", report.items(ImportStage.POSITION_PERSIST));
+                logger.info("{} driver summaries built.", report.items(ImportStage.SESSION_SUMMARY));
 
                 // Update latest session
-                LatestSession latestSession = latestSessionService.updateLatestSession();
+                LatestSession latestSession = report.time(ImportStage.LATEST_SESSION, () -> latestSessionService.updateLatestSession(latestSessionRow));
                 logger.info("Latest session updated to {}", latestSession.getSessionName());
+                status = ImportJob.Status.COMPLETED;
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                logger.error("Error occurred during OpenF1 import: ", e);
+                throw e;  // ImportJobService fails the job with this as its error
             } catch (Exception e) {
                 logger.error("Error occurred during OpenF1 import: ", e);
+                throw new IllegalStateException(e.getMessage(), e);
+            } finally {
+                readThroughCache.invalidateAll();  // Even a failed import may have committed some sessions
+                importMetrics.importFinished(status == ImportJob.Status.COMPLETED ? "success" : "failure", System.nanoTime() - start);
+                logger.info(report.summary());
             }
         } else {
             logger.info("No new sessions found, data is up to date");
         }
         logger.info("OpenF1 import completed");
+        return status;
+    }
+
+    /**
+     * Imports the drivers of every race whose drivers have not been imported yet and checkpoints each session.
+     *
+     * <p>Races that have not settled are left pending. A session that returned no drivers is checkpointed as failed,
+     * so its laps and positions wait for a later import.
+     *
+     * @param races the races to import drivers for
+     * @return every driver in the database
+     * @throws IOException if an I/O error occurs during data fetching
+     * @throws InterruptedException if the thread is interrupted during data fetching
+     */
+    List<Driver> importDrivers(List<Race> races) throws IOException, InterruptedException {
+        List<Race> pending = pendingRaces(settledRaces(races), EntityType.DRIVERS);
+        Map<Integer, Integer> fetchedSessions = new ConcurrentHashMap<>();
+        List<Driver> drivers = driverAPIService.fetchDriversFromOpenF1(pending, fetchedSessions);
+
+        // The drivers are upserted once all sessions are fetched, so checkpoints are only written afterwards
+        for (Race race : pending) {
+            Integer driverCount = fetchedSessions.get(race.getSessionKey());
+            if (driverCount == null) {
+                checkpointService.markFailed(race.getSessionKey(), EntityType.DRIVERS, new IOException("Driver request failed"));
+            } else if (driverCount == 0) {
+                checkpointService.markFailed(race.getSessionKey(), EntityType.DRIVERS, new IOException("No drivers returned"));
+            } else {
+                checkpointService.markCompleted(race.getSessionKey(), EntityType.DRIVERS, driverCount);
+            }
+        }
+        return drivers;
+    }
+
+    /**
+     * Runs the per-race lap and position pipelines and waits for every race to be persisted and summarized.
+     *
+     * <p>Races whose laps or positions were completed by an earlier import are skipped for that entity type. Laps and
+     * positions are kept only for known drivers, so races whose drivers have not been imported are not fetched: their
+     * units are checkpointed as failed and retried once the drivers are in. Only races touched by this import, or
+     * whose summary is missing, are summarized again. Races that have not settled are left pending.
+     *
+     * @param importedRaces the races to import
+     * @param drivers the drivers whose laps and positions are kept
+     * @param report the report receiving the timing of every fetch, persist and summary
+     * @throws IllegalStateException if any unit failed; those units are retried by the next import
+     */
+    void importSessions(List<Race> importedRaces, List<Driver> drivers, ImportReport report) {
+        List<Race> races = settledRaces(importedRaces);
+        Set<Integer> driverNumbers = drivers.stream()
+                .map(Driver::getDriverNumber)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        BoundedStage lapFetches = new BoundedStage(properties.getImport().getLapConcurrency());
+        BoundedStage positionFetches = new BoundedStage(properties.getImport().getPositionConcurrency());
+        Set<Integer> driversImported = checkpointService.getCompletedSessionKeys(EntityType.DRIVERS);
+        List<CompletableFuture<Boolean>> pipelines = new ArrayList<>();
+        Map<Integer, List<CompletableFuture<Boolean>>> unitsBySession = new HashMap<>();
+
+        for (Race race : pendingRaces(races, EntityType.LAPS)) {
+            CompletableFuture<Boolean> laps = driversImported.contains(race.getSessionKey())
+                    ? runPipeline(race, EntityType.LAPS, lapFetches,
+                            () -> lapAPIService.fetchLapsForSession(race, driverNumbers), lapService::addLaps,
+                            ImportStage.LAP_FETCH, ImportStage.LAP_PERSIST, report)
+                    : skipWithoutDrivers(race, EntityType.LAPS);
+            pipelines.add(laps);
+            unitsBySession.computeIfAbsent(race.getSessionKey(), key -> new ArrayList<>()).add(laps);
+        }
+        for (Race race : pendingRaces(races, EntityType.POSITIONS)) {
+            CompletableFuture<Boolean> positions = driversImported.contains(race.getSessionKey())
+                    ? runPipeline(race, EntityType.POSITIONS, positionFetches,
+                            () -> positionAPIService.fetchPositionsForSession(race, driverNumbers),
+                            samples -> positionService.replacePositionHistory(race.getSessionKey(), samples),
+                            ImportStage.POSITION_FETCH, ImportStage.POSITION_PERSIST, report)
+                    : skipWithoutDrivers(race, EntityType.POSITIONS);
+            pipelines.add(positions);
+            unitsBySession.computeIfAbsent(race.getSessionKey(), key -> new ArrayList<>()).add(positions);
+        }
+
+        // Summarize the sessions touched by this import, plus any whose summary is missing or failed
+        Set<Integer> summarized = checkpointService.getCompletedSessionKeys(EntityType.SUMMARIES);
+        for (Race race : races) {
+            List<CompletableFuture<Boolean>> units = unitsBySession.getOrDefault(race.getSessionKey(), List.of());
+            if (!units.isEmpty() || !summarized.contains(race.getSessionKey())) {
+                pipelines.add(summarize(race.getSessionKey(), units, report));
+            }
+        }
+
+        CompletableFuture.allOf(pipelines.toArray(new CompletableFuture[0])).join();
+
+        long failed = pipelines.stream().filter(pipeline -> !pipeline.join()).count();
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " session imports failed and will be retried by the next import");
+        }
+    }
+
+    /**
+     * Fetches one unit on its stage, persists it on the persistence pool and checkpoints the outcome.
+     *
+     * <p>A unit that returned no items is not checkpointed, so the next import fetches it again.
+     *
+     * @return a {@link CompletableFuture} completing with {@code true} if the unit completed, {@code false} if it failed
+     */
+    private <T> CompletableFuture<Boolean> runPipeline(Race race, EntityType entityType, BoundedStage fetches,
+                                                       Supplier<CompletableFuture<List<T>>> fetch, Consumer<List<T>> persist,
+                                                       ImportStage fetchStage, ImportStage persistStage, ImportReport report) {
+        Integer sessionKey = race.getSessionKey();
+        CompletableFuture<List<T>> fetched = fetches.submit(() -> {
+            long start = System.nanoTime();
+            return fetch.get().whenComplete((items, ex) -> report.record(fetchStage, start, items != null ? items.size() : 0));
+        });
+
+        return fetched.thenApplyAsync(items -> {
+            long start = System.nanoTime();
+            persist.accept(items);
+            report.record(persistStage, start, items.size());
+            if (!items.isEmpty()) {
+                checkpointService.markCompleted(sessionKey, entityType, items.size());
+            } else {
+                logger.warn("No {} returned for session {}; leaving it pending.", entityType, sessionKey);
+            }
+            return true;
+        }, persistExecutor).exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            logger.error("Import of {} for session {} failed.", entityType, sessionKey, cause);
+            try {
+                checkpointService.markFailed(sessionKey, entityType, cause);
+            } catch (RuntimeException e) {
+                logger.error("Could not record the failed checkpoint of {} for session {}.", entityType, sessionKey, e);
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Checkpoints a unit as failed without fetching it, because the drivers of its session are not imported.
+     *
+     * @return a completed {@link CompletableFuture} of {@code false}
+     */
+    private CompletableFuture<Boolean> skipWithoutDrivers(Race race, EntityType entityType) {
+        Integer sessionKey = race.getSessionKey();
+        logger.warn("Skipping {} of session {}: its drivers have not been imported.", entityType, sessionKey);
+        try {
+            checkpointService.markFailed(sessionKey, entityType, new IllegalStateException("Drivers of session " + sessionKey + " not imported"));
+        } catch (RuntimeException e) {
+            logger.error("Could not record the failed checkpoint of {} for session {}.", entityType, sessionKey, e);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * Rebuilds the summary of a session on the persistence pool once its units of this import are persisted.
+     *
+     * <p>If one of those units failed the summary is skipped; the unit is retried by the next import, which touches
+     * the session again.
+     *
+     * @return a {@link CompletableFuture} completing with {@code false} if the summary failed, {@code true} otherwise
+     */
+    private CompletableFuture<Boolean> summarize(Integer sessionKey, List<CompletableFuture<Boolean>> units, ImportReport report) {
+        return CompletableFuture.allOf(units.toArray(new CompletableFuture[0])).thenApplyAsync(ignored -> {
+            if (!units.stream().allMatch(CompletableFuture::join)) {
+                return true;  // The failed unit is already counted
+            }
+            long start = System.nanoTime();
+            SessionSummary summary = sessionSummaryService.rebuild(sessionKey);
+            report.record(ImportStage.SESSION_SUMMARY, start, summary.getDrivers().size());
+            checkpointService.markCompleted(sessionKey, EntityType.SUMMARIES, summary.getDrivers().size());
+            return true;
+        }, persistExecutor).exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            logger.error("Summary of session {} failed.", sessionKey, cause);
+            try {
+                checkpointService.markFailed(sessionKey, EntityType.SUMMARIES, cause);
+            } catch (RuntimeException e) {
+                logger.error("Could not record the failed summary checkpoint of session {}.", sessionKey, e);
+            }
+            return false;
+        });
+    }
+
+    /**
+     * @return the races that ended more than {@code openf1.poll.settle} ago, so OpenF1 has all of their data
+     */
+    private List<Race> settledRaces(List<Race> races) {
+        Instant settledBefore = clock.instant().minus(properties.getPoll().getSettle());
+        List<Race> settled = races.stream()
+                .filter(race -> race.getDateEnd() != null && race.getDateEnd().isBefore(settledBefore))
+                .toList();
+        if (settled.size() < races.size()) {
+            logger.info("Leaving {} of {} sessions pending until they have ended.", races.size() - settled.size(), races.size());
+        }
+        return settled;
+    }
+
+    /**
+     * @return the races whose import of {@code entityType} has not completed yet
+     */
+    private List<Race> pendingRaces(List<Race> races, EntityType entityType) {
+        Set<Integer> completed = checkpointService.getCompletedSessionKeys(entityType);
+        List<Race> pending = races.stream()
+                .filter(race -> !completed.contains(race.getSessionKey()))
+                .toList();
+        if (pending.size() < races.size()) {
+            logger.info("Skipping {} of {} sessions with {} already imported.", races.size() - pending.size(), races.size(), entityType);
+        }
+        return pending;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persistExecutor.shutdown();
     }
 }
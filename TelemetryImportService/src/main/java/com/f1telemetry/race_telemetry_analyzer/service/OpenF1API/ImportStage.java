@@ -0,0 +1,41 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import java.util.List;
+
+/**
+ * The stages of an OpenF1 import and the stages each one depends on.
+ *
+ * <p>Together they form the import's dependency graph: laps and positions both only need the drivers, so their
+ * fetch and persist stages run side by side. A session is summarized once both are persisted, and the latest
+ * session is updated once every session is summarized.
+ */
+public enum ImportStage {
+    RACES,
+    DRIVERS(RACES),
+    LAP_FETCH(DRIVERS),
+    LAP_PERSIST(LAP_FETCH),
+    POSITION_FETCH(DRIVERS),
+    POSITION_PERSIST(POSITION_FETCH),
+    SESSION_SUMMARY(LAP_PERSIST, POSITION_PERSIST),
+    LATEST_SESSION(SESSION_SUMMARY);
+
+    private final List<ImportStage> dependencies;
+
+    ImportStage(ImportStage... dependencies) {
+        this.dependencies = List.of(dependencies);
+    }
+
+    /**
+     * @return the stages that must finish before this stage can finish
+     */
+    public List<ImportStage> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * @return a readable stage name for logs, ex. "lap fetch"
+     */
+    public String displayName() {
+        return name().toLowerCase().replace('_', ' ');
+    }
+}
@@ -0,0 +1,49 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link OpenF1HttpTransport} backed by a single shared JDK {@link HttpClient}.
+ *
+ * <p>The client keeps idle connections alive in its internal pool and prefers HTTP/2, so requests to
+ * api.openf1.org are multiplexed over an already established TLS connection.
+ */
+public class JdkOpenF1HttpTransport implements OpenF1HttpTransport {
+
+    private final HttpClient client;
+    private final Duration responseTimeout;
+
+    public JdkOpenF1HttpTransport(Duration connectTimeout, Duration responseTimeout) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.responseTimeout = responseTimeout;
+    }
+
+    @Override
+    public CompletableFuture<OpenF1Response> getAsync(String url) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(responseTimeout)
+                .header("Accept", "application/json")
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> new OpenF1Response(
+                        response.statusCode(),
+                        response.body(),
+                        response.headers().firstValue("Retry-After")
+                ));
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
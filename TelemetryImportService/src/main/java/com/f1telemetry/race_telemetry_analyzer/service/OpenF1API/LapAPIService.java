@@ -1,158 +1,96 @@
 package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
 
-import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
 import com.f1telemetry.race_telemetry_analyzer.model.Lap;
 import com.f1telemetry.race_telemetry_analyzer.model.Race;
-import com.f1telemetry.race_telemetry_analyzer.service.LapService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 /**
  * Service for interacting with the OpenF1 API to fetch and manage lap data.
  *
  * <p>This service is responsible for sending requests to the OpenF1 API to retrieve lap data
- * for specific sessions and drivers, and managing asynchronous persistence.
+ * for specific sessions. Every lap of a session is requested in a single call and split by driver locally;
+ * persistence is left to the caller.
  */
 @Service
 public class LapAPIService {
 
-    private final LapService lapService;
+    private final OpenF1Client openF1Client;
+    private final OpenF1JsonDecoder decoder;
+    private final ImportMetrics importMetrics;
+    private final OpenF1Properties properties;
 
     private static final Logger logger = LoggerFactory.getLogger(LapAPIService.class);
 
-    private static final String LAP_API_URL_TEMPLATE = "https://api.openf1.org/v1/laps?session_key=%d&driver_number=%d";
+    private static final String SESSION_LAP_API_PATH_TEMPLATE = "/laps?session_key=%d";
 
-    public LapAPIService(LapService lapService) {
-        this.lapService = lapService;
+    public LapAPIService(OpenF1Client openF1Client, OpenF1JsonDecoder decoder, ImportMetrics importMetrics, OpenF1Properties properties) {
+        this.openF1Client = openF1Client;
+        this.decoder = decoder;
+        this.importMetrics = importMetrics;
+        this.properties = properties;
     }
 
     /**
-     * Fetches laps from the OpenF1 API for a specific session and driver.
+     * Fetches every lap of a session from the OpenF1 API in a single request and groups them by driver number.
      *
      * @param sessionKey the session key identifying the race session
-     * @param driverNumber the driver's number
-     * @return a list of laps for the specified session and driver
-     * @throws IOException if an I/O error occurs during data fetching
-     * @throws InterruptedException if the thread is interrupted during data fetching
-     * @throws ExecutionException if an error occurs during the execution of an asynchronous task
+     * @return a {@link CompletableFuture} completing with the session's laps keyed by driver number,
+     *         or completing exceptionally if the request or parsing fails
      */
-    public List<Lap> fetchLapsBySessionAndDriverFromOpenF1(Integer sessionKey, Integer driverNumber) throws IOException, InterruptedException, ExecutionException {
-        HttpClient client = HttpClient.newHttpClient();
-
-        String lapApiUrl = String.format(LAP_API_URL_TEMPLATE, sessionKey, driverNumber);
-
-        // Create the HttpRequest
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(lapApiUrl))
-                .header("Accept", "application/json")
-                .build();
-
-        // Send the request asynchronously and handle the response
-        CompletableFuture<HttpResponse<String>> futureResponse = client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
-
-        // Process the response
-        List<Lap> lapsToAdd = new ArrayList<>();
-        futureResponse.thenAccept(response -> {
-            if (response.statusCode() == 200) {
-                String jsonResponse = response.body();
-
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode rootNode = objectMapper.readTree(jsonResponse);
-
-                    for (JsonNode lapNode : rootNode) {
-                        Lap lap = new Lap(
-                                sessionKey,
-                                driverNumber,
-                                lapNode.get("lap_number").asInt(),
-                                // Use null checks for remaining fields
-                                lapNode.hasNonNull("lap_duration") ? lapNode.get("lap_duration").floatValue() : 0.0f,
-                                lapNode.hasNonNull("duration_sector_1") ? lapNode.get("duration_sector_1").floatValue() : 0.0f,
-                                lapNode.hasNonNull("duration_sector_2") ? lapNode.get("duration_sector_2").floatValue() : 0.0f,
-                                lapNode.hasNonNull("duration_sector_3") ? lapNode.get("duration_sector_3").floatValue() : 0.0f,
-                                Objects.equals(lapNode.get("is_pit_out_lap").asText(), "true"),
-                                lapNode.hasNonNull("st_speed") ? lapNode.get("st_speed").asInt() : 0
-                        );
-                        lapsToAdd.add(lap);
-                    }
-                } catch (IOException e) {
-                    logger.error("Error parsing lap json for driver {} session {} error code: {}", driverNumber, sessionKey, e.getMessage());
+    public CompletableFuture<Map<Integer, List<Lap>>> fetchLapsBySessionFromOpenF1(Integer sessionKey) {
+        String lapApiUrl = properties.getBaseUrl() + String.format(SESSION_LAP_API_PATH_TEMPLATE, sessionKey);
+
+        return openF1Client.getAsync(lapApiUrl).thenCompose(response -> {
+            Map<Integer, List<Lap>> lapsByDriver = new HashMap<>();
+            try (response) {
+                if (response.statusCode() != 200) {
+                    throw new IOException("Failed to fetch laps for session " + sessionKey + ". Response code: " + response.statusCode());
                 }
-            } else {
-                logger.error("Failed to fetch laps for driver {} session {}. Response code: {} ", driverNumber, sessionKey, response.statusCode());
+                long start = System.nanoTime();
+                decoder.readLaps(response.body(), lap ->
+                        lapsByDriver.computeIfAbsent(lap.getDriverNumber(), key -> new ArrayList<>()).add(lap));
+                importMetrics.parsed("laps", start);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
             }
-        }).get();  // Wait for the CompletableFuture to complete
-
-
-        logger.debug("{} laps to be added for driver {} on session {}", lapsToAdd.size(), driverNumber, sessionKey);
-        return lapsToAdd;
+            return CompletableFuture.completedFuture(lapsByDriver);
+        });
     }
 
     /**
-     * Fetches all laps for a specified set of races and drivers from the OpenF1 API.
+     * Fetches the laps of one race for the given drivers.
+     *
+     * <p>The whole session is fetched with one request and laps of drivers that are not in {@code driverNumbers}
+     * are dropped. Nothing is persisted, so callers can pipeline persistence on their own executor.
      *
-     * @param races a list of races to fetch laps for
-     * @param drivers a list of drivers to fetch laps for
-     * @return a list of all laps across all races
-     * @throws IOException if an I/O error occurs during data fetching
-     * @throws ExecutionException if an error occurs during the execution of an asynchronous task
-     * @throws InterruptedException if the thread is interrupted during data fetching
+     * @param race the race to fetch laps for
+     * @param driverNumbers the numbers of the drivers whose laps are kept
+     * @return a {@link CompletableFuture} completing with the race's laps, or completing exceptionally if the request fails
      */
-    public List<Lap> fetchLapsFromOpenF1(List<Race> races, List<Driver> drivers) throws IOException, ExecutionException, InterruptedException {
-        List<Lap> allLaps = new ArrayList<>(); // This will store all laps across all races
-        List<CompletableFuture<Void>> futures = new ArrayList<>();  // To keep track of asynchronous persistence
-
-        // Iterate over every race
-        for (Race race : races) {
-            Integer sessionKey = race.getSessionKey();  // Get the session key from the race
-            List<Lap> raceLaps = new ArrayList<>();  // Create a new list for each race
-
-            // For each race, iterate over every driver
-            for (Driver driver : drivers) {
-                Integer driverNumber = driver.getDriverNumber();  // Get the driver number from the driver
-
-                // Fetch laps for the current race and driver
-                List<Lap> lapsForThisRaceAndDriver = fetchLapsBySessionAndDriverFromOpenF1(sessionKey, driverNumber);
-
-                // Add fetched laps to the overall list of all laps
-                raceLaps.addAll(lapsForThisRaceAndDriver);
-                allLaps.addAll(lapsForThisRaceAndDriver);
-            }
-
-            logger.debug("{} laps fetched from {} {} {}", raceLaps.size(), race.getCircuitName(), race.getYear(), race.getSessionName());
-
-            // Make a copy of raceLaps before passing to the asynchronous task
-            List<Lap> lapsToPersist = new ArrayList<>(raceLaps);
-
-            // Persist the laps asynchronously and store the future in the list
-            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                lapService.addLaps(lapsToPersist);  // Persist the laps from the current race to MongoDB
-            });
-            futures.add(future);
-        }
-
-        logger.debug("{} laps from {} races to be added to MongoDB", allLaps.size(), races.size());
-
-        // Wait for all persistence operations to complete
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-
-        return allLaps;
+    public CompletableFuture<List<Lap>> fetchLapsForSession(Race race, Set<Integer> driverNumbers) {
+        return fetchLapsBySessionFromOpenF1(race.getSessionKey())
+                .thenApply(lapsByDriver -> {
+                    List<Lap> raceLaps = new ArrayList<>();
+                    lapsByDriver.forEach((driverNumber, laps) -> {
+                        if (driverNumbers.contains(driverNumber)) {
+                            raceLaps.addAll(laps);
+                        }
+                    });
+                    logger.debug("{} laps fetched from {} {} {}", raceLaps.size(), race.getCircuitName(), race.getYear(), race.getSessionName());
+                    return raceLaps;
+                });
     }
-
-
 }
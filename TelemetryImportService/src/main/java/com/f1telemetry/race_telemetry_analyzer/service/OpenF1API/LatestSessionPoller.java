@@ -0,0 +1,189 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.f1telemetry.race_telemetry_analyzer.service.RaceService;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the latest OpenF1 session and submits an import job once a new session has ended.
+ *
+ * <p>Each cycle fetches {@code sessions?session_key=latest} once. The same row decides whether a session is new, is
+ * handed to the import job so the import does not fetch it again, and feeds the calendar used to pick the next delay
+ * (see {@link #nextDelay(Instant, List, OpenF1Properties.Poll)}). {@link LatestSessionService#isNewSession} only
+ * reports a session once it ended {@code openf1.poll.settle} ago, so a running session is never imported half-way.
+ *
+ * <p>Cycles run on a single daemon thread; each one schedules the next.
+ */
+@Component
+public class LatestSessionPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatestSessionPoller.class);
+
+    private final LatestSessionService latestSessionService;
+    private final RaceService raceService;
+    private final ImportJobService importJobService;
+    private final OpenF1Properties.Poll settings;
+    private final ScheduledExecutorService scheduler;
+    private final Clock clock;
+
+    @Autowired
+    public LatestSessionPoller(LatestSessionService latestSessionService, RaceService raceService, ImportJobService importJobService,
+                               OpenF1Properties properties) {
+        this(latestSessionService, raceService, importJobService, properties, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "openf1-poller");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemUTC());
+    }
+
+    LatestSessionPoller(LatestSessionService latestSessionService, RaceService raceService, ImportJobService importJobService,
+                        OpenF1Properties properties, ScheduledExecutorService scheduler, Clock clock) {
+        this.latestSessionService = latestSessionService;
+        this.raceService = raceService;
+        this.importJobService = importJobService;
+        this.settings = properties.getPoll();
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts polling. The first cycle runs after {@code openf1.poll.live-interval}, leaving the startup import to
+     * check the latest session first.
+     */
+    public void start() {
+        logger.info("Polling the latest OpenF1 session.");
+        schedule(settings.getLiveInterval());
+    }
+
+    private void schedule(Duration delay) {
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::poll, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll() {
+        Duration delay = settings.getWeekendInterval();  // Retry cadence after a failed cycle
+        try {
+            delay = pollOnce();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            logger.warn("Polling the latest OpenF1 session failed, next attempt in {}.", delay, e);
+        }
+        schedule(delay);
+    }
+
+    /**
+     * Runs one poll cycle.
+     *
+     * @return the delay until the next cycle
+     * @throws IOException if the latest session cannot be fetched
+     * @throws InterruptedException if the thread is interrupted
+     */
+    Duration pollOnce() throws IOException, InterruptedException {
+        Instant now = clock.instant();
+        JsonNode latestSession = latestSessionService.fetchLatestSession();
+        SessionWindow latest = SessionWindow.of(latestSession);
+
+        if (latestSessionService.isNewSession(latestSession)) {
+            importJobService.submit("poller", latestSession);
+        }
+
+        List<SessionWindow> calendar = new ArrayList<>();
+        calendar.add(latest);
+        for (Race race : raceService.getAllRaces()) {
+            calendar.add(new SessionWindow(race.getDateStart(), race.getDateEnd()));
+        }
+        Duration delay = nextDelay(now, calendar, settings);
+        logger.debug("Next poll of the latest OpenF1 session in {}.", delay);
+        return delay;
+    }
+
+    /**
+     * Picks the delay until the next poll from the known sessions.
+     *
+     * <ul>
+     *   <li>{@code live-interval} while a session runs or ended less than {@code settle} ago</li>
+     *   <li>{@code weekend-interval} if a session ended or starts within {@code weekend-window}</li>
+     *   <li>{@code idle-interval} otherwise</li>
+     * </ul>
+     * The delay is shortened so the next known session start is not overslept. Sessions without dates are ignored.
+     *
+     * @param now the current time
+     * @param sessions the known sessions
+     * @param settings the polling settings
+     * @return the delay until the next poll
+     */
+    static Duration nextDelay(Instant now, List<SessionWindow> sessions, OpenF1Properties.Poll settings) {
+        boolean weekend = false;
+        Instant nextStart = null;
+        for (SessionWindow session : sessions) {
+            if (session.start() == null || session.end() == null) {
+                continue;
+            }
+            if (!now.isBefore(session.start()) && now.isBefore(session.end().plus(settings.getSettle()))) {
+                return settings.getLiveInterval();
+            }
+            if (session.start().isAfter(now)) {
+                weekend |= session.start().isBefore(now.plus(settings.getWeekendWindow()));
+                nextStart = nextStart == null || session.start().isBefore(nextStart) ? session.start() : nextStart;
+            } else {
+                weekend |= session.end().plus(settings.getWeekendWindow()).isAfter(now);
+            }
+        }
+
+        Duration delay = weekend ? settings.getWeekendInterval() : settings.getIdleInterval();
+        if (nextStart != null) {
+            Duration untilStart = Duration.between(now, nextStart);
+            if (untilStart.compareTo(delay) < 0) {
+                delay = untilStart.compareTo(settings.getLiveInterval()) > 0 ? untilStart : settings.getLiveInterval();
+            }
+        }
+        return delay;
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * The scheduled start and end of a session; either may be {@code null} if unknown.
+     */
+    record SessionWindow(Instant start, Instant end) {
+
+        static SessionWindow of(JsonNode session) {
+            return new SessionWindow(instant(session.path("date_start")), instant(session.path("date_end")));
+        }
+
+        private static Instant instant(JsonNode date) {
+            if (!date.isTextual()) {
+                return null;
+            }
+            try {
+                return OffsetDateTime.parse(date.asText()).toInstant();
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,21 +1,22 @@
 package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
 
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
 import com.f1telemetry.race_telemetry_analyzer.model.LatestSession;
 import com.f1telemetry.race_telemetry_analyzer.repository.LatestSessionRepository;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Optional;
 
 /**
@@ -30,32 +31,49 @@ public class LatestSessionService {
     @Autowired
     private LatestSessionRepository latestSessionRepository;
 
+    @Autowired
+    private OpenF1Client openF1Client;
+
+    @Autowired
+    private OpenF1JsonDecoder decoder;
+
+    @Autowired
+    private OpenF1ResponseCache responseCache;
+
+    @Autowired
+    private ImportMetrics importMetrics;
+
+    @Autowired
+    private OpenF1Properties properties;
+
+    private final Clock clock = Clock.systemUTC();
+
     private static final Logger logger = LoggerFactory.getLogger(LatestSessionService.class);
 
-    private static final String LATEST_SESSION_API_URL = "https://api.openf1.org/v1/sessions?session_key=latest";
+    private static final String LATEST_SESSION_API_PATH = "/sessions?session_key=latest";
 
     /**
-     * Fetches the latest session available from the OpenF1 API.
+     * Fetches the latest session available from the OpenF1 API, bypassing the response cache so a new session is seen
+     * on the first poll after it starts.
      *
      * @return a {@link JsonNode} representing the latest session
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the thread is interrupted
      */
     public JsonNode fetchLatestSessionFromOpenF1() throws IOException, InterruptedException {
-        HttpClient client = HttpClient.newHttpClient();
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(LATEST_SESSION_API_URL))
-                .header("Accept", "application/json")
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() == 200) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readTree(response.body());  // Return JSON node of latest session
-        } else {
-            throw new IOException("Failed to fetch the latest session. Response code: " + response.statusCode());
+        try (OpenF1Response response = openF1Client.getFresh(properties.getBaseUrl() + LATEST_SESSION_API_PATH)) {
+            if (response.statusCode() == 200) {
+                long start = System.nanoTime();
+                JsonNode latestSession = decoder.readTree(response.body());
+                importMetrics.parsed("sessions", start);
+                if (latestSession.has(0)) {
+                    // The latest session may still be running, so its cached responses must expire
+                    responseCache.setLiveSessionKey(latestSession.get(0).get("session_key").asInt());
+                }
+                return latestSession;  // Return JSON node of latest session
+            } else {
+                throw new IOException("Failed to fetch the latest session. Response code: " + response.statusCode());
+            }
         }
     }
 
@@ -69,34 +87,68 @@ public class LatestSessionService {
     }
 
     /**
-     * Checks if a new session is available by comparing the latest session in the database
-     * with the latest session from the OpenF1 API.
+     * Fetches the latest session from the OpenF1 API.
      *
-     * @return {@code true} if a new session is available, {@code false} otherwise
-     * @throws IOException if an I/O error occurs
+     * <p>The returned row is meant to be reused for the whole import cycle: checked with {@link #isNewSession(JsonNode)}
+     * and saved with {@link #updateLatestSession(JsonNode)} once the import completes, without fetching it again.
+     *
+     * @return the latest session row, ex. with {@code session_key} and {@code date_end}
+     * @throws IOException if an I/O error occurs or OpenF1 returns no session
      * @throws InterruptedException if the thread is interrupted
      */
-    public boolean isNewSessionAvailable() throws IOException, InterruptedException {
-        // Fetch the latest session from OpenF1 API
-        JsonNode latestSessionFromAPI = fetchLatestSessionFromOpenF1().get(0);
+    public JsonNode fetchLatestSession() throws IOException, InterruptedException {
+        JsonNode latestSessions = fetchLatestSessionFromOpenF1();
+        if (!latestSessions.has(0)) {
+            throw new IOException("OpenF1 returned no latest session");
+        }
+        return latestSessions.get(0);
+    }
+
+    /**
+     * Checks if a session is new and ready to import by comparing it with the latest session in the database.
+     *
+     * <p>A session only counts as new once it ended {@code openf1.poll.settle} ago. A running session imported
+     * half-way would be saved as the latest session and never imported again, whichever caller started the import.
+     *
+     * @param latestSessionFromAPI the latest session row from the OpenF1 API
+     * @return {@code true} if a new session is available, {@code false} otherwise
+     */
+    public boolean isNewSession(JsonNode latestSessionFromAPI) {
+        return isNewSession(latestSessionFromAPI, clock.instant());
+    }
+
+    boolean isNewSession(JsonNode latestSessionFromAPI, Instant now) {
+        Instant settledAt = dateEnd(latestSessionFromAPI);
+        if (settledAt != null && now.isBefore(settledAt.plus(properties.getPoll().getSettle()))) {
+            logger.debug("Session {} has not ended {} ago yet; it will be imported later.",
+                    latestSessionFromAPI.path("session_key").asInt(), properties.getPoll().getSettle());
+            return false;
+        }
+
         Integer latestSessionKeyFromAPI = latestSessionFromAPI.get("session_key").asInt();
 
         // Get the latest session saved in the database
         Optional<LatestSession> latestSessionFromDB = getLatestSessionFromDB();
 
-        // Compare the latest session keys
-        if (latestSessionFromDB.isPresent()) {
-            Integer latestSessionKeyFromDB = latestSessionFromDB.get().getSessionKey();
+        // If the session keys are different, new data is available
+        return latestSessionFromDB
+                .map(latestSession -> !latestSessionKeyFromAPI.equals(latestSession.getSessionKey()))
+                .orElse(true);
+    }
 
-            // If the session keys are different, new data is available
-            if (!latestSessionKeyFromAPI.equals(latestSessionKeyFromDB)) {
-                return true;  // New session available
-            }
-        } else {
-            return true;
+    /**
+     * @return the {@code date_end} of a session row, or {@code null} if it is missing or not a date-time
+     */
+    private static Instant dateEnd(JsonNode session) {
+        JsonNode dateEnd = session.path("date_end");
+        if (!dateEnd.isTextual()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(dateEnd.asText()).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
         }
-
-        return false;  // No new session
     }
 
     /**
@@ -111,12 +163,10 @@ public class LatestSessionService {
     /**
      * Updates the latest session data after importing new telemetry.
      *
+     * @param latestSessionFromAPI the latest session row the import was started for
      * @return the updated {@link LatestSession} entity
-     * @throws IOException if an I/O error occurs
-     * @throws InterruptedException if the thread is interrupted
      */
-    public LatestSession updateLatestSession() throws IOException, InterruptedException {
-        JsonNode latestSessionFromAPI = fetchLatestSessionFromOpenF1().get(0);
+    public LatestSession updateLatestSession(JsonNode latestSessionFromAPI) {
         // Parse the end date string into a ZonedDateTime (to handle the time zone)
         ZonedDateTime zonedDateTime = ZonedDateTime.parse(latestSessionFromAPI.get("date_end").asText());
         // Convert to LocalDate and format to the desired pattern (yyyy-MM-dd)
@@ -0,0 +1,231 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties.Cache.Mode;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Entry point for every request to the OpenF1 API.
+ *
+ * <p>Each request takes a token from the shared {@link OpenF1RateLimiter} before it is sent over the
+ * {@link OpenF1HttpTransport}. Rate-limited responses (HTTP 429) are fed back to the limiter and retried
+ * with jittered exponential backoff, never shorter than the {@code Retry-After} header. Retries are scheduled
+ * on the limiter's timer, so no thread sleeps while waiting.
+ *
+ * <p>Requests are answered from the {@link OpenF1ResponseCache} first and never take a rate-limit token on a hit.
+ * Successful responses fetched over the network are written to the cache before being returned.
+ *
+ * <p>Every request, rate-limit wait, retry, cache hit and dropped request is recorded in {@link ImportMetrics}.
+ */
+@Component
+public class OpenF1Client {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenF1Client.class);
+
+    private final OpenF1HttpTransport transport;
+    private final OpenF1RateLimiter rateLimiter;
+    private final OpenF1ResponseCache cache;
+    private final ImportMetrics metrics;
+    private final OpenF1Properties.RateLimit settings;
+
+    public OpenF1Client(OpenF1HttpTransport transport, OpenF1RateLimiter rateLimiter, OpenF1ResponseCache cache, ImportMetrics metrics,
+                        OpenF1Properties properties) {
+        this.transport = transport;
+        this.rateLimiter = rateLimiter;
+        this.cache = cache;
+        this.metrics = metrics;
+        this.settings = properties.getRateLimit();
+    }
+
+    /**
+     * Sends a rate-limited GET request asynchronously.
+     *
+     * @param url the absolute URL to request
+     * @return a {@link CompletableFuture} completing with the cached response, the first non-429 response, or with
+     *         the last 429 response once {@code max-retries} is exhausted. In replay-only mode, a cache miss
+     *         completes exceptionally with an {@link IOException}.
+     */
+    public CompletableFuture<OpenF1Response> getAsync(String url) {
+        return getAsync(url, true);
+    }
+
+    /**
+     * Sends a rate-limited GET request asynchronously without reading the response cache, for requests that must
+     * reflect the current state of OpenF1 (ex. the latest session). The response is still stored, and in
+     * replay-only mode it is served from the cache as usual.
+     *
+     * @param url the absolute URL to request
+     * @return a {@link CompletableFuture} completing as for {@link #getAsync(String)}
+     */
+    public CompletableFuture<OpenF1Response> getFreshAsync(String url) {
+        return getAsync(url, cache.mode() == Mode.REPLAY_ONLY);
+    }
+
+    private CompletableFuture<OpenF1Response> getAsync(String url, boolean readCache) {
+        if (readCache) {
+            try {
+                Optional<OpenF1Response> cached = cache.lookup(url);
+                if (cached.isPresent()) {
+                    logger.debug("Serving {} from the response cache", url);
+                    metrics.cacheHit(url);
+                    return CompletableFuture.completedFuture(cached.get());
+                }
+            } catch (IOException e) {
+                logger.warn("Could not read the cached response of {}. Fetching it again.", url, e);
+            }
+        }
+
+        if (cache.mode() == Mode.REPLAY_ONLY) {
+            metrics.requestDropped(url, "replay-miss");
+            return CompletableFuture.failedFuture(new IOException("No cached response for " + url + " in replay-only mode"));
+        }
+        CompletableFuture<OpenF1Response> fetched = sendWithRetry(url, 0).whenComplete((response, ex) -> {
+            if (ex != null) {
+                metrics.requestDropped(url, "error");
+            }
+        });
+        if (cache.mode() == Mode.OFF) {
+            return fetched;
+        }
+        return fetched.thenCompose(response -> {
+            if (response.statusCode() != 200) {
+                return CompletableFuture.completedFuture(response);
+            }
+            try {
+                return CompletableFuture.completedFuture(cache.store(url, response));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    /**
+     * Sends a rate-limited GET request and waits for the response.
+     *
+     * @param url the absolute URL to request
+     * @return the response
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public OpenF1Response get(String url) throws IOException, InterruptedException {
+        return await(url, getAsync(url));
+    }
+
+    /**
+     * Sends a rate-limited GET request without reading the response cache and waits for the response.
+     *
+     * @param url the absolute URL to request
+     * @return the response
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the thread is interrupted while waiting
+     * @see #getFreshAsync(String)
+     */
+    public OpenF1Response getFresh(String url) throws IOException, InterruptedException {
+        return await(url, getFreshAsync(url));
+    }
+
+    private static OpenF1Response await(String url, CompletableFuture<OpenF1Response> response) throws IOException, InterruptedException {
+        try {
+            return response.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Request to " + url + " failed", e.getCause());
+        }
+    }
+
+    private CompletableFuture<OpenF1Response> sendWithRetry(String url, int retryCount) {
+        long waitStart = metrics.rateLimitWaitStarted();
+        return rateLimiter.acquire()
+                .whenComplete((permit, ex) -> {
+                    if (ex != null) {
+                        metrics.rateLimitWaitAbandoned();
+                    }
+                })
+                .thenCompose(permit -> {
+                    long start = metrics.requestStarted(waitStart);
+                    CompletableFuture<OpenF1Response> sent;
+                    try {
+                        sent = transport.getAsync(url);
+                    } catch (RuntimeException e) {
+                        sent = CompletableFuture.failedFuture(e);  // Still recorded as finished below
+                    }
+                    return sent.whenComplete((response, ex) ->
+                            metrics.requestFinished(url, response != null ? response.statusCode() : null, start));
+                })
+                .thenCompose(response -> {
+                    if (response.statusCode() != 429) {
+                        if (response.statusCode() / 100 == 2) {
+                            rateLimiter.onSuccess();  // Errors must not speed up the requests while OpenF1 is failing
+                        }
+                        return CompletableFuture.completedFuture(response);
+                    }
+
+                    Duration retryAfter = response.retryAfter().flatMap(OpenF1Client::parseRetryAfter).orElse(Duration.ZERO);
+                    rateLimiter.onRateLimited(retryAfter);
+                    if (retryCount >= settings.getMaxRetries()) {
+                        logger.error("Max retries reached for {}. Skipping.", url);
+                        metrics.requestDropped(url, "max-retries");
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    response.close();  // Release the connection before waiting for the retry
+
+                    Duration delay = backoff(retryCount, retryAfter);
+                    logger.warn("Rate limit exceeded for {}. Retrying after {} ms", url, delay.toMillis());
+                    metrics.requestRetried(url);
+                    CompletableFuture<OpenF1Response> retry = new CompletableFuture<>();
+                    rateLimiter.schedule(() -> sendWithRetry(url, retryCount + 1).whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            retry.completeExceptionally(ex);
+                        } else {
+                            retry.complete(result);
+                        }
+                    }), delay);
+                    return retry;
+                });
+    }
+
+    /**
+     * Computes the delay before a retry: exponential backoff with full jitter, at least {@code retryAfter}.
+     */
+    private Duration backoff(int retryCount, Duration retryAfter) {
+        long ceilingMs = Math.min(settings.getMaxBackoff().toMillis(), settings.getInitialBackoff().toMillis() << Math.min(retryCount, 20));
+        long jitteredMs = ThreadLocalRandom.current().nextLong(ceilingMs / 2, ceilingMs + 1);
+        return Duration.ofMillis(Math.max(jitteredMs, retryAfter.toMillis()));
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either in seconds or as an HTTP date.
+     *
+     * @param value the header value
+     * @return the delay requested by the server, or empty if the value cannot be parsed
+     */
+    static Optional<Duration> parseRetryAfter(String value) {
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            try {
+                Instant retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                Duration delay = Duration.between(Instant.now(), retryAt);
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException ex) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Jackson deserializers that bind OpenF1 API rows (ex. {@code lap_duration}, {@code duration_sector_1},
+ * {@code is_pit_out_lap}) directly into the model classes.
+ *
+ * <p>They read one object token by token and skip every field that is not mapped, so no intermediate
+ * {@code JsonNode} is created. They are only registered on the {@link OpenF1JsonDecoder}'s mapper, leaving the
+ * JSON produced by the REST controllers unchanged. Missing or {@code null} numbers decode as {@code 0}, as before,
+ * except for the session, driver and lap numbers that make up a lap's id: a lap row without them decodes as
+ * {@code null}, and {@link OpenF1JsonDecoder#readLaps} skips it.
+ */
+final class OpenF1Deserializers {
+
+    private OpenF1Deserializers() {
+    }
+
+    static final class LapDeserializer extends StdDeserializer<Lap> {
+
+        LapDeserializer() {
+            super(Lap.class);
+        }
+
+        @Override
+        public Lap deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Integer sessionKey = null;
+            Integer driverNumber = null;
+            Integer lapNumber = null;
+            float lapDuration = 0.0f;
+            float sector1 = 0.0f;
+            float sector2 = 0.0f;
+            float sector3 = 0.0f;
+            boolean isPitOutLap = false;
+            int speedTrapSpeed = 0;
+
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "session_key" -> sessionKey = integerValue(parser, token);
+                    case "driver_number" -> driverNumber = integerValue(parser, token);
+                    case "lap_number" -> lapNumber = integerValue(parser, token);
+                    case "lap_duration" -> lapDuration = floatValue(parser, token);
+                    case "duration_sector_1" -> sector1 = floatValue(parser, token);
+                    case "duration_sector_2" -> sector2 = floatValue(parser, token);
+                    case "duration_sector_3" -> sector3 = floatValue(parser, token);
+                    case "is_pit_out_lap" -> isPitOutLap = token == JsonToken.VALUE_TRUE;
+                    case "st_speed" -> speedTrapSpeed = intValue(parser, token);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (sessionKey == null || driverNumber == null || lapNumber == null) {
+                return null;
+            }
+            return new Lap(sessionKey, driverNumber, lapNumber, lapDuration, sector1, sector2, sector3, isPitOutLap, speedTrapSpeed);
+        }
+    }
+
+    static final class DriverDeserializer extends StdDeserializer<Driver> {
+
+        DriverDeserializer() {
+            super(Driver.class);
+        }
+
+        @Override
+        public Driver deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Driver driver = new Driver();
+            driver.setDriverNumber(0);
+
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "full_name" -> driver.setFullName(textValue(parser, token));
+                    case "broadcast_name" -> driver.setBroadcastName(textValue(parser, token));
+                    case "team_name" -> driver.setTeam(textValue(parser, token));
+                    case "country_code" -> driver.setCountryCode(textValue(parser, token));
+                    case "driver_number" -> driver.setDriverNumber(intValue(parser, token));
+                    case "headshot_url" -> driver.setHeadshotUrl(textValue(parser, token));
+                    default -> parser.skipChildren();
+                }
+            }
+            return driver;
+        }
+    }
+
+    static final class RaceDeserializer extends StdDeserializer<Race> {
+
+        RaceDeserializer() {
+            super(Race.class);
+        }
+
+        @Override
+        public Race deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Race race = new Race();
+
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "session_key" -> race.setSessionKey(intValue(parser, token));
+                    case "year" -> race.setYear(intValue(parser, token));
+                    case "session_name" -> race.setSessionName(textValue(parser, token));
+                    case "country_name" -> race.setCountryName(textValue(parser, token));
+                    case "circuit_short_name" -> race.setCircuitName(textValue(parser, token));
+                    case "date_start" -> race.setDateStart(instantValue(parser, token));
+                    case "date_end" -> race.setDateEnd(instantValue(parser, token));
+                    default -> parser.skipChildren();
+                }
+            }
+            return race;
+        }
+    }
+
+    private static int intValue(JsonParser parser, JsonToken token) throws IOException {
+        return token.isNumeric() ? parser.getIntValue() : 0;
+    }
+
+    private static Integer integerValue(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null;
+    }
+
+    private static float floatValue(JsonParser parser, JsonToken token) throws IOException {
+        return token.isNumeric() ? parser.getFloatValue() : 0.0f;
+    }
+
+    private static String textValue(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static Instant instantValue(JsonParser parser, JsonToken token) throws IOException {
+        String text = textValue(parser, token);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;  // A malformed schedule only makes the poller less precise
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * HTTP transport used by the OpenF1 API services to send GET requests.
+ *
+ * <p>A single instance is created and managed by Spring (see {@code config/OpenF1HttpConfig}) so that every
+ * fetcher shares the same connection pool instead of opening new connections for each request.
+ */
+public interface OpenF1HttpTransport extends AutoCloseable {
+
+    /**
+     * Sends a GET request asynchronously.
+     *
+     * @param url the absolute URL to request
+     * @return a {@link CompletableFuture} that completes with the response, or exceptionally on an I/O error
+     */
+    CompletableFuture<OpenF1Response> getAsync(String url);
+
+    /**
+     * Sends a GET request and waits for the response.
+     *
+     * @param url the absolute URL to request
+     * @return the response
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    default OpenF1Response get(String url) throws IOException, InterruptedException {
+        try {
+            return getAsync(url).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Request to " + url + " failed", e.getCause());
+        }
+    }
+
+    /**
+     * Releases the pooled connections held by this transport.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,137 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Shared decoder for OpenF1 API response bodies.
+ *
+ * <p>Responses are streamed straight from the HTTP body with a Jackson {@link JsonParser}, and each array element
+ * is bound into a model object by a pre-built {@link ObjectReader}. The body is never copied into a {@code String}
+ * or a {@code JsonNode} tree, and the mapper is created once instead of once per response.
+ *
+ * <p>The decoder does not close the body stream; callers close the {@link OpenF1Response} so the connection can
+ * be reused.
+ */
+@Component
+public class OpenF1JsonDecoder {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader lapReader;
+    private final ObjectReader driverReader;
+    private final ObjectReader raceReader;
+
+    public OpenF1JsonDecoder() {
+        SimpleModule openF1Module = new SimpleModule("OpenF1")
+                .addDeserializer(Lap.class, new OpenF1Deserializers.LapDeserializer())
+                .addDeserializer(Driver.class, new OpenF1Deserializers.DriverDeserializer())
+                .addDeserializer(Race.class, new OpenF1Deserializers.RaceDeserializer());
+        this.objectMapper = JsonMapper.builder()
+                .addModule(openF1Module)
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                .build();
+        this.lapReader = objectMapper.readerFor(Lap.class);
+        this.driverReader = objectMapper.readerFor(Driver.class);
+        this.raceReader = objectMapper.readerFor(Race.class);
+    }
+
+    /**
+     * Streams an array of OpenF1 lap rows. Rows without a session key, driver number or lap number are skipped.
+     *
+     * @param body the response body
+     * @param consumer receives each decoded {@link Lap}
+     * @throws IOException if the body is not a JSON array of laps
+     */
+    public void readLaps(InputStream body, Consumer<Lap> consumer) throws IOException {
+        readArray(lapReader, body, (Lap lap) -> {
+            if (lap != null) {
+                consumer.accept(lap);
+            }
+        });
+    }
+
+    /**
+     * Decodes an array of OpenF1 lap rows, skipping those without a session key, driver number or lap number.
+     *
+     * @param body the response body
+     * @return the decoded laps
+     * @throws IOException if the body is not a JSON array of laps
+     */
+    public List<Lap> readLaps(InputStream body) throws IOException {
+        List<Lap> laps = new ArrayList<>();
+        readLaps(body, laps::add);
+        return laps;
+    }
+
+    /**
+     * Streams an array of OpenF1 driver rows.
+     *
+     * @param body the response body
+     * @param consumer receives each decoded {@link Driver}
+     * @throws IOException if the body is not a JSON array of drivers
+     */
+    public void readDrivers(InputStream body, Consumer<Driver> consumer) throws IOException {
+        readArray(driverReader, body, consumer);
+    }
+
+    /**
+     * Decodes an array of OpenF1 session rows into races.
+     *
+     * @param body the response body
+     * @return the decoded races
+     * @throws IOException if the body is not a JSON array of sessions
+     */
+    public List<Race> readRaces(InputStream body) throws IOException {
+        List<Race> races = new ArrayList<>();
+        readArray(raceReader, body, (Race race) -> races.add(race));
+        return races;
+    }
+
+    /**
+     * Reads a small response into a tree, for payloads where only a handful of fields are needed.
+     *
+     * @param body the response body
+     * @return the root node
+     * @throws IOException if the body is not valid JSON
+     */
+    public JsonNode readTree(InputStream body) throws IOException {
+        return objectMapper.readTree(body);
+    }
+
+    /**
+     * Creates a token-level parser over a response body, for callers that stream without binding.
+     *
+     * @param body the response body
+     * @return a parser positioned before the first token
+     * @throws IOException if the parser cannot be created
+     */
+    public JsonParser createParser(InputStream body) throws IOException {
+        return objectMapper.createParser(body);
+    }
+
+    private <T> void readArray(ObjectReader reader, InputStream body, Consumer<T> consumer) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array from OpenF1 but got " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                consumer.accept(reader.readValue(parser));
+            }
+        }
+    }
+}
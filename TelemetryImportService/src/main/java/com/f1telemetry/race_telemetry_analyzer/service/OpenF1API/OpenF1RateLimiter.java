@@ -0,0 +1,139 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide adaptive rate limiter for requests to the OpenF1 API.
+ *
+ * <p>Implements a token bucket whose refill rate follows AIMD (additive increase, multiplicative decrease):
+ * every successful request raises the rate slightly, and an HTTP 429 cuts it by {@code decrease-factor} and
+ * pauses the bucket for the {@code Retry-After} duration. Callers never block; {@link #acquire()} returns a
+ * future that completes when the caller's token becomes available.
+ *
+ * <p>The current rate is published as the {@code openf1.ratelimit.rate} gauge.
+ */
+@Component
+public class OpenF1RateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);  // One cut per burst of 429s
+
+    private final OpenF1Properties.RateLimit settings;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService scheduler;
+
+    private double rate;  // Tokens added per second
+    private double tokens;  // May go negative: each waiting caller holds a reservation
+    private long lastRefillNanos;  // Lies in the future while the bucket is paused after a 429
+    private long lastDecreaseNanos;
+
+    @Autowired
+    public OpenF1RateLimiter(OpenF1Properties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties.getRateLimit(), System::nanoTime, Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("openf1-rate-limiter").daemon().factory()));
+        Gauge.builder("openf1.ratelimit.rate", this, OpenF1RateLimiter::currentRate)
+                .description("Current request rate allowed towards the OpenF1 API")
+                .baseUnit("requests/s")
+                .register(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    OpenF1RateLimiter(OpenF1Properties.RateLimit settings, LongSupplier nanoClock, ScheduledExecutorService scheduler) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.scheduler = scheduler;
+        this.rate = settings.getInitialRate();
+        this.tokens = settings.getBurst();
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.lastDecreaseNanos = lastRefillNanos - DECREASE_INTERVAL_NANOS;
+    }
+
+    /**
+     * Reserves a token for one request.
+     *
+     * @return a {@link CompletableFuture} that completes once the request may be sent
+     */
+    public CompletableFuture<Void> acquire() {
+        long waitNanos;
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            tokens -= 1;
+            long pauseNanos = Math.max(0, lastRefillNanos - now);
+            long deficitNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+            waitNanos = pauseNanos + deficitNanos;
+        }
+        if (waitNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        scheduler.schedule(() -> permit.complete(null), waitNanos, TimeUnit.NANOSECONDS);
+        return permit;
+    }
+
+    /**
+     * Records a successful request, increasing the rate additively.
+     */
+    public synchronized void onSuccess() {
+        // Adding increase/rate per request adds roughly "additive-increase" requests/s per second of traffic
+        rate = Math.min(settings.getMaxRate(), rate + settings.getAdditiveIncrease() / rate);
+    }
+
+    /**
+     * Records a rate-limited request (HTTP 429), decreasing the rate and pausing the bucket.
+     *
+     * @param retryAfter how long the API asked clients to wait, or {@link Duration#ZERO} if unspecified
+     */
+    public synchronized void onRateLimited(Duration retryAfter) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        if (now - lastDecreaseNanos >= DECREASE_INTERVAL_NANOS) {
+            rate = Math.max(settings.getMinRate(), rate * settings.getDecreaseFactor());
+            lastDecreaseNanos = now;
+        }
+        tokens = Math.min(tokens, 0);
+        lastRefillNanos = Math.max(lastRefillNanos, now + retryAfter.toNanos());
+    }
+
+    /**
+     * @return the current allowed request rate in requests per second
+     */
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    /**
+     * Schedules a task on the limiter's timer thread.
+     *
+     * @param task the task to run
+     * @param delay the delay before running the task
+     */
+    void schedule(Runnable task, Duration delay) {
+        scheduler.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillNanos) {
+            tokens = Math.min(settings.getBurst(), tokens + (now - lastRefillNanos) / NANOS_PER_SECOND * rate);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * A response received from the OpenF1 API through an {@link OpenF1HttpTransport}.
+ *
+ * <p>The body is exposed as a stream so it can be decoded without first being copied into a {@code String}.
+ * Responses must be closed once handled; closing drains any unread bytes so the underlying keep-alive
+ * connection can be returned to the pool.
+ *
+ * @param statusCode the HTTP status code
+ * @param body the response body
+ * @param retryAfter the value of the {@code Retry-After} header, if present
+ */
+public record OpenF1Response(int statusCode, InputStream body, Optional<String> retryAfter) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        try (body) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            // The connection is already broken, so there is nothing left to drain or reuse
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties.Cache.Mode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed on-disk cache of successful OpenF1 responses.
+ *
+ * <p>Each response body is stored gzip-compressed under the SHA-256 of its normalized URL, so the same request
+ * written with its query parameters in another order hits the same entry. Responses of a session that ended more
+ * than {@code openf1.poll.settle} ago never change and are kept forever; session end dates are recorded from the race
+ * list with {@link #recordSessionEnd}. Responses of the latest session, of sessions that have not ended or whose end
+ * is unknown, and of requests that are not bound to a single session (ex. the race list), are volatile: they are
+ * refetched once older than {@code openf1.cache.volatile-ttl}.
+ * Volatility is decided when a response is stored and kept in the entry's file name, so a response cached while its
+ * session was live still expires after a newer session has started.
+ *
+ * <p>In {@link Mode#REPLAY_ONLY} mode volatile entries are served regardless of age, so an import can run
+ * entirely offline from a previously filled cache.
+ */
+@Component
+public class OpenF1ResponseCache {
+
+    private static final Pattern SESSION_KEY = Pattern.compile("(?:^|&)session_key=([^&]*)");
+
+    private final OpenF1Properties.Cache settings;
+    private final Duration settle;
+    private final Clock clock;
+    private final Map<Integer, Instant> sessionEnds = new ConcurrentHashMap<>();
+    private volatile Integer liveSessionKey;
+
+    @Autowired
+    public OpenF1ResponseCache(OpenF1Properties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    OpenF1ResponseCache(OpenF1Properties properties, Clock clock) {
+        this.settings = properties.getCache();
+        this.settle = properties.getPoll().getSettle();
+        this.clock = clock;
+    }
+
+    /**
+     * @return how the cache is used
+     */
+    public Mode mode() {
+        return settings.getMode();
+    }
+
+    /**
+     * Marks a session as still changing, so its responses expire like other volatile entries.
+     *
+     * @param sessionKey the session key of the latest session reported by OpenF1
+     */
+    public void setLiveSessionKey(Integer sessionKey) {
+        this.liveSessionKey = sessionKey;
+    }
+
+    /**
+     * Records when a session ends, so its responses are kept forever once it has settled.
+     *
+     * @param sessionKey the session key
+     * @param dateEnd the scheduled end of the session, or {@code null} if unknown
+     */
+    public void recordSessionEnd(Integer sessionKey, Instant dateEnd) {
+        if (sessionKey != null && dateEnd != null) {
+            sessionEnds.put(sessionKey, dateEnd);
+        }
+    }
+
+    /**
+     * Looks up a cached response.
+     *
+     * @param url the absolute URL of the request
+     * @return a 200 response streaming the cached body, or empty if the cache is off, has no entry or the entry expired
+     * @throws IOException if the cache entry cannot be opened
+     */
+    Optional<OpenF1Response> lookup(String url) throws IOException {
+        if (settings.getMode() == Mode.OFF) {
+            return Optional.empty();
+        }
+        Path permanent = pathFor(url);
+        if (Files.isRegularFile(permanent)) {
+            return Optional.of(open(permanent));
+        }
+        Path file = volatilePathFor(url);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        if (settings.getMode() != Mode.REPLAY_ONLY) {
+            Duration age = Duration.between(Files.getLastModifiedTime(file).toInstant(), clock.instant());
+            if (age.compareTo(settings.getVolatileTtl()) > 0) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(open(file));
+    }
+
+    /**
+     * Writes a response body to the cache and returns a response replaying it.
+     *
+     * <p>The body is streamed to a temporary file that is atomically moved into place, so a crash never leaves
+     * a truncated entry behind. The given response is closed. The entry is stored as volatile if {@link #isVolatile}
+     * holds at this point; otherwise it is permanent and replaces any volatile entry of the same request.
+     *
+     * @param url the absolute URL of the request
+     * @param response a successful response whose body has not been read
+     * @return a 200 response streaming the cached body
+     * @throws IOException if the body cannot be read or written
+     */
+    OpenF1Response store(String url, OpenF1Response response) throws IOException {
+        boolean isVolatile = isVolatile(url);
+        Path file = isVolatile ? volatilePathFor(url) : pathFor(url);
+        Files.createDirectories(file.getParent());
+        Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (response; OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            response.body().transferTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (!isVolatile) {
+            Files.deleteIfExists(volatilePathFor(url));
+        }
+        return open(file);
+    }
+
+    /**
+     * Decides whether the response of a request can still change.
+     *
+     * @param url the absolute URL of the request
+     * @return {@code true} unless the request targets a single session other than the live one, which ended more
+     *         than {@code openf1.poll.settle} ago. Until the live session is known, every request is volatile.
+     */
+    boolean isVolatile(String url) {
+        String query = URI.create(url).getRawQuery();
+        Matcher sessionKey = SESSION_KEY.matcher(query != null ? query : "");
+        if (!sessionKey.find()) {
+            return true;  // Listing queries, ex. the races of a season
+        }
+        Integer key;
+        try {
+            key = Integer.valueOf(sessionKey.group(1));
+        } catch (NumberFormatException e) {
+            return true;  // session_key=latest
+        }
+        Integer live = liveSessionKey;
+        Instant dateEnd = sessionEnds.get(key);
+        return live == null || key.equals(live) || dateEnd == null || !dateEnd.plus(settle).isBefore(clock.instant());
+    }
+
+    /**
+     * @return the permanent cache file of a request, ex. {@code <directory>/3f/3f9a...c2.json.gz}
+     */
+    Path pathFor(String url) {
+        return pathFor(url, ".json.gz");
+    }
+
+    /**
+     * @return the volatile cache file of a request, ex. {@code <directory>/3f/3f9a...c2.volatile.json.gz}
+     */
+    Path volatilePathFor(String url) {
+        return pathFor(url, ".volatile.json.gz");
+    }
+
+    private Path pathFor(String url, String suffix) {
+        String key = cacheKey(url);
+        return settings.getDirectory().resolve(key.substring(0, 2)).resolve(key + suffix);
+    }
+
+    /**
+     * Computes the cache key of a request: the SHA-256 of its normalized URL.
+     *
+     * @param url the absolute URL of the request
+     * @return the key as lowercase hex
+     */
+    static String cacheKey(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalize(url).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);  // Required of every JVM
+        }
+    }
+
+    /**
+     * Normalizes a URL so equivalent requests share a key: the scheme and host are lowercased and the query
+     * parameters are sorted.
+     *
+     * @param url the absolute URL of the request
+     * @return the normalized URL
+     */
+    static String normalize(String url) {
+        URI uri = URI.create(url);
+        StringBuilder normalized = new StringBuilder()
+                .append(uri.getScheme().toLowerCase(Locale.ROOT)).append("://")
+                .append(uri.getHost().toLowerCase(Locale.ROOT));
+        if (uri.getPort() != -1) {
+            normalized.append(':').append(uri.getPort());
+        }
+        normalized.append(uri.getRawPath());
+        if (uri.getRawQuery() != null && !uri.getRawQuery().isEmpty()) {
+            String[] parameters = uri.getRawQuery().split("&");
+            Arrays.sort(parameters);
+            normalized.append('?').append(String.join("&", parameters));
+        }
+        return normalized.toString();
+    }
+
+    private static OpenF1Response open(Path file) throws IOException {
+        return new OpenF1Response(200, new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))), Optional.empty());
+    }
+}
@@ -1,10 +1,10 @@
 package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
 
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
 import com.f1telemetry.race_telemetry_analyzer.model.LatestSession;
 import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
 import com.f1telemetry.race_telemetry_analyzer.service.RaceService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,10 +17,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.List;
 
 /**
@@ -43,6 +39,21 @@ public class RaceAPIService {
     @Autowired
     LatestSessionService latestSessionService;
 
+    @Autowired
+    private OpenF1Client openF1Client;
+
+    @Autowired
+    private OpenF1JsonDecoder decoder;
+
+    @Autowired
+    private OpenF1ResponseCache responseCache;
+
+    @Autowired
+    private ImportMetrics importMetrics;
+
+    @Autowired
+    private OpenF1Properties properties;
+
 
     private static final Logger logger = LoggerFactory.getLogger(RaceAPIService.class);
 
@@ -67,42 +78,23 @@ public class RaceAPIService {
                 .orElse("2024-01-01");  // Fallback to an early date if no session exists in the DB
 
         String encodedDateStart = URLEncoder.encode("date_start>" + latestSessionEndDate, StandardCharsets.UTF_8);
-        String racesApiUrl = "https://api.openf1.org/v1/sessions?session_type=Race&" + encodedDateStart;
-
-        HttpClient client = HttpClient.newHttpClient();
+        String racesApiUrl = properties.getBaseUrl() + "/sessions?session_type=Race&" + encodedDateStart;
 
-        // Create the HttpRequest
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(racesApiUrl))
-                .header("Accept", "application/json")
-                .build();
         // List to hold races that need to be upserted and eventually returned
         List<Race> racesToUpsert = new ArrayList<>();
 
         // Send the request asynchronously and collect CompletableFutures
-        CompletableFuture<HttpResponse<String>> futureResponse = client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<OpenF1Response> futureResponse = openF1Client.getAsync(racesApiUrl);
 
         CompletableFuture<Void> processFuture = futureResponse.thenAccept(response -> {
-            if (response.statusCode() == 200) {
-                String jsonResponse = response.body();
-
-                try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode rootNode = objectMapper.readTree(jsonResponse);
-
-                    // Loop through each race node in the array
-                    for (JsonNode raceNode : rootNode) {
-                        Race raceToUpsert = new Race(
-                                raceNode.get("session_key").asInt(),
-                                raceNode.get("year").asInt(),
-                                raceNode.get("session_name").asText(),
-                                raceNode.get("country_name").asText(),
-                                raceNode.get("circuit_short_name").asText()
-                        );
-
-                        // Add race to the list for upsert
-                        racesToUpsert.add(raceToUpsert);
-                    }
+            try (response) {
+                if (response.statusCode() == 200) {
+                    // Decode each session row straight into a Race to upsert
+                    long start = System.nanoTime();
+                    racesToUpsert.addAll(decoder.readRaces(response.body()));
+                    importMetrics.parsed("sessions", start);
+                    // Responses of a race are only cached forever once it has ended
+                    racesToUpsert.forEach(race -> responseCache.recordSessionEnd(race.getSessionKey(), race.getDateEnd()));
 
                     // Perform batch upsert (insert or update)
                     if (!racesToUpsert.isEmpty()) {
@@ -111,11 +103,11 @@ public class RaceAPIService {
                     } else {
                         logger.info("No new races to upsert.");
                     }
-                } catch (IOException e) {
-                    logger.error("Failed to parse race data", e);
+                } else {
+                    logger.error("Failed to fetch races from OpenF1 API. Response code: {}", response.statusCode());
                 }
-            } else {
-                logger.error("Failed to fetch races from OpenF1 API. Response code: {}", response.statusCode());
+            } catch (IOException e) {
+                logger.error("Failed to parse race data", e);
             }
         });
 
@@ -1,11 +1,21 @@
 package com.f1telemetry.race_telemetry_analyzer.service;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import com.f1telemetry.race_telemetry_analyzer.model.PositionSample;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
+import com.f1telemetry.race_telemetry_analyzer.repository.PositionHistoryRepository;
 import com.f1telemetry.race_telemetry_analyzer.repository.PositionRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.StoredIds;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Service for managing position data.
@@ -18,6 +28,15 @@ public class PositionService {
     @Autowired
     private PositionRepository positionRepository;
 
+    @Autowired
+    private BulkUpsertWriter bulkUpsertWriter;
+
+    @Autowired
+    private StoredIds storedIds;
+
+    @Autowired
+    private PositionHistoryRepository positionHistoryRepository;
+
     /**
      * Retrieves all positions from the MongoDB database.
      *
@@ -27,6 +46,30 @@ public class PositionService {
         return positionRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of positions in stored id order.
+     *
+     * @param after the id of the last position of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of positions to return
+     * @return up to {@code limit} {@link Position} entities
+     * @throws IllegalArgumentException if ids are stored packed and {@code after} is not a position id
+     */
+    public List<Position> getPositionPage(String after, int limit) {
+        Object cursor = storedIds.cursor(Position.class, after);
+        return cursor instanceof Long packed
+                ? positionRepository.findByIdGreaterThanOrderByIdAsc(packed.longValue(), Limit.of(limit))
+                : positionRepository.findByIdGreaterThanOrderByIdAsc((String) cursor, Limit.of(limit));
+    }
+
+    /**
+     * Streams every position in the database from a MongoDB cursor.
+     *
+     * @return a {@link Stream} of {@link Position} entities; the caller must close it
+     */
+    public Stream<Position> streamAllPositions() {
+        return positionRepository.streamAllBy();
+    }
+
     /**
      * Retrieves the position of a driver for a specific session.
      *
@@ -39,11 +82,50 @@ public class PositionService {
     }
 
     /**
-     * Adds a list of positions to the database.
+     * Adds or replaces a list of positions in the database using unordered bulk upserts.
      *
      * @param positions a list of {@link Position} entities to save
+     * @return the matched, modified and upserted counts of the write
+     */
+    public BulkUpsertResult addPositions(List<Position> positions) {
+        return bulkUpsertWriter.upsertAll(Position.class, positions);
+    }
+
+    /**
+     * Retrieves the position updates of a session within a time range.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param from the first date to include, or {@code null} for the start of the session
+     * @param to the date to stop before, or {@code null} for the end of the session
+     * @return the {@link PositionSample} entities of every driver in the range, in date order
+     */
+    public List<PositionSample> getTimeline(Integer sessionKey, Instant from, Instant to) {
+        return positionHistoryRepository.findTimeline(sessionKey, from, to);
+    }
+
+    /**
+     * Replaces the position history of one session, then upserts the final position of each driver, which is their
+     * last update. A session without samples has its history removed.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @param samples the position updates of the session in OpenF1 order, possibly none
+     * @return the matched, modified and upserted counts of the final position write
+     */
+    public BulkUpsertResult replacePositionHistory(Integer sessionKey, List<PositionSample> samples) {
+        positionHistoryRepository.replaceSession(sessionKey, samples);
+        return addPositions(finalPositions(samples));
+    }
+
+    /**
+     * @param samples position updates in OpenF1 order
+     * @return the last position of each session and driver, in order of first appearance
      */
-    public void addPositions(List<Position> positions) {
-        positionRepository.saveAll(positions);
+    static List<Position> finalPositions(List<PositionSample> samples) {
+        Map<String, Position> finalPositions = new LinkedHashMap<>();
+        for (PositionSample sample : samples) {
+            Position position = new Position(sample.getMeta().getSessionKey(), sample.getMeta().getDriverNumber(), sample.getPosition());
+            finalPositions.put(position.getId(), position);
+        }
+        return List.copyOf(finalPositions.values());
     }
 }
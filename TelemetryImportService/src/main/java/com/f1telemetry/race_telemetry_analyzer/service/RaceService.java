@@ -1,18 +1,26 @@
 package com.f1telemetry.race_telemetry_analyzer.service;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
 import com.f1telemetry.race_telemetry_analyzer.repository.RaceRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.ProjectionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing race data.
  *
  * <p>This service is responsible for performing CRUD operations on the {@link Race} entity using the {@link RaceRepository}.
+ * Reads of whole entities go through the {@link ReadThroughCache}, which every write through this service clears.
  */
 @Service
 public class RaceService {
@@ -20,13 +28,22 @@ public class RaceService {
     @Autowired
     private RaceRepository raceRepository;
 
+    @Autowired
+    private BulkUpsertWriter bulkUpsertWriter;
+
+    @Autowired
+    private ProjectionRepository projectionRepository;
+
+    @Autowired
+    private ReadThroughCache readThroughCache;
+
     /**
-     * Retrieves all races from the MongoDB database.
+     * Retrieves all races, from the cache or the MongoDB database.
      *
-     * @return a list of {@link Race} entities
+     * @return an unmodifiable list of {@link Race} entities
      */
     public List<Race> getAllRaces() {
-        return raceRepository.findAll();
+        return readThroughCache.get("races", () -> List.copyOf(raceRepository.findAll()));
     }
 
     /**
@@ -36,7 +53,44 @@ public class RaceService {
      * @return an {@link Optional} containing the race if found, or empty if not
      */
     public Optional<Race> getRaceBySessionKey(String id) {
-        return raceRepository.findById(id);
+        return readThroughCache.get("race:" + id, () -> raceRepository.findById(id));
+    }
+
+    /**
+     * Retrieves all races, returning only the selected fields.
+     *
+     * @param fields the {@link Race} properties to return
+     * @return the races, each as a map of property name to value
+     */
+    public List<Map<String, Object>> getAllRaces(Set<String> fields) {
+        return projectionRepository.find(Race.class, new Query(), fields);
+    }
+
+    /**
+     * Retrieves a race by its session key, returning only the selected fields.
+     *
+     * @param id the session key of the race
+     * @param fields the {@link Race} properties to return
+     * @return an {@link Optional} containing the selected fields of the race if found, or empty if not or if
+     *         {@code id} is not a number
+     */
+    public Optional<Map<String, Object>> getRaceBySessionKey(String id, Set<String> fields) {
+        int sessionKey;
+        try {
+            sessionKey = Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            return Optional.empty();  // No race has this key, as for getRaceBySessionKey(String)
+        }
+        return projectionRepository.find(Race.class, new Query(Criteria.where("sessionKey").is(sessionKey)), fields)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * @return the {@link Race} properties that can be selected with {@code ?fields=}
+     */
+    public Set<String> getRaceFieldNames() {
+        return projectionRepository.propertyNames(Race.class);
     }
 
     /**
@@ -46,17 +100,21 @@ public class RaceService {
      * @return the saved {@link Race} entity
      */
     public Race addRace(Race race) {
-        return raceRepository.save(race);
+        Race savedRace = raceRepository.save(race);
+        readThroughCache.invalidateAll();
+        return savedRace;
     }
 
     /**
-     * Adds a list of races to the database.
+     * Adds or replaces a list of races in the database using unordered bulk upserts.
      *
      * @param racesToAdd a list of {@link Race} entities to save
-     * @return a list of saved {@link Race} entities
+     * @return the matched, modified and upserted counts of the write
      */
-    public List<Race> addRaces(List<Race> racesToAdd) {
-        return raceRepository.saveAll(racesToAdd);
+    public BulkUpsertResult addRaces(List<Race> racesToAdd) {
+        BulkUpsertResult result = bulkUpsertWriter.upsertAll(Race.class, racesToAdd);
+        readThroughCache.invalidateAll();
+        return result;
     }
 
     /**
@@ -66,6 +124,7 @@ public class RaceService {
      */
     public void deleteRace(String sessionKey) {
         raceRepository.deleteById(sessionKey);
+        readThroughCache.invalidateAll();
     }
 
     /**
@@ -75,7 +134,7 @@ public class RaceService {
      */
     public List<Integer> getAllSessionKeys() {
         // Retrieve all races and map the session_key from each race to a list
-        return raceRepository.findAll().stream()
+        return getAllRaces().stream()
                 .map(Race::getSessionKey)  // Extract the session_key from each Race object
                 .collect(Collectors.toList()); // Collect the session_key values into a List
     }
@@ -0,0 +1,106 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.f1telemetry.race_telemetry_analyzer.repository.reactive.ReactiveDriverRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.reactive.ReactiveLapRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.reactive.ReactivePositionRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.reactive.ReactiveRaceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service for reading telemetry through the reactive MongoDB driver.
+ *
+ * <p>Every method returns immediately; the documents are emitted as the driver receives them, without holding a
+ * thread during the round trip. Writes stay on the blocking services.
+ */
+@Service
+public class ReactiveReadService {
+
+    @Autowired
+    private ReactiveRaceRepository raceRepository;
+
+    @Autowired
+    private ReactiveDriverRepository driverRepository;
+
+    @Autowired
+    private ReactiveLapRepository lapRepository;
+
+    @Autowired
+    private ReactivePositionRepository positionRepository;
+
+    /**
+     * @return a {@link Flux} of every {@link Race}
+     */
+    public Flux<Race> getAllRaces() {
+        return raceRepository.findAll();
+    }
+
+    /**
+     * @param sessionKey the session key of the race
+     * @return a {@link Mono} of the race, or empty if not found
+     */
+    public Mono<Race> getRaceBySessionKey(Integer sessionKey) {
+        return raceRepository.findById(sessionKey);
+    }
+
+    /**
+     * @return a {@link Flux} of every {@link Driver}
+     */
+    public Flux<Driver> getAllDrivers() {
+        return driverRepository.findAll();
+    }
+
+    /**
+     * @param id the unique identifier (full name) of the driver
+     * @return a {@link Mono} of the driver, or empty if not found
+     */
+    public Mono<Driver> getDriverById(String id) {
+        return driverRepository.findById(id);
+    }
+
+    /**
+     * @return a {@link Flux} of every {@link Lap}, read from a MongoDB cursor as it is consumed
+     */
+    public Flux<Lap> getAllLaps() {
+        return lapRepository.findAll();
+    }
+
+    /**
+     * @param sessionKey the session key identifying the race session
+     * @param driverNumber the driver's number
+     * @return a {@link Flux} of the laps of the driver in the session
+     */
+    public Flux<Lap> getLapsBySessionAndDriver(Integer sessionKey, Integer driverNumber) {
+        return lapRepository.findBySessionKeyAndDriverNumber(sessionKey, driverNumber);
+    }
+
+    /**
+     * @return a {@link Flux} of every {@link Position}, read from a MongoDB cursor as it is consumed
+     */
+    public Flux<Position> getAllPositions() {
+        return positionRepository.findAll();
+    }
+
+    /**
+     * @param sessionKey the session key identifying the race session
+     * @return a {@link Flux} of the positions of every driver in the session
+     */
+    public Flux<Position> getPositionsBySession(Integer sessionKey) {
+        return positionRepository.findBySessionKey(sessionKey);
+    }
+
+    /**
+     * @param sessionKey the session key identifying the race session
+     * @param driverNumber the driver's number
+     * @return a {@link Mono} of the driver's position in the session, or empty if not found
+     */
+    public Mono<Position> getPositionBySessionAndDriver(Integer sessionKey, Integer driverNumber) {
+        return positionRepository.findBySessionKeyAndDriverNumber(sessionKey, driverNumber);
+    }
+}
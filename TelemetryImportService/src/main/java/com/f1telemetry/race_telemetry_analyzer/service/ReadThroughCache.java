@@ -0,0 +1,93 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, in-memory read-through cache of the races and drivers read from MongoDB.
+ *
+ * <p>This data only changes when an import runs, so entries never expire: the services clear the cache when they
+ * write, and {@link com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportService} clears it once an import
+ * has committed. Eviction is by weight, where a cached collection weighs its size and any other value weighs 1.
+ * Hits, misses and evictions are published as the {@code cache.*} metrics tagged {@code cache=read-through}.
+ *
+ * <p>Cached values are shared between callers and must not be modified.
+ */
+@Component
+public class ReadThroughCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadThroughCache.class);
+
+    private final Cache<String, Object> cache;
+
+    @Autowired
+    public ReadThroughCache(OpenF1Properties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties.getReadCache().getMaximumWeight());
+        CaffeineCacheMetrics.monitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), cache, "read-through");
+    }
+
+    ReadThroughCache(long maximumWeight) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(ReadThroughCache::weigh)
+                .recordStats()
+                .build();
+    }
+
+    private static int weigh(String key, Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the cached value of a key, loading it on a miss.
+     *
+     * <p>Concurrent misses on the same key load it once. An empty {@link java.util.Optional} is cached like any other value.
+     *
+     * @param key the cache key, ex. {@code races} or {@code race:9158}
+     * @param loader reads the value from the database; must not return {@code null}
+     * @param <T> the type of the value
+     * @return the cached or loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        return (T) cache.get(key, ignored -> loader.get());
+    }
+
+    /**
+     * Drops every cached value, so the next reads go to the database.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        logger.debug("Read-through cache cleared");
+    }
+
+    /**
+     * @return the number of hits so far, for tests and diagnostics
+     */
+    long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * @return the number of cached values, after pending evictions have run
+     */
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
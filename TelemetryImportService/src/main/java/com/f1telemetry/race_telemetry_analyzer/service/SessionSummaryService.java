@@ -0,0 +1,69 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionSummary;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionSummary.DriverSummary;
+import com.f1telemetry.race_telemetry_analyzer.repository.LapAnalyticsRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.PositionRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.SessionSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Service for managing the precomputed {@link SessionSummary} of each session.
+ *
+ * <p>Summaries are rebuilt by the import once a session's laps and positions are persisted, and read with a single
+ * fetch by session key.
+ */
+@Service
+public class SessionSummaryService {
+
+    @Autowired
+    private SessionSummaryRepository sessionSummaryRepository;
+
+    @Autowired
+    private LapAnalyticsRepository lapAnalyticsRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    /**
+     * Retrieves the summary of a session.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return an {@link Optional} containing the summary if the session was summarized, or empty if not
+     */
+    public Optional<SessionSummary> getSummary(Integer sessionKey) {
+        return sessionSummaryRepository.findById(sessionKey);
+    }
+
+    /**
+     * Rebuilds and saves the summary of a session from its persisted laps and positions.
+     *
+     * <p>Drivers with a position but no laps are included with a lap count of 0.
+     *
+     * @param sessionKey the session key identifying the race session
+     * @return the saved {@link SessionSummary}
+     */
+    public SessionSummary rebuild(Integer sessionKey) {
+        Map<Integer, DriverSummary> drivers = new TreeMap<>();
+        for (DriverSummary driver : lapAnalyticsRepository.aggregateDriverSummaries(sessionKey)) {
+            drivers.put(driver.getDriverNumber(), driver);
+        }
+        for (Position position : positionRepository.findBySessionKey(sessionKey)) {
+            if (position.getDriverNumber() == null) {
+                continue;
+            }
+            drivers.computeIfAbsent(position.getDriverNumber(),
+                            driverNumber -> new DriverSummary(driverNumber, null, 0, 0, null, null, null))
+                    .setFinishingPosition(position.getPosition());
+        }
+        return sessionSummaryRepository.save(new SessionSummary(sessionKey, new ArrayList<>(drivers.values()), Instant.now()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
+import com.f1telemetry.race_telemetry_analyzer.repository.LapRepository;
+import com.f1telemetry.race_telemetry_analyzer.repository.StoredIds;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares lap write throughput of {@code MongoRepository.saveAll} against {@link BulkUpsertWriter} on a local mongod.
+ *
+ * <p>Each round writes the laps twice: once into an empty collection (every write is an insert) and once again
+ * (every write replaces an existing document), which is what a re-import does. The benchmark uses the
+ * {@code telemetry_benchmark} database and drops its laps collection between rounds.
+ *
+ * <p>Run with {@code mvn -Djava.version=<jdk> test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.f1telemetry.race_telemetry_analyzer.benchmark.BulkWriteThroughputBenchmark
+ * -Dexec.args="mongodb://localhost:27017 20000"}.
+ */
+public class BulkWriteThroughputBenchmark {
+
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        String uri = args.length > 0 ? args[0] : "mongodb://localhost:27017";
+        int lapCount = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, "telemetry_benchmark");
+            LapRepository lapRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(LapRepository.class);
+            OpenF1Properties properties = new OpenF1Properties();
+            BulkUpsertWriter writer = new BulkUpsertWriter(mongoTemplate, new StoredIds(properties), properties,
+                    new ImportMetrics(new SimpleMeterRegistry()));
+            List<Lap> laps = laps(lapCount);
+
+            for (int round = 1; round <= ROUNDS; round++) {
+                mongoTemplate.dropCollection(Lap.class);
+                long insert = time(() -> lapRepository.saveAll(laps));
+                long replace = time(() -> lapRepository.saveAll(laps));
+                report(round, "saveAll", lapCount, insert, replace);
+
+                mongoTemplate.dropCollection(Lap.class);
+                long bulkInsert = time(() -> writer.upsertAll(Lap.class, laps));
+                BulkUpsertResult[] result = new BulkUpsertResult[1];
+                long bulkReplace = time(() -> result[0] = writer.upsertAll(Lap.class, laps));
+                report(round, "bulk upsert", lapCount, bulkInsert, bulkReplace);
+                System.out.printf("  re-import counts: matched %,d, modified %,d, upserted %,d in %d batches%n",
+                        result[0].matched(), result[0].modified(), result[0].upserted(), result[0].batches());
+            }
+            mongoTemplate.dropCollection(Lap.class);
+        }
+    }
+
+    private static List<Lap> laps(int count) {
+        List<Lap> laps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int sessionKey = 9000 + i / 1_000;
+            int driverNumber = 1 + (i / 60) % 20;
+            laps.add(new Lap(sessionKey, driverNumber, 1 + i % 60, 92.5f, 30.1f, 31.2f, 31.2f, false, 310));
+        }
+        return laps;
+    }
+
+    private static long time(Runnable write) {
+        long start = System.nanoTime();
+        write.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void report(int round, String path, int lapCount, long insertNanos, long replaceNanos) {
+        System.out.printf("round %d %-12s insert %,10.0f docs/s   replace %,10.0f docs/s%n", round, path,
+                lapCount / (insertNanos / 1e9), lapCount / (replaceNanos / 1e9));
+    }
+}
@@ -0,0 +1,46 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of building the composite ids of {@link Lap} ({@code sessionKey_driverNumber_lapNumber}) and
+ * {@link Position} ({@code sessionKey_driverNumber}), which happens once per imported row.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=CompositeIdBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeIdBenchmark {
+
+    private int sessionKey = 9158;
+    private int driverNumber = 44;
+    private int lapNumber = 1;
+
+    @Benchmark
+    public Lap buildLap() {
+        lapNumber = lapNumber == 70 ? 1 : lapNumber + 1;  // Varying input keeps the id from being constant-folded
+        return new Lap(sessionKey, driverNumber, lapNumber, 92.5f, 30.1f, 31.2f, 31.2f, false, 310);
+    }
+
+    @Benchmark
+    public Position buildPosition() {
+        driverNumber = driverNumber == 99 ? 1 : driverNumber + 1;
+        return new Position(sessionKey, driverNumber, 1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties.Storage.IdFormat;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
+import com.f1telemetry.race_telemetry_analyzer.repository.CompositeIdMigration;
+import com.f1telemetry.race_telemetry_analyzer.repository.StoredIds;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares storing lap ids as strings ({@code sessionKey_driverNumber_lapNumber}) against packed longs on a local
+ * mongod: insert throughput, {@code _id} index size, total index size and data size for a season of laps, and the
+ * time {@link CompositeIdMigration} takes to rewrite the season from one format to the other.
+ *
+ * <p>A season is 24 sessions of 20 drivers and 70 laps. The benchmark uses the {@code telemetry_benchmark} database
+ * and drops its laps collection between runs.
+ *
+ * <p>Run with {@code mvn -Djava.version=<jdk> test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.f1telemetry.race_telemetry_analyzer.benchmark.CompositeIdStorageBenchmark
+ * -Dexec.args="mongodb://localhost:27017 3"}.
+ */
+public class CompositeIdStorageBenchmark {
+
+    private static final int SESSIONS = 24;
+    private static final int DRIVERS = 20;
+    private static final int LAPS = 70;
+
+    public static void main(String[] args) {
+        String uri = args.length > 0 ? args[0] : "mongodb://localhost:27017";
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, "telemetry_benchmark");
+            ImportMetrics importMetrics = new ImportMetrics(new SimpleMeterRegistry());
+            List<Lap> season = season();
+            System.out.printf("%,d laps%n", season.size());
+
+            for (int round = 1; round <= rounds; round++) {
+                for (IdFormat idFormat : IdFormat.values()) {
+                    OpenF1Properties properties = properties(idFormat);
+                    recreateCollection(mongoTemplate);
+                    long start = System.nanoTime();
+                    new BulkUpsertWriter(mongoTemplate, new StoredIds(properties), properties, importMetrics).upsertAll(Lap.class, season);
+                    long elapsed = System.nanoTime() - start;
+
+                    Document stats = mongoTemplate.getDb().runCommand(new Document("collStats", mongoTemplate.getCollectionName(Lap.class)));
+                    System.out.printf("round %d %-6s insert %,9.0f docs/s   _id index %,9d B   all indexes %,9d B   data %,10d B%n",
+                            round, idFormat, season.size() / (elapsed / 1e9), stats.get("indexSizes", Document.class).get("_id_", Number.class).longValue(),
+                            stats.get("totalIndexSize", Number.class).longValue(), stats.get("size", Number.class).longValue());
+                }
+
+                recreateCollection(mongoTemplate);
+                new BulkUpsertWriter(mongoTemplate, new StoredIds(properties(IdFormat.STRING)), properties(IdFormat.STRING), importMetrics).upsertAll(Lap.class, season);
+                long start = System.nanoTime();
+                long migrated = new CompositeIdMigration(mongoTemplate, new StoredIds(properties(IdFormat.PACKED)), properties(IdFormat.PACKED)).migrate(Lap.class);
+                long elapsed = System.nanoTime() - start;
+                System.out.printf("round %d migrate string -> packed: %,d docs in %,.0f ms (%,.0f docs/s)%n",
+                        round, migrated, elapsed / 1e6, migrated / (elapsed / 1e9));
+            }
+            mongoTemplate.dropCollection(Lap.class);
+        }
+    }
+
+    private static List<Lap> season() {
+        List<Lap> laps = new ArrayList<>(SESSIONS * DRIVERS * LAPS);
+        for (int session = 0; session < SESSIONS; session++) {
+            for (int driver = 1; driver <= DRIVERS; driver++) {
+                for (int lap = 1; lap <= LAPS; lap++) {
+                    laps.add(new Lap(9000 + session * 7, driver, lap, 92.5f, 30.1f, 31.2f, 31.2f, lap == 1, 310));
+                }
+            }
+        }
+        return laps;
+    }
+
+    private static OpenF1Properties properties(IdFormat idFormat) {
+        OpenF1Properties properties = new OpenF1Properties();
+        properties.getStorage().setIdFormat(idFormat);
+        return properties;
+    }
+
+    private static void recreateCollection(MongoTemplate mongoTemplate) {
+        mongoTemplate.dropCollection(Lap.class);
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(
+                (MongoMappingContext) mongoTemplate.getConverter().getMappingContext());
+        indexResolver.resolveIndexFor(Lap.class).forEach(index -> mongoTemplate.indexOps(Lap.class).ensureIndex(index));
+    }
+}
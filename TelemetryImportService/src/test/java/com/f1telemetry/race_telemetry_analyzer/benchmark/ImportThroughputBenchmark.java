@@ -0,0 +1,148 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.RaceTelemetryAnalyzerApplication;
+import com.f1telemetry.race_telemetry_analyzer.model.ImportCheckpoint;
+import com.f1telemetry.race_telemetry_analyzer.model.LatestSession;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportJob;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportReport;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportService;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.OpenF1StandInServer;
+import com.mongodb.client.MongoDatabase;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end import throughput against {@link OpenF1StandInServer}, so no request reaches api.openf1.org.
+ *
+ * <p>Starts the stand-in and the application in-process against a local mongod (without the startup import or the
+ * poller), then runs {@link ImportService#importData} once per round. Everything is written to the
+ * {@code telemetry_benchmark} database, which is dropped at the end. Before each round the latest session and the
+ * import checkpoints are removed so every race is imported again; the first round inserts, the following ones
+ * replace. Each round reports sessions/sec, requests/sec (including the 429s served),
+ * and the peak heap used, sampled every 10 ms.
+ *
+ * <p>The response cache is off and the rate limiter starts at 1000 requests/sec, so the stand-in's latency and 429s
+ * shape the load. Arguments after the sixth are passed to the application, ex. {@code --openf1.rate-limit.initial-rate=3}
+ * to measure with the production rate limit.
+ *
+ * <p>Run with {@code mvn -Djava.version=<jdk> test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.f1telemetry.race_telemetry_analyzer.benchmark.ImportThroughputBenchmark
+ * -Dexec.args="mongodb://localhost:27017 24 1 50 0.02 3"}, the arguments being the MongoDB URI, races, payload
+ * scale, latency in milliseconds, 429 rate and rounds.
+ */
+public class ImportThroughputBenchmark {
+
+    private static final String DATABASE = "telemetry_benchmark";
+
+    public static void main(String[] args) throws Exception {
+        String uri = args.length > 0 ? args[0] : "mongodb://localhost:27017";
+        int sessions = args.length > 1 ? Integer.parseInt(args[1]) : 24;
+        int payloadScale = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        Duration latency = Duration.ofMillis(args.length > 3 ? Long.parseLong(args[3]) : 50);
+        double tooManyRequestsRate = args.length > 4 ? Double.parseDouble(args[4]) : 0.02;
+        int rounds = args.length > 5 ? Integer.parseInt(args[5]) : 3;
+
+        try (OpenF1StandInServer server = new OpenF1StandInServer(sessions, payloadScale, latency, tooManyRequestsRate).start()) {
+            List<String> arguments = new ArrayList<>(List.of(
+                    "--spring.data.mongodb.uri=" + uri,
+                    "--spring.data.mongodb.database=" + DATABASE,  // Overrides spring.data.mongodb.database of application.properties
+                    "--openf1.base-url=" + server.baseUrl(),
+                    "--openf1.import.on-startup=false",
+                    "--openf1.poll.enabled=false",
+                    "--openf1.cache.mode=off",
+                    "--openf1.rate-limit.initial-rate=1000",
+                    "--openf1.rate-limit.max-rate=1000",
+                    "--openf1.rate-limit.burst=100",
+                    "--openf1.rate-limit.initial-backoff=50ms",
+                    "--server.port=0",
+                    "--logging.level.com.f1telemetry=WARN"));
+            arguments.addAll(Arrays.asList(args).subList(Math.min(args.length, 6), args.length));
+
+            ConfigurableApplicationContext context = SpringApplication.run(RaceTelemetryAnalyzerApplication.class,
+                    arguments.toArray(new String[0]));
+            try {
+                ImportService importService = context.getBean(ImportService.class);
+                ImportMetrics importMetrics = context.getBean(ImportMetrics.class);
+                MongoTemplate mongoTemplate = context.getBean(MongoTemplate.class);
+
+                System.out.printf("%d races, payload x%d, %d ms latency, %.0f%% 429s%n",
+                        sessions, payloadScale, latency.toMillis(), tooManyRequestsRate * 100);
+                ImportReport report = null;
+                for (int round = 1; round <= rounds; round++) {
+                    mongoTemplate.remove(new Query(), LatestSession.class);
+                    mongoTemplate.remove(new Query(), ImportCheckpoint.class);
+                    System.gc();
+
+                    long requestsBefore = server.requests();
+                    long tooManyRequestsBefore = server.tooManyRequests();
+                    long bytesBefore = server.bytesServed();
+                    report = new ImportReport(importMetrics);
+                    HeapSampler heap = HeapSampler.start();
+                    long start = System.nanoTime();
+                    ImportJob.Status status;
+                    try {
+                        status = importService.importData(report, null);
+                    } catch (Exception e) {
+                        System.out.printf("round %d failed: %s%n", round, e);
+                        status = ImportJob.Status.FAILED;
+                    }
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    long peakHeap = heap.stop();
+
+                    long requests = server.requests() - requestsBefore;
+                    System.out.printf("round %d %-9s %6.2f s  %8.2f sessions/s  %8.1f requests/s  (%,d requests, %,d 429s, %,.1f MB)  peak heap %,d MB%n",
+                            round, status, seconds, sessions / seconds, requests / seconds, requests,
+                            server.tooManyRequests() - tooManyRequestsBefore, (server.bytesServed() - bytesBefore) / 1e6,
+                            peakHeap / (1024 * 1024));
+                }
+                if (report != null) {
+                    System.out.println(report.summary());
+                }
+            } finally {
+                MongoDatabase database = context.getBean(MongoTemplate.class).getDb();
+                if (DATABASE.equals(database.getName())) {  // Never drop the application's own database
+                    database.drop();
+                }
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Samples the used heap on a daemon thread and keeps the highest value.
+     */
+    private record HeapSampler(ScheduledExecutorService sampler, AtomicLong peak) {
+
+        static HeapSampler start() {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            AtomicLong peak = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "heap-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sampler.scheduleAtFixedRate(() -> peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                    0, 10, TimeUnit.MILLISECONDS);
+            return new HeapSampler(sampler, peak);
+        }
+
+        long stop() {
+            sampler.shutdownNow();
+            return peak.get();
+        }
+    }
+}
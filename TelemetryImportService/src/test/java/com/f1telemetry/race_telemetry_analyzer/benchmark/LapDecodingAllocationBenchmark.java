@@ -0,0 +1,97 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.OpenF1JsonDecoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of decoding 10k OpenF1 lap rows, comparing the previous String + {@code JsonNode} tree path against
+ * the streaming {@link OpenF1JsonDecoder}. The bytes allocated per decode are reported as {@code gc.alloc.rate.norm}.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=LapDecodingAllocationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LapDecodingAllocationBenchmark {
+
+    private static final int LAPS = 10_000;
+
+    private byte[] body;
+    private OpenF1JsonDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        body = lapPayload(LAPS).getBytes(StandardCharsets.UTF_8);
+        decoder = new OpenF1JsonDecoder();
+    }
+
+    /**
+     * The decoding path used before the shared decoder: body as String, new ObjectMapper, tree, manual copy.
+     */
+    @Benchmark
+    public List<Lap> decodeWithTree() throws IOException {
+        String json = new String(body, StandardCharsets.UTF_8);
+        JsonNode rootNode = new ObjectMapper().readTree(json);
+        List<Lap> laps = new ArrayList<>();
+        for (JsonNode lapNode : rootNode) {
+            laps.add(new Lap(
+                    lapNode.get("session_key").asInt(),
+                    lapNode.get("driver_number").asInt(),
+                    lapNode.get("lap_number").asInt(),
+                    lapNode.hasNonNull("lap_duration") ? lapNode.get("lap_duration").floatValue() : 0.0f,
+                    lapNode.hasNonNull("duration_sector_1") ? lapNode.get("duration_sector_1").floatValue() : 0.0f,
+                    lapNode.hasNonNull("duration_sector_2") ? lapNode.get("duration_sector_2").floatValue() : 0.0f,
+                    lapNode.hasNonNull("duration_sector_3") ? lapNode.get("duration_sector_3").floatValue() : 0.0f,
+                    Objects.equals(lapNode.get("is_pit_out_lap").asText(), "true"),
+                    lapNode.hasNonNull("st_speed") ? lapNode.get("st_speed").asInt() : 0
+            ));
+        }
+        return laps;
+    }
+
+    @Benchmark
+    public List<Lap> decodeStreaming() throws IOException {
+        return decoder.readLaps(new ByteArrayInputStream(body));
+    }
+
+    private static String lapPayload(int laps) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < laps; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"meeting_key\":1219,\"session_key\":9165,\"driver_number\":").append(1 + i % 20)
+                    .append(",\"i1_speed\":307,\"i2_speed\":277,\"st_speed\":298")
+                    .append(",\"date_start\":\"2023-09-16T13:59:07.606000+00:00\",\"lap_duration\":91.743")
+                    .append(",\"is_pit_out_lap\":false,\"duration_sector_1\":26.966,\"duration_sector_2\":38.657")
+                    .append(",\"duration_sector_3\":26.12,\"segments_sector_1\":[2049,2049,2051,2049,2049]")
+                    .append(",\"segments_sector_2\":[2049,2049,2049,2049,2049,2049]")
+                    .append(",\"segments_sector_3\":[2048,2049,2049,2049,2049],\"lap_number\":").append(1 + i / 20)
+                    .append('}');
+        }
+        return json.append(']').toString();
+    }
+}
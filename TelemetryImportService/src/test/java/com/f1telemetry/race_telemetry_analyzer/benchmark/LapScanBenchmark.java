@@ -0,0 +1,65 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionLaps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of summing the lap durations of a season held as {@link Lap} objects and as columnar
+ * {@link SessionLaps}, the season being the one of {@link LapStoreFootprintBenchmark}.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=LapScanBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LapScanBenchmark {
+
+    private List<List<Lap>> objects;
+    private List<SessionLaps> columns;
+
+    @Setup
+    public void setUp() {
+        objects = LapStoreFootprintBenchmark.season();
+        columns = new ArrayList<>();
+        objects.forEach(session -> columns.add(SessionLaps.of(session.get(0).getSessionKey(), session)));
+    }
+
+    @Benchmark
+    public double sumObjects() {
+        double total = 0;
+        for (List<Lap> session : objects) {
+            for (Lap lap : session) {
+                total += lap.getLapDuration();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double sumColumns() {
+        double total = 0;
+        for (SessionLaps session : columns) {
+            for (int row = 0; row < session.size(); row++) {
+                total += session.lapDuration(row);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,81 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionLaps;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares the retained heap of a season of laps held as {@link Lap} objects against the columnar
+ * {@link SessionLaps}. The time to scan each is measured by {@link LapScanBenchmark}.
+ *
+ * <p>Run with {@code mvn -Djava.version=<jdk> test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.f1telemetry.race_telemetry_analyzer.benchmark.LapStoreFootprintBenchmark}.
+ */
+public class LapStoreFootprintBenchmark {
+
+    private static final int SESSIONS = 24;
+    private static final int DRIVERS = 20;
+    private static final int LAPS_PER_DRIVER = 60;
+
+    public static void main(String[] args) {
+        int laps = SESSIONS * DRIVERS * LAPS_PER_DRIVER;
+
+        long objectBytes = retainedBytes(LapStoreFootprintBenchmark::season);
+        long columnarBytes = retainedBytes(() -> {
+            List<SessionLaps> sessions = new ArrayList<>();
+            for (List<Lap> session : season()) {
+                sessions.add(SessionLaps.of(session.get(0).getSessionKey(), session));
+            }
+            return sessions;
+        });
+
+        System.out.printf("season             %,d sessions, %,d laps%n", SESSIONS, laps);
+        System.out.printf("List<Lap>          %,d bytes retained (%.1f bytes per lap)%n", objectBytes, (double) objectBytes / laps);
+        System.out.printf("SessionLaps        %,d bytes retained (%.1f bytes per lap)%n", columnarBytes, (double) columnarBytes / laps);
+    }
+
+    /**
+     * Laps as decoded from OpenF1: every value boxed, every lap with its composite id.
+     */
+    static List<List<Lap>> season() {
+        Random random = new Random(42);
+        List<List<Lap>> sessions = new ArrayList<>();
+        for (int session = 0; session < SESSIONS; session++) {
+            List<Lap> laps = new ArrayList<>();
+            for (int driver = 1; driver <= DRIVERS; driver++) {
+                for (int lap = 1; lap <= LAPS_PER_DRIVER; lap++) {
+                    float s1 = 28 + random.nextFloat() * 3;
+                    float s2 = 30 + random.nextFloat() * 3;
+                    float s3 = 29 + random.nextFloat() * 3;
+                    laps.add(new Lap(9000 + session, driver, lap, s1 + s2 + s3, s1, s2, s3, lap == 1, 290 + random.nextInt(50)));
+                }
+            }
+            sessions.add(laps);
+        }
+        return sessions;
+    }
+
+    private static long retainedBytes(Supplier<Object> build) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedHeapAfterGc(memory);
+        Object retained = build.get();
+        long after = usedHeapAfterGc(memory);
+        if (retained.hashCode() == 0) {
+            System.out.print("");  // Keeps the structure reachable until after the measurement
+        }
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
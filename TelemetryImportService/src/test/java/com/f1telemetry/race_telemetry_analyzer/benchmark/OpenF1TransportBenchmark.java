@@ -0,0 +1,109 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ApacheOpenF1HttpTransport;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.JdkOpenF1HttpTransport;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.OpenF1HttpTransport;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.OpenF1Response;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing requests/sec of the two {@link OpenF1HttpTransport} implementations against a local HTTP
+ * server that serves a lap-sized JSON payload. {@value #CONCURRENCY} benchmark threads share one transport, so
+ * that many requests are in flight, as with the import's lap and position stages.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=OpenF1TransportBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(OpenF1TransportBenchmark.CONCURRENCY)
+@Fork(1)
+public class OpenF1TransportBenchmark {
+
+    static final int CONCURRENCY = 16;
+
+    @Param({"jdk", "apache"})
+    private String transportName;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private OpenF1HttpTransport transport;
+    private String url;
+
+    @Setup
+    public void setUp() throws IOException {
+        System.setProperty("sun.net.httpserver.nodelay", "true");  // Avoid Nagle/delayed-ACK stalls on the local server
+        byte[] payload = lapPayload(60).getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/laps", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(payload);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(CONCURRENCY);
+        server.setExecutor(serverExecutor);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/laps?session_key=9158";
+
+        Duration timeout = Duration.ofSeconds(30);
+        transport = switch (transportName) {
+            case "jdk" -> new JdkOpenF1HttpTransport(timeout, timeout);
+            case "apache" -> new ApacheOpenF1HttpTransport(CONCURRENCY, timeout, timeout);
+            default -> throw new IllegalArgumentException("Unknown transport " + transportName);
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        transport.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int request() {
+        try (OpenF1Response response = transport.getAsync(url).join()) {  // Closing drains the body back to the pool
+            return response.statusCode();
+        }
+    }
+
+    private static String lapPayload(int laps) {
+        StringBuilder json = new StringBuilder("[");
+        for (int lap = 1; lap <= laps; lap++) {
+            if (lap > 1) {
+                json.append(',');
+            }
+            json.append("{\"meeting_key\":1244,\"session_key\":9158,\"driver_number\":1,\"lap_number\":").append(lap)
+                    .append(",\"date_start\":\"2023-09-16T13:59:07.606000+00:00\",\"duration_sector_1\":26.966")
+                    .append(",\"duration_sector_2\":38.657,\"duration_sector_3\":26.12,\"i1_speed\":307,\"i2_speed\":277")
+                    .append(",\"is_pit_out_lap\":false,\"lap_duration\":91.743,\"st_speed\":298}");
+        }
+        return json.append(']').toString();
+    }
+}
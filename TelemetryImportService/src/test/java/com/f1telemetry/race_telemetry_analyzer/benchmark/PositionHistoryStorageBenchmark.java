@@ -0,0 +1,139 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.model.PositionSample;
+import com.f1telemetry.race_telemetry_analyzer.repository.PositionHistoryRepository;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the {@link PositionSample} time-series collection against a regular collection holding the same samples
+ * on a local mongod: insert throughput, storage size, total index size, and the latency of the timeline range scan
+ * (a 30 minute window of one session, every driver).
+ *
+ * <p>The time-series collection is written through {@link PositionHistoryRepository}, one session at a time as the
+ * import does; the regular collection gets the same documents and a {@code (meta.sessionKey, date)} index. A season
+ * is 24 sessions of 20 drivers with one position update every 20 seconds over two hours. The benchmark uses the
+ * {@code telemetry_benchmark} database and drops both collections between runs.
+ *
+ * <p>Run with {@code mvn -Djava.version=<jdk> test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.f1telemetry.race_telemetry_analyzer.benchmark.PositionHistoryStorageBenchmark
+ * -Dexec.args="mongodb://localhost:27017 3"}.
+ */
+public class PositionHistoryStorageBenchmark {
+
+    private static final int SESSIONS = 24;
+    private static final int DRIVERS = 20;
+    private static final Duration RACE_LENGTH = Duration.ofHours(2);
+    private static final Duration UPDATE_INTERVAL = Duration.ofSeconds(20);
+    private static final Duration WINDOW = Duration.ofMinutes(30);
+    private static final Instant FIRST_RACE_START = Instant.parse("2024-03-02T15:00:00Z");
+    private static final String REGULAR_COLLECTION = "position_samples_regular";
+    private static final int SCANS = 200;
+
+    public static void main(String[] args) {
+        String uri = args.length > 0 ? args[0] : "mongodb://localhost:27017";
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, "telemetry_benchmark");
+            ImportMetrics importMetrics = new ImportMetrics(new SimpleMeterRegistry());
+            List<List<PositionSample>> season = season();
+            System.out.printf("%,d samples%n", season.stream().mapToInt(List::size).sum());
+
+            for (int round = 1; round <= rounds; round++) {
+                dropCollections(mongoTemplate);
+
+                // A new repository per round, as the collection and its index are created on its first write
+                PositionHistoryRepository repository = new PositionHistoryRepository(mongoTemplate, importMetrics);
+                long start = System.nanoTime();
+                for (List<PositionSample> session : season) {
+                    repository.replaceSession(session.getFirst().getMeta().getSessionKey(), session);
+                }
+                report(mongoTemplate, round, "series", mongoTemplate.getCollectionName(PositionSample.class), season, System.nanoTime() - start,
+                        (sessionKey, from) -> repository.findTimeline(sessionKey, from, from.plus(WINDOW)).size());
+
+                mongoTemplate.indexOps(REGULAR_COLLECTION).ensureIndex(new Index()
+                        .on("meta.sessionKey", Sort.Direction.ASC)
+                        .on("date", Sort.Direction.ASC));
+                start = System.nanoTime();
+                for (List<PositionSample> session : season) {
+                    mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, REGULAR_COLLECTION).insert(session).execute();
+                }
+                report(mongoTemplate, round, "regular", REGULAR_COLLECTION, season, System.nanoTime() - start,
+                        (sessionKey, from) -> mongoTemplate.find(new Query(Criteria.where("meta.sessionKey").is(sessionKey)
+                                .and("date").gte(from).lt(from.plus(WINDOW))).with(Sort.by("date")), PositionSample.class, REGULAR_COLLECTION).size());
+            }
+            dropCollections(mongoTemplate);
+        }
+    }
+
+    private static void report(MongoTemplate mongoTemplate, int round, String layout, String collection, List<List<PositionSample>> season,
+                               long insertNanos, RangeScan scan) {
+        int samples = season.stream().mapToInt(List::size).sum();
+        Document stats = mongoTemplate.getDb().runCommand(new Document("collStats", collection));
+
+        long[] latencies = new long[SCANS];
+        int scanned = 0;
+        for (int i = 0; i < SCANS; i++) {
+            int session = i % SESSIONS;
+            Instant from = raceStart(session).plus(RACE_LENGTH.minus(WINDOW).dividedBy(SCANS).multipliedBy(i));
+            long start = System.nanoTime();
+            scanned += scan.run(sessionKey(session), from);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("round %d %-7s insert %,9.0f docs/s   storage %,11d B   indexes %,10d B   scan p50 %6.2f ms  p99 %6.2f ms  (%,d samples/scan)%n",
+                round, layout, samples / (insertNanos / 1e9), stats.get("storageSize", Number.class).longValue(),
+                stats.get("totalIndexSize", Number.class).longValue(), latencies[SCANS / 2] / 1e6, latencies[SCANS * 99 / 100] / 1e6,
+                scanned / SCANS);
+    }
+
+    private static List<List<PositionSample>> season() {
+        List<List<PositionSample>> season = new ArrayList<>(SESSIONS);
+        for (int session = 0; session < SESSIONS; session++) {
+            List<PositionSample> samples = new ArrayList<>();
+            for (Instant date = raceStart(session); date.isBefore(raceStart(session).plus(RACE_LENGTH)); date = date.plus(UPDATE_INTERVAL)) {
+                for (int driver = 1; driver <= DRIVERS; driver++) {
+                    samples.add(new PositionSample(date, sessionKey(session), driver, (driver + (int) date.getEpochSecond() / 600) % DRIVERS + 1));
+                }
+            }
+            season.add(samples);
+        }
+        return season;
+    }
+
+    private static Instant raceStart(int session) {
+        return FIRST_RACE_START.plus(Duration.ofDays(14).multipliedBy(session));
+    }
+
+    private static int sessionKey(int session) {
+        return 9000 + session * 7;
+    }
+
+    private static void dropCollections(MongoTemplate mongoTemplate) {
+        mongoTemplate.dropCollection(PositionSample.class);
+        mongoTemplate.dropCollection("position_sample_generations");
+        mongoTemplate.dropCollection(REGULAR_COLLECTION);
+    }
+
+    @FunctionalInterface
+    private interface RangeScan {
+        int run(int sessionKey, Instant from);
+    }
+}
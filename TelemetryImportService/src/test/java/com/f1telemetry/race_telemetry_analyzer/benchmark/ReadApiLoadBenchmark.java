@@ -0,0 +1,172 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import com.f1telemetry.race_telemetry_analyzer.RaceTelemetryAnalyzerApplication;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
+import com.mongodb.client.MongoDatabase;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test comparing the blocking lap endpoint against its reactive counterpart at high concurrency.
+ *
+ * <p>Starts the application in-process against a local mongod (without the startup import), seeds one session of
+ * laps into the {@code telemetry_benchmark} database, dropped at the end, then sends the same number of requests to
+ * {@code /api/laps/session/{sk}/driver/{dn}} and {@code /api/reactive/laps/session/{sk}/driver/{dn}} with a fixed
+ * number in flight. Reports latency percentiles and the peak number of platform threads and Tomcat request threads
+ * while each endpoint is under load.
+ *
+ * <p>Run with {@code mvn -Djava.version=<jdk> test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.f1telemetry.race_telemetry_analyzer.benchmark.ReadApiLoadBenchmark
+ * -Dexec.args="mongodb://localhost:27017 512 20000"}.
+ */
+public class ReadApiLoadBenchmark {
+
+    private static final String DATABASE = "telemetry_benchmark";
+    private static final int SESSION_KEY = 9158;
+    private static final int DRIVER_NUMBER = 44;
+    private static final int WARMUP_REQUESTS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        String uri = args.length > 0 ? args[0] : "mongodb://localhost:27017";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 512;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+
+        ConfigurableApplicationContext context = SpringApplication.run(RaceTelemetryAnalyzerApplication.class,
+                "--spring.data.mongodb.uri=" + uri,
+                "--spring.data.mongodb.database=" + DATABASE,  // Overrides spring.data.mongodb.database of application.properties
+                "--openf1.import.on-startup=false",
+                "--server.port=0",
+                "--logging.level.com.f1telemetry=WARN");
+        try {
+            List<Lap> laps = new ArrayList<>();
+            for (int lap = 1; lap <= 60; lap++) {
+                laps.add(new Lap(SESSION_KEY, DRIVER_NUMBER, lap, 92.5f, 30.1f, 31.2f, 31.2f, false, 310));
+            }
+            context.getBean(BulkUpsertWriter.class).upsertAll(Lap.class, laps);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String path = "/laps/session/" + SESSION_KEY + "/driver/" + DRIVER_NUMBER;
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+            System.out.printf("%,d requests, %d in flight%n", requests, concurrency);
+            for (String endpoint : List.of("/api" + path, "/api/reactive" + path)) {
+                URI target = URI.create("http://localhost:" + port + endpoint);
+                run(client, target, concurrency, WARMUP_REQUESTS);
+                Result result = run(client, target, concurrency, requests);
+                System.out.printf("%-45s p50 %6.1f ms  p99 %6.1f ms  max %7.1f ms  %,6.0f req/s  peak threads %d (tomcat %d)  errors %d%n",
+                        endpoint, result.percentile(50), result.percentile(99), result.percentile(100), result.throughput(),
+                        result.peakThreads, result.peakTomcatThreads, result.errors);
+            }
+        } finally {
+            MongoDatabase database = context.getBean(MongoTemplate.class).getDb();
+            if (DATABASE.equals(database.getName())) {  // Never drop the application's own database
+                database.drop();
+            }
+            context.close();
+        }
+    }
+
+    private static Result run(HttpClient client, URI target, int concurrency, int requests) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(target).header("Accept", "application/json").build();
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        ThreadSampler sampler = new ThreadSampler();
+        sampler.start();
+
+        long start = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> sent = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                sent.add(senders.submit(() -> {
+                    long sentAt = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - sentAt;
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : sent) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        sampler.stop();
+
+        Arrays.sort(latencies);
+        return new Result(latencies, elapsed, errors.get(), sampler.peakThreads, sampler.peakTomcatThreads);
+    }
+
+    private record Result(long[] sortedLatencies, long elapsedNanos, int errors, int peakThreads, int peakTomcatThreads) {
+
+        double percentile(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+
+    /**
+     * Samples the live platform thread count every 10 ms, counting Tomcat's request threads ({@code http-nio-*-exec-*})
+     * separately.
+     */
+    private static final class ThreadSampler {
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private Thread thread;
+        private volatile int peakThreads;
+        private volatile int peakTomcatThreads;
+
+        void start() {
+            thread = Thread.ofPlatform().daemon().start(() -> {
+                while (running.get()) {
+                    peakThreads = Math.max(peakThreads, threads.getThreadCount());
+                    int tomcat = (int) Thread.getAllStackTraces().keySet().stream()
+                            .filter(t -> t.getName().startsWith("http-nio-") && t.getName().contains("-exec-"))
+                            .count();
+                    peakTomcatThreads = Math.max(peakTomcatThreads, tomcat);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        void stop() throws InterruptedException {
+            running.set(false);
+            thread.join();
+        }
+    }
+}
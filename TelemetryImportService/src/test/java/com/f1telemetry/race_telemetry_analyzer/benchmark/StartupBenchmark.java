@@ -0,0 +1,140 @@
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures time-to-first-request of the packaged application, from launching the JVM to the first HTTP response of
+ * two endpoints: {@code GET /api/imports}, which is served from memory, and then {@code GET /api/races}, which reads
+ * MongoDB and so also includes creating the beans that the {@code faststart} profile leaves lazy.
+ *
+ * <p>Four configurations are compared, each started {@code rounds} times in turn:
+ * <ul>
+ *   <li>{@code default}: the uber jar with the default configuration</li>
+ *   <li>{@code extracted}: the extracted jar with the default configuration, the baseline of the two below</li>
+ *   <li>{@code faststart}: the extracted jar with the {@code faststart} Spring profile</li>
+ *   <li>{@code faststart+cds}: the same, with the class data sharing archive of the training run</li>
+ * </ul>
+ * The startup import and the poller are disabled so OpenF1 is never called. MongoDB must be reachable: the default
+ * configuration creates the indexes while the context starts, and {@code /api/races} reads the races.
+ *
+ * <p>Build with {@code mvn -Djava.version=<jdk> -Pfaststart -DskipTests package}, then run with
+ * {@code mvn -Djava.version=<jdk> test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.f1telemetry.race_telemetry_analyzer.benchmark.StartupBenchmark
+ * -Dexec.args="target mongodb://localhost:27017/race_telemetry_db 5"}.
+ */
+public class StartupBenchmark {
+
+    private static final String JAR = "race-telemetry-analyzer-0.0.1-SNAPSHOT.jar";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final List<String> ENDPOINTS = List.of("/api/imports", "/api/races");
+
+    public static void main(String[] args) throws Exception {
+        Path target = Path.of(args.length > 0 ? args[0] : "target");
+        String mongoUri = args.length > 1 ? args[1] : "mongodb://localhost:27017/race_telemetry_db";
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        Path faststart = target.resolve("faststart");
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("default", List.of("-jar", target.resolve(JAR).toString()));
+        configurations.put("extracted", List.of("-jar", faststart.resolve(JAR).toString()));
+        configurations.put("faststart", List.of("-Dspring.profiles.active=faststart", "-jar", faststart.resolve(JAR).toString()));
+        Path archive = faststart.resolve("application.jsa");
+        if (Files.exists(archive)) {
+            configurations.put("faststart+cds", List.of("-XX:SharedArchiveFile=" + archive, "-Xlog:cds=off", "-Xlog:cds+dynamic=off",
+                    "-Dspring.profiles.active=faststart", "-jar", faststart.resolve(JAR).toString()));
+        }
+
+        Map<String, long[][]> results = new LinkedHashMap<>();
+        configurations.keySet().forEach(name -> results.put(name, new long[ENDPOINTS.size()][rounds]));
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+        for (int round = 0; round < rounds; round++) {
+            for (Map.Entry<String, List<String>> configuration : configurations.entrySet()) {
+                long[] millis = timeToFirstRequests(client, configuration.getValue(), mongoUri);
+                for (int endpoint = 0; endpoint < millis.length; endpoint++) {
+                    results.get(configuration.getKey())[endpoint][round] = millis[endpoint];
+                }
+                System.out.printf("round %d %-14s %s %,6d ms   %s %,6d ms%n", round + 1, configuration.getKey(),
+                        ENDPOINTS.get(0), millis[0], ENDPOINTS.get(1), millis[1]);
+            }
+        }
+
+        System.out.println();
+        results.forEach((name, byEndpoint) -> {
+            for (int endpoint = 0; endpoint < byEndpoint.length; endpoint++) {
+                long[] sorted = byEndpoint[endpoint].clone();
+                Arrays.sort(sorted);
+                System.out.printf("%-14s %-12s median %,6d ms   min %,6d ms   max %,6d ms%n",
+                        name, ENDPOINTS.get(endpoint), sorted[sorted.length / 2], sorted[0], sorted[sorted.length - 1]);
+            }
+        });
+    }
+
+    /**
+     * Starts the application and requests each of {@link #ENDPOINTS} in turn until it answers.
+     *
+     * @return the milliseconds from launch to the first response of each endpoint
+     */
+    private static long[] timeToFirstRequests(HttpClient client, List<String> jvmArguments, String mongoUri) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.add("--server.port=" + port);
+        command.add("--spring.data.mongodb.uri=" + mongoUri);
+        command.add("--openf1.import.on-startup=false");
+        command.add("--openf1.poll.enabled=false");
+
+        long[] millis = new long[ENDPOINTS.size()];
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            for (int endpoint = 0; endpoint < millis.length; endpoint++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + ENDPOINTS.get(endpoint))).build();
+                millis[endpoint] = firstResponse(client, request, process, command, start);
+            }
+            return millis;
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static long firstResponse(HttpClient client, HttpRequest request, Process process, List<String> command, long start) throws Exception {
+        while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException(request.uri() + " answered " + response.statusCode() + ": " + command);
+                }
+                return (System.nanoTime() - start) / 1_000_000;
+            } catch (ConnectException e) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("The application exited with code " + process.exitValue() + ": " + command);
+                }
+                Thread.sleep(10);
+            }
+        }
+        throw new IllegalStateException("The application did not answer within " + TIMEOUT + ": " + command);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Benchmarks, in two kinds.
+ *
+ * <p>Microbenchmarks of code that runs in-process, such as decoding, id building, lap scans and the HTTP transports,
+ * are JMH benchmarks, so warm-up, forking and dead-code elimination are handled by the harness. They run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=<class>}, the GC profiler adding the bytes allocated
+ * per operation ({@code gc.alloc.rate.norm}).
+ *
+ * <p>Harnesses that need a mongod, a packaged jar or a whole application context, and the retained heap
+ * measurement, which JMH does not provide, have a {@code main} method instead and run with {@code exec:java}; each
+ * documents its arguments.
+ */
+package com.f1telemetry.race_telemetry_analyzer.benchmark;
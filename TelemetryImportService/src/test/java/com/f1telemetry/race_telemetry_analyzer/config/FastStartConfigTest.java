@@ -0,0 +1,33 @@
+package com.f1telemetry.race_telemetry_analyzer.config;
+
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportJobService;
+import com.f1telemetry.race_telemetry_analyzer.service.RaceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
+import org.springframework.context.annotation.ConfigurationClassPostProcessor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastStartConfigTest {
+
+    @Test
+    void lazyOpenF1ImportBeans_ShouldOnlyDeferTheImportBeans() {
+        // Arrange
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("importJobService", new RootBeanDefinition(ImportJobService.class));
+        beanFactory.registerBeanDefinition("raceService", new RootBeanDefinition(RaceService.class));
+        new AnnotatedBeanDefinitionReader(beanFactory).registerBean(OpenF1HttpConfig.class, "openF1HttpConfig");
+        new ConfigurationClassPostProcessor().postProcessBeanDefinitionRegistry(beanFactory);
+
+        // Act
+        FastStartConfig.lazyOpenF1ImportBeans().postProcessBeanFactory(beanFactory);
+
+        // Assert
+        assertTrue(beanFactory.getBeanDefinition("importJobService").isLazyInit());
+        assertTrue(beanFactory.getBeanDefinition("jdkOpenF1HttpTransport").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("raceService").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("openF1HttpConfig").isLazyInit());
+    }
+}
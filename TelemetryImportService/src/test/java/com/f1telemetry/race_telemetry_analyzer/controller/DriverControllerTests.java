@@ -9,11 +9,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -92,6 +95,46 @@ public class DriverControllerTests {
         verify(driverService, times(1)).addDriver(newDriver);
     }
 
+    @Test
+    void testGetDriverByIdReturnsSelectedFields() {
+        // Arrange
+        when(driverService.getDriverFieldNames()).thenReturn(Set.of("fullName", "team"));
+        when(driverService.getDriverById("Lewis Hamilton", Set.of("team"))).thenReturn(Optional.of(Map.of("team", "Mercedes")));
+
+        // Act
+        ResponseEntity<Map<String, Object>> response = driverController.getDriverById("Lewis Hamilton", "team");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Map.of("team", "Mercedes"), response.getBody());
+    }
+
+    @Test
+    void testGetDriverByIdWithFields_NotFound() {
+        // Arrange
+        when(driverService.getDriverFieldNames()).thenReturn(Set.of("fullName", "team"));
+        when(driverService.getDriverById("999", Set.of("team"))).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<Map<String, Object>> response = driverController.getDriverById("999", "team");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void testGetAllDriversRejectsUnknownField() {
+        // Arrange
+        when(driverService.getDriverFieldNames()).thenReturn(Set.of("fullName", "team"));
+
+        // Act
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> driverController.getAllDrivers("team,salary"));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(driverService, never()).getAllDrivers(anySet());
+    }
+
     @Test
     void testDeleteDriver() {
         // Act
@@ -0,0 +1,131 @@
+package com.f1telemetry.race_telemetry_analyzer.controller;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.service.LapService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class LapControllerTests {
+
+    @Mock
+    private LapService lapService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private LapController lapController;
+
+    private MockMvc mockMvc;
+
+    private final Lap lap1 = new Lap(9158, 44, 1, 92.5f, 30.1f, 31.2f, 31.2f, false, 310);
+    private final Lap lap2 = new Lap(9158, 44, 2, 91.9f, 30.0f, 31.0f, 30.9f, false, 312);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);  // Initialize mocks
+        mockMvc = MockMvcBuilders.standaloneSetup(lapController).build();
+    }
+
+    @Test
+    void testGetLapsReturnsNextCursorWhenPageIsFull() throws Exception {
+        // Arrange
+        when(lapService.getLapPage("9158_44_0", 2)).thenReturn(List.of(lap1, lap2));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/laps").param("after", "9158_44_0").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ListingResponses.NEXT_CURSOR_HEADER, "9158_44_2"))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void testGetLapsOmitsNextCursorOnLastPage() throws Exception {
+        // Arrange
+        when(lapService.getLapPage(null, ListingResponses.DEFAULT_LIMIT)).thenReturn(List.of(lap1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/laps").header("Accept", "*/*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ListingResponses.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$[0].id").value("9158_44_1"));
+    }
+
+    @Test
+    void testStreamLapsWritesOneDocumentPerLineAndClosesCursor() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(lapService.streamAllLaps()).thenReturn(Stream.of(lap1, lap2).onClose(() -> closed.set(true)));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/laps").header("Accept", ListingResponses.NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("9158_44_2", objectMapper.readValue(lines[1], Lap.class).getId());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testGetLapsBySessionAndDriverPushesFieldsDown() throws Exception {
+        // Arrange
+        when(lapService.getLapFieldNames()).thenReturn(Set.of("id", "sessionKey", "driverNumber", "lapNumber", "lapDuration"));
+        when(lapService.getLapsBySessionAndDriver(9158, 44, Set.of("lapNumber", "lapDuration")))
+                .thenReturn(List.of(Map.of("lapNumber", 1, "lapDuration", 92.5)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/laps/session/9158/driver/44").param("fields", "lapNumber, lapDuration"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].lapNumber").value(1))
+                .andExpect(jsonPath("$[0].sector1").doesNotExist());
+    }
+
+    @Test
+    void testGetLapsRejectsUnknownField() throws Exception {
+        // Arrange
+        when(lapService.getLapFieldNames()).thenReturn(Set.of("id", "lapNumber"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/laps").param("fields", "lapNumber,tyreCompound"))
+                .andExpect(status().isBadRequest());
+        verify(lapService, never()).getLapPage(any(), anyInt(), anySet());
+    }
+
+    @Test
+    void testGetLapsRejectsMalformedCursor() throws Exception {
+        // Arrange
+        when(lapService.getLapPage("not-a-lap", ListingResponses.DEFAULT_LIMIT))
+                .thenThrow(new IllegalArgumentException("Not a lap or position id: not-a-lap"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/laps").param("after", "not-a-lap"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,80 @@
+package com.f1telemetry.race_telemetry_analyzer.controller;
+
+import com.f1telemetry.race_telemetry_analyzer.service.RaceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class RaceControllerTests {
+
+    @Mock
+    private RaceService raceService;
+
+    @InjectMocks
+    private RaceController raceController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);  // Initialize mocks
+        mockMvc = MockMvcBuilders.standaloneSetup(raceController).build();
+        when(raceService.getRaceFieldNames()).thenReturn(Set.of("sessionKey", "year", "countryName", "circuitName"));
+    }
+
+    @Test
+    void testGetAllRacesPushesFieldsDown() throws Exception {
+        // Arrange
+        when(raceService.getAllRaces(Set.of("sessionKey", "countryName")))
+                .thenReturn(List.of(Map.of("sessionKey", 9158, "countryName", "Singapore")));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/races").param("fields", "sessionKey,countryName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].countryName").value("Singapore"))
+                .andExpect(jsonPath("$[0].year").doesNotExist());
+    }
+
+    @Test
+    void testGetRaceBySessionKeyReturnsSelectedFields() throws Exception {
+        // Arrange
+        when(raceService.getRaceBySessionKey("9158", Set.of("year"))).thenReturn(Optional.of(Map.of("year", 2024)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/races/9158").param("fields", "year"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.year").value(2024));
+    }
+
+    @Test
+    void testGetRaceBySessionKeyWithFieldsReturnsNotFound() throws Exception {
+        // Arrange
+        when(raceService.getRaceBySessionKey("abc", Set.of("year"))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/races/abc").param("fields", "year"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetRaceBySessionKeyRejectsUnknownField() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/races/9158").param("fields", "year,winner"))
+                .andExpect(status().isBadRequest());
+        verify(raceService, never()).getRaceBySessionKey(anyString(), anySet());
+    }
+}
@@ -0,0 +1,92 @@
+package com.f1telemetry.race_telemetry_analyzer.controller;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import com.f1telemetry.race_telemetry_analyzer.service.ReactiveReadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ReactiveReadControllerTests {
+
+    @Mock
+    private ReactiveReadService reactiveReadService;
+
+    @InjectMocks
+    private ReactiveReadController reactiveReadController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);  // Initialize mocks
+        mockMvc = MockMvcBuilders.standaloneSetup(reactiveReadController).build();
+    }
+
+    @Test
+    void testGetLapsBySessionAndDriverCompletesAsynchronously() throws Exception {
+        // Arrange
+        when(reactiveReadService.getLapsBySessionAndDriver(9158, 44)).thenReturn(Flux.just(
+                new Lap(9158, 44, 1, 92.5f, 30.1f, 31.2f, 31.2f, false, 310),
+                new Lap(9158, 44, 2, 91.9f, 30.0f, 31.0f, 30.9f, false, 312)));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/reactive/laps/session/9158/driver/44"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value("9158_44_2"));
+    }
+
+    @Test
+    void testGetPositionsBySessionStreamsNdjsonWhenRequested() throws Exception {
+        // Arrange
+        when(reactiveReadService.getPositionsBySession(9158)).thenReturn(Flux.just(new Position(9158, 44, 1), new Position(9158, 1, 2)));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/reactive/positions/session/9158").header("Accept", ListingResponses.NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertEquals(2, body.strip().split("\n").length);
+    }
+
+    @Test
+    void testGetDriverByIdReturnsNotFoundWhenEmpty() throws Exception {
+        // Arrange
+        when(reactiveReadService.getDriverById("Unknown")).thenReturn(Mono.empty());
+        when(reactiveReadService.getDriverById("Lando Norris")).thenReturn(Mono.just(new Driver("Lando Norris", "McLaren")));
+
+        // Act
+        MvcResult missing = mockMvc.perform(get("/api/reactive/drivers/Unknown")).andReturn();
+        MvcResult found = mockMvc.perform(get("/api/reactive/drivers/Lando Norris")).andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(missing)).andExpect(status().isNotFound());
+        mockMvc.perform(asyncDispatch(found))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullName").value("Lando Norris"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.f1telemetry.race_telemetry_analyzer.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositeIdsTest {
+
+    @Test
+    void pack_ShouldRoundTripLapAndPositionIds() {
+        // Act
+        long lapId = CompositeIds.pack("9158_44_12");
+        long positionId = CompositeIds.pack("9158_44");
+
+        // Assert
+        assertEquals(CompositeIds.lapId(9158, 44, 12), lapId);
+        assertEquals("9158_44_12", CompositeIds.toLapId(lapId));
+        assertEquals(CompositeIds.positionId(9158, 44), positionId);
+        assertEquals("9158_44", CompositeIds.toPositionId(positionId));
+        assertEquals(new Lap(9158, 44, 12, null, null, null, null, false, null).getId(), CompositeIds.toLapId(lapId));
+    }
+
+    @Test
+    void lapId_ShouldSortBySessionThenDriverThenLap() {
+        // Assert
+        assertTrue(CompositeIds.lapId(9158, 44, 9) < CompositeIds.lapId(9158, 44, 10));
+        assertTrue(CompositeIds.lapId(9158, 44, 70) < CompositeIds.lapId(9158, 63, 1));
+        assertTrue(CompositeIds.lapId(9158, 99, 70) < CompositeIds.lapId(9159, 1, 1));
+        assertEquals(9159, CompositeIds.sessionKey(CompositeIds.lapId(9159, 65535, 65535)));
+    }
+
+    @Test
+    void pack_ShouldRejectIdsThatDoNotFit() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> CompositeIds.pack("9158"));
+        assertThrows(IllegalArgumentException.class, () -> CompositeIds.pack("9158_44_1_2"));
+        assertThrows(IllegalArgumentException.class, () -> CompositeIds.pack("9158_null_1"));
+        assertThrows(IllegalArgumentException.class, () -> CompositeIds.pack("9158_65536_1"));
+        assertThrows(IllegalArgumentException.class, () -> CompositeIds.lapId(-1, 44, 1));
+    }
+}
@@ -0,0 +1,124 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties.Storage.IdFormat;
+import com.f1telemetry.race_telemetry_analyzer.model.CompositeIds;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BulkUpsertWriterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private BulkWriteResult bulkWriteResult;
+
+    private BulkUpsertWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Lap.class)).thenReturn(bulkOperations);
+        when(mongoTemplate.getCollectionName(Lap.class)).thenReturn("laps");
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+
+        OpenF1Properties properties = new OpenF1Properties();
+        properties.getImport().setWriteBatchSize(2);
+        writer = new BulkUpsertWriter(mongoTemplate, new StoredIds(properties), properties, new ImportMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void upsertAll_ShouldChunkWritesAndSumCounts() {
+        // Arrange
+        List<Lap> laps = List.of(
+                new Lap(1, 33, 1, 90.5f, 30.5f, 30.0f, 30.0f, false, 320),
+                new Lap(1, 33, 2, 91.2f, 30.4f, 30.2f, 30.6f, false, 318),
+                new Lap(1, 33, 3, 91.0f, 30.4f, 30.1f, 30.5f, false, 319)
+        );
+        when(bulkWriteResult.getMatchedCount()).thenReturn(1);
+        when(bulkWriteResult.getModifiedCount()).thenReturn(1);
+        when(bulkWriteResult.getUpserts()).thenReturn(List.of(new BulkWriteUpsert(0, new BsonString("1_33_1"))));
+
+        // Act
+        BulkUpsertResult result = writer.upsertAll(Lap.class, laps);
+
+        // Assert
+        assertEquals(new BulkUpsertResult(2, 2, 2, 2), result);
+        verify(bulkOperations, times(3)).replaceOne(any(Query.class), any(Lap.class), any(FindAndReplaceOptions.class));
+        verify(bulkOperations, times(2)).execute();
+    }
+
+    @Test
+    void upsertAll_ShouldWriteEachIdOnce() {
+        // Arrange
+        Lap first = new Lap(1, 33, 1, 90.5f, 30.5f, 30.0f, 30.0f, false, 320);
+        Lap corrected = new Lap(1, 33, 1, 90.4f, 30.4f, 30.0f, 30.0f, false, 320);
+        when(bulkWriteResult.getUpserts()).thenReturn(List.of());
+
+        // Act
+        writer.upsertAll(Lap.class, List.of(first, corrected));
+
+        // Assert
+        verify(bulkOperations, times(1)).replaceOne(any(Query.class), eq(corrected), any(FindAndReplaceOptions.class));
+        verify(bulkOperations, never()).replaceOne(any(Query.class), eq(first), any(FindAndReplaceOptions.class));
+    }
+
+    @Test
+    void upsertAll_ShouldWritePackedIdsWhenConfigured() {
+        // Arrange
+        OpenF1Properties properties = new OpenF1Properties();
+        properties.getStorage().setIdFormat(IdFormat.PACKED);
+        BulkUpsertWriter packedWriter = new BulkUpsertWriter(mongoTemplate, new StoredIds(properties), properties, new ImportMetrics(new SimpleMeterRegistry()));
+        when(bulkWriteResult.getUpserts()).thenReturn(List.of());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Document> replacement = ArgumentCaptor.forClass(Document.class);
+
+        // Act
+        packedWriter.upsertAll(Lap.class, List.of(new Lap(9158, 44, 3, 90.5f, 30.5f, 30.0f, 30.0f, false, 320)));
+
+        // Assert
+        long packedId = CompositeIds.lapId(9158, 44, 3);
+        verify(bulkOperations).replaceOne(query.capture(), replacement.capture(), any(FindAndReplaceOptions.class));
+        assertEquals(packedId, query.getValue().getQueryObject().get("_id"));
+        assertEquals(packedId, replacement.getValue().get("_id"));
+        assertEquals(3, replacement.getValue().get("lapNumber"));
+    }
+
+    @Test
+    void upsertAll_ShouldNotWriteEmptyCollections() {
+        // Act
+        BulkUpsertResult result = writer.upsertAll(Lap.class, List.of());
+
+        // Assert
+        assertEquals(BulkUpsertResult.EMPTY, result);
+        verifyNoInteractions(bulkOperations);
+    }
+}
@@ -0,0 +1,64 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.model.DriverPace;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LapAnalyticsRepositoryTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private LapAnalyticsRepository lapAnalyticsRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);  // Initialize mocks
+    }
+
+    @Test
+    void paceAggregation_ShouldExcludePitOutAndUntimedLapsBeforeGrouping() {
+        // Act
+        List<Document> pipeline = LapAnalyticsRepository.paceAggregation(9158).toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        // Assert
+        Document match = pipeline.get(0).get("$match", Document.class);
+        assertEquals(9158, match.get("sessionKey"));
+        assertEquals(new Document("$ne", true), match.get("isPitOutLap"));
+        assertEquals(new Document("$gt", 0), match.get("lapDuration"));
+        assertEquals(new Document("driverNumber", 1).append("lapDuration", 1), pipeline.get(1).get("$sort"));
+        assertTrue(pipeline.get(2).containsKey("$group"));
+        assertTrue(pipeline.get(4).get("$project", Document.class).containsKey("medianLap"));
+    }
+
+    @Test
+    void aggregatePace_ShouldMapEachDriverDocument() {
+        // Arrange
+        Document single = new Document("driverNumber", 1).append("lapCount", 1).append("fastestLapNumber", 7)
+                .append("fastestLap", 91.5).append("medianLap", 91.5).append("meanLap", 91.5).append("stdDevLap", null)
+                .append("bestSector1", 30.0).append("bestSector2", 31.0);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Lap.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(single), new Document()));
+
+        // Act
+        List<DriverPace> pace = lapAnalyticsRepository.aggregatePace(9158);
+
+        // Assert
+        assertEquals(List.of(new DriverPace(1, 1, 7, 91.5, 91.5, 91.5, null, 30.0, 31.0, null)), pace);
+    }
+}
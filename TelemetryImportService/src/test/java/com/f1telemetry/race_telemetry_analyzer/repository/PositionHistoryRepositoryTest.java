@@ -0,0 +1,132 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.model.PositionSample;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PositionHistoryRepositoryTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private ImportMetrics importMetrics;
+
+    @InjectMocks
+    private PositionHistoryRepository positionHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);  // Initialize mocks
+        when(mongoTemplate.indexOps(PositionSample.class)).thenReturn(indexOperations);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PositionSample.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Document.class),
+                eq(PositionHistoryRepository.GENERATIONS))).thenReturn(new Document("next", 7L));
+    }
+
+    @Test
+    void timelineQuery_ShouldScanOneSessionWithinTheRange() {
+        // Arrange
+        Instant from = Instant.parse("2023-09-17T12:00:00Z");
+        Instant to = Instant.parse("2023-09-17T12:30:00Z");
+
+        // Act
+        Query query = PositionHistoryRepository.timelineQuery(9158, 7L, from, to);
+        Query unbounded = PositionHistoryRepository.timelineQuery(9158, null, null, null);
+
+        // Assert
+        assertEquals(9158, query.getQueryObject().get("meta.sessionKey"));
+        assertEquals(7L, query.getQueryObject().get("meta.generation"));
+        assertEquals(new Document("$gte", from).append("$lt", to), query.getQueryObject().get("date"));
+        assertEquals(new Document("date", 1), query.getSortObject());  // Served by the index, no in-memory sort
+        assertFalse(unbounded.getQueryObject().containsKey("date"));
+        assertFalse(unbounded.getQueryObject().containsKey("meta.generation"));  // Written before generations
+    }
+
+    @Test
+    void findTimeline_ShouldReadTheCurrentGenerationOfTheSession() {
+        // Arrange
+        when(mongoTemplate.findById(9158, Document.class, PositionHistoryRepository.GENERATIONS))
+                .thenReturn(new Document("_id", 9158).append("current", 6L).append("next", 7L));
+
+        // Act
+        positionHistoryRepository.findTimeline(9158, null, null);
+
+        // Assert
+        verify(mongoTemplate).find(argThat(query -> Long.valueOf(6L).equals(query.getQueryObject().get("meta.generation"))),
+                eq(PositionSample.class));
+    }
+
+    @Test
+    void replaceSession_ShouldSwitchToTheNewGenerationBeforeDeletingTheOldOnes() {
+        // Arrange
+        List<PositionSample> samples = List.of(new PositionSample(Instant.parse("2023-09-17T12:00:00Z"), 9158, 44, 3));
+
+        // Act
+        positionHistoryRepository.replaceSession(9158, samples);
+
+        // Assert
+        assertEquals(7L, samples.getFirst().getMeta().getGeneration());
+        InOrder inOrder = inOrder(bulkOperations, mongoTemplate);
+        inOrder.verify(bulkOperations).execute();
+        inOrder.verify(mongoTemplate).upsert(any(Query.class), argThat(update -> update.getUpdateObject()
+                .equals(new Document("$max", new Document("current", 7L)))), eq(PositionHistoryRepository.GENERATIONS));
+        inOrder.verify(mongoTemplate).remove(argThat(query -> query.getQueryObject()
+                .equals(new Document("meta.sessionKey", 9158).append("meta.generation", new Document("$not", new Document("$gte", 7L))))),
+                eq(PositionSample.class));
+    }
+
+    @Test
+    void replaceSession_ShouldDeleteTheHistoryOfASessionWithoutSamples() {
+        // Act
+        positionHistoryRepository.replaceSession(9158, List.of());
+
+        // Assert
+        verify(bulkOperations, never()).execute();
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(PositionHistoryRepository.GENERATIONS));
+        verify(mongoTemplate).remove(any(Query.class), eq(PositionSample.class));
+    }
+
+    @Test
+    void replaceSession_ShouldCreateTheTimeSeriesCollectionOnce() {
+        // Arrange
+        when(mongoTemplate.collectionExists(PositionSample.class)).thenReturn(false, true);
+        List<PositionSample> samples = List.of(new PositionSample(Instant.parse("2023-09-17T12:00:00Z"), 9158, 44, 3));
+
+        // Act
+        positionHistoryRepository.replaceSession(9158, samples);
+        positionHistoryRepository.replaceSession(9158, samples);
+
+        // Assert
+        verify(mongoTemplate, times(1)).createCollection(PositionSample.class);
+        verify(indexOperations, times(1)).ensureIndex(any());
+        verify(mongoTemplate, times(2)).remove(any(Query.class), eq(PositionSample.class));
+        verify(bulkOperations, times(2)).insert(samples);
+    }
+}
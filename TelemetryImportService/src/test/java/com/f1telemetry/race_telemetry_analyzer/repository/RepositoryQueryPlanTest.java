@@ -0,0 +1,209 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.ImportCheckpoint;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Calls the derived queries of the Spring Data repositories and the lap analytics aggregations against a local mongod,
+ * runs {@code explain} on the {@code find} or {@code aggregate} command each call sent, and fails if a winning plan
+ * scans the whole collection. Plans of {@code find} commands must not sort in memory either; the aggregations sort
+ * by lap duration after their {@code $match}, which no index serves.
+ *
+ * <p>The commands are captured from the driver, so a renamed or changed repository method is explained as it is.
+ * Full scans such as {@code streamAllBy} are not covered. The indexes are created from the {@code @CompoundIndex}
+ * declarations, as on startup. Skipped when no mongod answers at {@code -Dmongodb.test.uri}
+ * (default {@code mongodb://localhost:27017}).
+ */
+class RepositoryQueryPlanTest {
+
+    private static final String DATABASE = "telemetry_query_plan_test";
+    private static final Set<String> EXPLAINED_COMMANDS = Set.of("find", "aggregate");
+    private static final Set<String> SESSION_FIELDS = Set.of("lsid", "txnNumber");  // Added by the driver, rejected by explain
+
+    private static final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+    private static LapRepository lapRepository;
+    private static PositionRepository positionRepository;
+    private static DriverRepository driverRepository;
+    private static ImportCheckpointRepository importCheckpointRepository;
+    private static LapAnalyticsRepository lapAnalyticsRepository;
+
+    @BeforeAll
+    static void setUp() {
+        String uri = System.getProperty("mongodb.test.uri", "mongodb://localhost:27017");
+        CommandListener recorder = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (DATABASE.equals(event.getDatabaseName()) && EXPLAINED_COMMANDS.contains(event.getCommandName())) {
+                    commands.add(event.getCommand().clone());  // The event's document is only valid during the callback
+                }
+            }
+        };
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(2, TimeUnit.SECONDS))
+                .addCommandListener(recorder)
+                .build());
+        try {
+            client.getDatabase("admin").runCommand(new Document("ping", 1));
+        } catch (RuntimeException e) {
+            client.close();
+            Assumptions.abort("No mongod available at " + uri);
+        }
+
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        for (Class<?> entity : List.of(Lap.class, Position.class, Driver.class, ImportCheckpoint.class)) {
+            mongoTemplate.dropCollection(entity);
+            indexResolver.resolveIndexFor(entity).forEach(index -> mongoTemplate.indexOps(entity).ensureIndex(index));
+        }
+        for (int lap = 1; lap <= 50; lap++) {
+            mongoTemplate.insert(new Lap(9158, 44, lap, 92.5f, 30.1f, 31.2f, 31.2f, false, 310));
+        }
+        mongoTemplate.insert(new Position(9158, 44, 3));
+
+        MongoRepositoryFactory repositoryFactory = new MongoRepositoryFactory(mongoTemplate);
+        lapRepository = repositoryFactory.getRepository(LapRepository.class);
+        positionRepository = repositoryFactory.getRepository(PositionRepository.class);
+        driverRepository = repositoryFactory.getRepository(DriverRepository.class);
+        importCheckpointRepository = repositoryFactory.getRepository(ImportCheckpointRepository.class);
+        lapAnalyticsRepository = new LapAnalyticsRepository(mongoTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (mongoTemplate != null) {
+            mongoTemplate.getDb().drop();
+            client.close();
+        }
+    }
+
+    @Test
+    void lapRepository_findBySessionKeyAndDriverNumber_ShouldUseIndex() {
+        assertIndexedPlan(() -> lapRepository.findBySessionKeyAndDriverNumber(9158, 44));
+    }
+
+    @Test
+    void lapRepository_findBySessionKey_ShouldUseIndex() {
+        assertIndexedPlan(() -> lapRepository.findBySessionKey(9158));
+    }
+
+    @Test
+    void lapRepository_findByIdGreaterThanOrderByIdAsc_ShouldUseIdIndex() {
+        assertIndexedPlan(() -> lapRepository.findByIdGreaterThanOrderByIdAsc("9158_44_10", Limit.of(10)));
+    }
+
+    @Test
+    void lapRepository_findByIdGreaterThanOrderByIdAscPacked_ShouldUseIdIndex() {
+        assertIndexedPlan(() -> lapRepository.findByIdGreaterThanOrderByIdAsc(-1L, Limit.of(10)));
+    }
+
+    @Test
+    void positionRepository_findBySessionKeyAndDriverNumber_ShouldUseIndex() {
+        assertIndexedPlan(() -> positionRepository.findBySessionKeyAndDriverNumber(9158, 44));
+    }
+
+    @Test
+    void positionRepository_findBySessionKey_ShouldUseIndex() {
+        assertIndexedPlan(() -> positionRepository.findBySessionKey(9158));
+    }
+
+    @Test
+    void positionRepository_findByIdGreaterThanOrderByIdAsc_ShouldUseIdIndex() {
+        assertIndexedPlan(() -> positionRepository.findByIdGreaterThanOrderByIdAsc("", Limit.of(10)));
+    }
+
+    @Test
+    void driverRepository_findByFullName_ShouldUseIdIndex() {
+        assertIndexedPlan(() -> driverRepository.findByFullName("Lewis HAMILTON"));
+    }
+
+    @Test
+    void importCheckpointRepository_findByEntityTypeAndStatus_ShouldUseIndex() {
+        assertIndexedPlan(() -> importCheckpointRepository.findByEntityTypeAndStatus(ImportCheckpoint.EntityType.LAPS,
+                ImportCheckpoint.Status.COMPLETED));
+    }
+
+    @Test
+    void lapAnalyticsRepository_aggregatePace_ShouldMatchThroughIndex() {
+        assertIndexedPlan(() -> lapAnalyticsRepository.aggregatePace(9158));
+    }
+
+    @Test
+    void lapAnalyticsRepository_aggregateDriverSummaries_ShouldMatchThroughIndex() {
+        assertIndexedPlan(() -> lapAnalyticsRepository.aggregateDriverSummaries(9158));
+    }
+
+    /**
+     * Runs a repository call and explains the single {@code find} or {@code aggregate} command it sent.
+     */
+    private static void assertIndexedPlan(Runnable repositoryCall) {
+        commands.clear();
+        repositoryCall.run();
+        assertEquals(1, commands.size(), () -> "Expected one query, sent " + commands);
+
+        BsonDocument command = commands.get(0);
+        command.keySet().removeIf(field -> field.startsWith("$") || SESSION_FIELDS.contains(field));
+        Document explain = mongoTemplate.getDb().runCommand(new BsonDocument("explain", command)
+                .append("verbosity", new BsonString("queryPlanner")));
+
+        List<Document> winningPlans = new ArrayList<>();
+        collectWinningPlans(explain, winningPlans);
+        assertFalse(winningPlans.isEmpty(), () -> "No winning plan for " + command.toJson() + ": " + explain.toJson());
+        for (Document winningPlan : winningPlans) {
+            assertFalse(winningPlan.toJson().contains("\"COLLSCAN\""), () -> "Collection scan for " + command.toJson() + ": " + winningPlan.toJson());
+            if (command.containsKey("find")) {
+                assertFalse(winningPlan.toJson().contains("\"SORT\""), () -> "In-memory sort for " + command.toJson() + ": " + winningPlan.toJson());
+            }
+        }
+    }
+
+    /**
+     * Finds the winning plans of an explain result: at its top level for {@code find} and pushed down aggregations,
+     * else in the {@code $cursor} stage that runs an aggregation's leading {@code $match}.
+     */
+    private static void collectWinningPlans(Object value, List<Document> winningPlans) {
+        if (value instanceof Document document) {
+            document.forEach((key, nested) -> {
+                if (key.equals("winningPlan") && nested instanceof Document plan) {
+                    winningPlans.add(plan);
+                } else {
+                    collectWinningPlans(nested, winningPlans);
+                }
+            });
+        } else if (value instanceof List<?> list) {
+            list.forEach(element -> collectWinningPlans(element, winningPlans));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.f1telemetry.race_telemetry_analyzer.repository;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties.Storage.IdFormat;
+import com.f1telemetry.race_telemetry_analyzer.model.CompositeIds;
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoredIdsTest {
+
+    @Test
+    void cursor_ShouldFollowTheConfiguredFormat() {
+        // Arrange
+        StoredIds string = storedIds(IdFormat.STRING);
+        StoredIds packed = storedIds(IdFormat.PACKED);
+
+        // Assert
+        assertEquals("", string.cursor(Lap.class, null));
+        assertEquals("9158_44_3", string.cursor(Lap.class, "9158_44_3"));
+        assertEquals(-1L, packed.cursor(Lap.class, null));
+        assertEquals(CompositeIds.lapId(9158, 44, 3), packed.cursor(Lap.class, "9158_44_3"));
+        assertEquals("44", packed.cursor(Driver.class, "44"));
+        assertThrows(IllegalArgumentException.class, () -> packed.cursor(Position.class, "not-an-id"));
+    }
+
+    @Test
+    void onAfterConvert_ShouldRestoreStringIdsOfPackedDocuments() {
+        // Arrange
+        StoredIds storedIds = storedIds(IdFormat.STRING);
+        Lap lap = new Lap();
+        lap.setId(String.valueOf(CompositeIds.lapId(9158, 44, 3)));  // What the converter reads from a long _id
+        Position position = new Position(9158, 44, 1);
+
+        // Act
+        storedIds.onAfterConvert(lap, new Document("_id", CompositeIds.lapId(9158, 44, 3)), "laps");
+        storedIds.onAfterConvert(position, new Document("_id", "9158_44"), "position");
+
+        // Assert
+        assertEquals("9158_44_3", lap.getId());
+        assertEquals("9158_44", position.getId());
+    }
+
+    private static StoredIds storedIds(IdFormat idFormat) {
+        OpenF1Properties properties = new OpenF1Properties();
+        properties.getStorage().setIdFormat(idFormat);
+        return new StoredIds(properties);
+    }
+}
@@ -0,0 +1,110 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionLaps;
+import com.f1telemetry.race_telemetry_analyzer.repository.LapRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ColumnarLapStoreTest {
+
+    @Mock
+    private LapRepository lapRepository;
+
+    private ColumnarLapStore columnarLapStore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);  // Initialize mocks
+        columnarLapStore = new ColumnarLapStore(lapRepository, 100);
+    }
+
+    @Test
+    void getSession_ShouldCopyLapsIntoColumnsOrderedByDriverAndLap() {
+        // Arrange
+        when(lapRepository.findBySessionKey(1)).thenReturn(List.of(
+                new Lap(1, 44, 2, 91.2f, 30.4f, 30.2f, 30.6f, false, 318),
+                new Lap(1, 1, 1, null, null, 31.0f, 30.1f, true, null),
+                new Lap(1, 44, 1, 90.5f, 30.5f, 30.0f, 30.0f, false, 320)
+        ));
+
+        // Act
+        SessionLaps laps = columnarLapStore.getSession(1).orElseThrow();
+
+        // Assert
+        assertEquals(3, laps.size());
+        assertEquals(2, laps.driverCount());
+        assertEquals(1, laps.driverNumber(laps.driverStart(0)));
+        assertEquals(1, laps.driverEnd(0) - laps.driverStart(0));
+        assertTrue(Float.isNaN(laps.lapDuration(0)));
+        assertEquals(SessionLaps.MISSING, laps.speedTrapSpeed(0));
+        assertTrue(laps.isPitOutLap(0));
+        assertEquals(1, laps.lapNumber(laps.driverStart(1)));
+        assertEquals(91.2f, laps.lapDuration(2));
+        assertFalse(laps.isPitOutLap(2));
+    }
+
+    @Test
+    void getSession_ShouldLoadOnceUntilEvicted() {
+        // Arrange
+        when(lapRepository.findBySessionKey(1)).thenReturn(List.of(new Lap(1, 44, 1, 90.5f, 30.5f, 30.0f, 30.0f, false, 320)));
+
+        // Act
+        columnarLapStore.getSession(1);
+        columnarLapStore.getSession(1);
+        columnarLapStore.evict(Set.of(1));
+        columnarLapStore.getSession(1);
+
+        // Assert
+        verify(lapRepository, times(2)).findBySessionKey(1);
+    }
+
+    @Test
+    void getSession_ShouldNotKeepALoadThatOverlapsAnEviction() throws Exception {
+        // Arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        when(lapRepository.findBySessionKey(1)).thenAnswer(invocation -> {
+            loading.countDown();
+            written.await();
+            return List.of(new Lap(1, 44, 1, 90.5f, 30.5f, 30.0f, 30.0f, false, 320));  // Read before the write
+        }).thenReturn(List.of(new Lap(1, 44, 1, 89.9f, 30.5f, 30.0f, 29.4f, false, 320)));
+
+        // Act
+        CompletableFuture<Optional<SessionLaps>> staleRead = CompletableFuture.supplyAsync(() -> columnarLapStore.getSession(1));
+        loading.await();
+        CompletableFuture<Void> eviction = CompletableFuture.runAsync(() -> columnarLapStore.evict(Set.of(1)));
+        written.countDown();
+        staleRead.join();
+        eviction.join();
+        SessionLaps laps = columnarLapStore.getSession(1).orElseThrow();
+
+        // Assert
+        assertEquals(89.9f, laps.lapDuration(0));
+    }
+
+    @Test
+    void getSession_ShouldReturnEmptyWithoutCachingWhenSessionHasNoLaps() {
+        // Arrange
+        when(lapRepository.findBySessionKey(2)).thenReturn(List.of());
+
+        // Act
+        Optional<SessionLaps> first = columnarLapStore.getSession(2);
+        columnarLapStore.getSession(2);
+
+        // Assert
+        assertTrue(first.isEmpty());
+        verify(lapRepository, times(2)).findBySessionKey(2);
+    }
+}
@@ -1,6 +1,8 @@
 package com.f1telemetry.race_telemetry_analyzer.service;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
 import com.f1telemetry.race_telemetry_analyzer.repository.DriverRepository;
 import com.f1telemetry.race_telemetry_analyzer.service.DriverService;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +24,12 @@ class DriverServiceTest {
     @Mock
     private DriverRepository driverRepository;
 
+    @Mock
+    private BulkUpsertWriter bulkUpsertWriter;
+
+    @Spy
+    private ReadThroughCache readThroughCache = new ReadThroughCache(1000);
+
     @InjectMocks
     private DriverService driverService;
 
@@ -100,14 +109,14 @@ class DriverServiceTest {
                 new Driver("Max Verstappen", "Red Bull Racing"),
                 new Driver("Lewis Hamilton", "Mercedes")
         );
-        when(driverRepository.saveAll(newDrivers)).thenReturn(newDrivers);
+        when(bulkUpsertWriter.upsertAll(Driver.class, newDrivers)).thenReturn(new BulkUpsertResult(1, 0, 1, 1));
 
         // Act
-        List<Driver> result = driverService.addDrivers(newDrivers);
+        BulkUpsertResult result = driverService.addDrivers(newDrivers);
 
         // Assert
-        assertEquals(2, result.size());
-        verify(driverRepository, times(1)).saveAll(newDrivers);
+        assertEquals(2, result.written());
+        verify(bulkUpsertWriter, times(1)).upsertAll(Driver.class, newDrivers);
     }
 
     // Test case for deleteDriver()
@@ -0,0 +1,48 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportReport;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.ImportStage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ImportMetrics importMetrics = new ImportMetrics(meterRegistry);
+
+    @Test
+    void endpoint_ShouldKeepOnlyTheApiPath() {
+        assertEquals("laps", ImportMetrics.endpoint("https://api.openf1.org/v1/laps?session_key=9158&driver_number=1"));
+        assertEquals("sessions", ImportMetrics.endpoint("https://api.openf1.org/v1/sessions"));
+        assertEquals("other", ImportMetrics.endpoint("https://example.org/laps"));
+    }
+
+    @Test
+    void bulkWritten_ShouldCountDocumentsPerCollection() {
+        // Act
+        importMetrics.bulkWritten("laps", System.nanoTime(), 1000);
+        importMetrics.bulkWritten("laps", System.nanoTime(), 250);
+
+        // Assert
+        assertEquals(2, meterRegistry.get("mongo.bulk.writes").tag("collection", "laps").timer().count());
+        assertEquals(1250.0, meterRegistry.get("mongo.documents.written").tag("collection", "laps").counter().count());
+    }
+
+    @Test
+    void importReport_ShouldPublishEveryRecordedUnit() {
+        // Arrange
+        ImportReport report = new ImportReport(importMetrics);
+
+        // Act
+        report.record(ImportStage.LAP_PERSIST, System.nanoTime(), 70);
+        report.record(ImportStage.LAP_PERSIST, System.nanoTime(), 58);
+
+        // Assert
+        Timer stage = meterRegistry.get("import.stage").tag("stage", "lap-persist").timer();
+        assertEquals(2, stage.count());
+        assertEquals(128.0, meterRegistry.get("import.stage.items").tag("stage", "lap-persist").counter().count());
+    }
+}
@@ -0,0 +1,79 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import com.f1telemetry.race_telemetry_analyzer.model.DriverBestLap;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionLaps;
+import com.f1telemetry.race_telemetry_analyzer.repository.LapAnalyticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LapAnalyticsServiceTest {
+
+    @Mock
+    private ColumnarLapStore columnarLapStore;
+
+    @Mock
+    private LapAnalyticsRepository lapAnalyticsRepository;
+
+    @InjectMocks
+    private LapAnalyticsService lapAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);  // Initialize mocks
+    }
+
+    @Test
+    void getBestLaps_ShouldIgnorePitOutAndUntimedLaps() {
+        // Arrange
+        SessionLaps laps = SessionLaps.of(1, List.of(
+                new Lap(1, 44, 1, 85.0f, 28.0f, 28.0f, 29.0f, true, 300),    // Pit out lap
+                new Lap(1, 44, 2, 0.0f, 29.0f, null, null, false, null),      // Untimed
+                new Lap(1, 44, 3, 91.2f, 30.4f, 29.9f, 30.9f, false, 318),
+                new Lap(1, 44, 4, 90.5f, 30.5f, 30.0f, 30.0f, false, 320),
+                new Lap(1, 1, 1, null, 30.0f, 30.0f, 30.0f, false, 322)       // Driver without a timed lap
+        ));
+        when(columnarLapStore.getSession(1)).thenReturn(Optional.of(laps));
+
+        // Act
+        List<DriverBestLap> bestLaps = lapAnalyticsService.getBestLaps(1).orElseThrow();
+
+        // Assert
+        assertEquals(1, bestLaps.size());
+        DriverBestLap best = bestLaps.get(0);
+        assertEquals(44, best.driverNumber());
+        assertEquals(4, best.lapNumber());
+        assertEquals(90.5f, best.lapDuration());
+        assertEquals(30.4f, best.bestSector1());
+        assertEquals(29.9f, best.bestSector2());
+        assertEquals(30.0f, best.bestSector3());
+        assertEquals(30.4f + 29.9f + 30.0f, best.idealLapDuration());
+    }
+
+    @Test
+    void getBestLaps_ShouldReturnEmptyWhenSessionHasNoLaps() {
+        // Arrange
+        when(columnarLapStore.getSession(2)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(lapAnalyticsService.getBestLaps(2).isEmpty());
+    }
+
+    @Test
+    void getPace_ShouldReturnEmptyWhenSessionHasNoCountedLaps() {
+        // Arrange
+        when(lapAnalyticsRepository.aggregatePace(2)).thenReturn(List.of());
+
+        // Act & Assert
+        assertTrue(lapAnalyticsService.getPace(2).isEmpty());
+    }
+}
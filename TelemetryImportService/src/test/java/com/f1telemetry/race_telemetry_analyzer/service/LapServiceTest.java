@@ -1,6 +1,8 @@
 package com.f1telemetry.race_telemetry_analyzer.service;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
 import com.f1telemetry.race_telemetry_analyzer.repository.LapRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.mockito.MockitoAnnotations;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -20,6 +23,12 @@ class LapServiceTest {
     @Mock
     private LapRepository lapRepository;
 
+    @Mock
+    private BulkUpsertWriter bulkUpsertWriter;
+
+    @Mock
+    private ColumnarLapStore columnarLapStore;
+
     @InjectMocks
     private LapService lapService;
 
@@ -74,10 +83,15 @@ class LapServiceTest {
                 new Lap(1, 33, 2, 91.2f, 30.4f, 30.2f, 30.6f,false,  318)
         );
 
+        when(bulkUpsertWriter.upsertAll(Lap.class, lapsToSave)).thenReturn(new BulkUpsertResult(0, 0, 2, 1));
+
         // Act
-        lapService.addLaps(lapsToSave);
+        BulkUpsertResult result = lapService.addLaps(lapsToSave);
 
         // Assert
-        verify(lapRepository, times(1)).saveAll(lapsToSave);
+        assertEquals(2, result.upserted());
+        verify(bulkUpsertWriter, times(1)).upsertAll(Lap.class, lapsToSave);
+        verify(lapRepository, never()).saveAll(lapsToSave);
+        verify(columnarLapStore).evict(Set.of(1));
     }
 }
@@ -0,0 +1,75 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedStageTest {
+
+    @Test
+    void submit_ShouldQueueTasksBeyondMaxConcurrency() {
+        // Arrange
+        BoundedStage stage = new BoundedStage(2);
+        AtomicInteger started = new AtomicInteger();
+        List<CompletableFuture<Integer>> running = new ArrayList<>();
+
+        // Act
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(stage.submit(() -> {
+                started.incrementAndGet();
+                CompletableFuture<Integer> task = new CompletableFuture<>();
+                running.add(task);
+                return task;
+            }));
+        }
+
+        // Assert
+        assertEquals(2, started.get());
+        running.get(0).complete(1);
+        assertEquals(3, started.get());
+        assertEquals(1, results.get(0).join());
+    }
+
+    @Test
+    void submit_ShouldRunLongQueuesOfSynchronousCompletionsWithoutNesting() throws Exception {
+        // Arrange
+        BoundedStage stage = new BoundedStage(1);
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        stage.submit(() -> first);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            int value = i;
+            results.add(stage.submit(() -> CompletableFuture.completedFuture(value)));  // Ex. served from the cache
+        }
+
+        // Act
+        first.complete(-1);
+
+        // Assert
+        assertEquals(99_999, results.getLast().get(10, TimeUnit.SECONDS));
+        assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+    }
+
+    @Test
+    void submit_ShouldReleaseSlotWhenTaskFails() {
+        // Arrange
+        BoundedStage stage = new BoundedStage(1);
+
+        // Act
+        CompletableFuture<Integer> failed = stage.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<Integer> next = stage.submit(() -> CompletableFuture.completedFuture(2));
+
+        // Assert
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(2, next.join());
+    }
+}
@@ -0,0 +1,73 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class ImportJobServiceTest {
+
+    @Mock
+    private ImportService importService;
+
+    @Mock
+    private ImportMetrics importMetrics;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        importJobService = new ImportJobService(importService, importMetrics, queued::add);  // Jobs run when the test says so
+    }
+
+    @Test
+    void submit_ShouldCoalesceIntoTheUnfinishedJob() throws IOException, InterruptedException {
+        // Arrange
+        when(importService.importData(any(ImportReport.class), isNull())).thenReturn(ImportJob.Status.COMPLETED);
+
+        // Act
+        ImportJob first = importJobService.submit("startup");
+        ImportJob second = importJobService.submit("api");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, queued.size());
+        assertEquals(ImportJob.Status.QUEUED, first.getStatus());
+
+        queued.getFirst().run();
+        assertEquals(ImportJob.Status.COMPLETED, first.getStatus());
+        assertNotNull(first.getFinishedAt());
+        verify(importService, times(1)).importData(any(ImportReport.class), isNull());
+    }
+
+    @Test
+    void submit_ShouldStartANewJobOnceTheLastOneFinished() throws IOException, InterruptedException {
+        // Arrange
+        when(importService.importData(any(ImportReport.class), isNull())).thenThrow(new IOException("OpenF1 unreachable"));
+        ImportJob failed = importJobService.submit("startup");
+        queued.getFirst().run();
+
+        // Act
+        ImportJob retry = importJobService.submit("api");
+
+        // Assert
+        assertEquals(ImportJob.Status.FAILED, failed.getStatus());
+        assertEquals("OpenF1 unreachable", failed.getError());
+        assertNotEquals(failed.getId(), retry.getId());
+        assertEquals(List.of(retry, failed), importJobService.findRecent());
+        assertEquals(retry, importJobService.find(retry.getId()).orElseThrow());
+        assertTrue(importJobService.find("unknown").isEmpty());
+    }
+}
@@ -0,0 +1,68 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportReportTest {
+
+    @Test
+    void criticalPath_ShouldFollowTheDependencyThatFinishedLast() {
+        // Arrange
+        ImportReport report = new ImportReport();
+        long start = System.nanoTime();
+        report.record(ImportStage.RACES, start, 1);
+        report.record(ImportStage.DRIVERS, start, 20);
+        report.record(ImportStage.LAP_FETCH, start, 1000);
+        report.record(ImportStage.LAP_PERSIST, start, 1000);
+        report.record(ImportStage.POSITION_FETCH, start, 20);
+        report.record(ImportStage.POSITION_PERSIST, start, 20);  // Finishes after the laps
+        report.record(ImportStage.LATEST_SESSION, start, 0);
+
+        // Act
+        List<ImportStage> path = report.criticalPath();
+
+        // Assert
+        assertEquals(List.of(ImportStage.RACES, ImportStage.DRIVERS, ImportStage.POSITION_FETCH,
+                ImportStage.POSITION_PERSIST, ImportStage.LATEST_SESSION), path);
+        assertEquals(1000, report.items(ImportStage.LAP_PERSIST));
+        assertTrue(report.summary().contains("Critical path: races -> drivers -> position fetch"));
+    }
+
+    @Test
+    void summary_ShouldMergeUnitsOfTheSameStage() {
+        // Arrange
+        ImportReport report = new ImportReport();
+
+        // Act
+        report.record(ImportStage.LAP_FETCH, System.nanoTime(), 10);
+        report.record(ImportStage.LAP_FETCH, System.nanoTime(), 15);
+
+        // Assert
+        assertEquals(25, report.items(ImportStage.LAP_FETCH));
+        assertTrue(report.summary().contains("2 units, 25 items"));
+    }
+
+    @Test
+    void progress_ShouldReportCountsOfEveryRecordedStage() {
+        // Arrange
+        ImportReport report = new ImportReport();
+        long start = System.nanoTime() - 2_000_000_000L;
+        report.record(ImportStage.RACES, start, 24);
+        report.record(ImportStage.LAP_FETCH, start, 1400);
+        report.record(ImportStage.LAP_FETCH, start, 1300);
+
+        // Act
+        List<ImportReport.StageProgress> progress = report.progress();
+
+        // Assert
+        assertEquals(List.of(ImportStage.RACES, ImportStage.LAP_FETCH), progress.stream().map(ImportReport.StageProgress::stage).toList());
+        ImportReport.StageProgress laps = progress.get(1);
+        assertEquals(2, laps.units());
+        assertEquals(2700, laps.items());
+        assertTrue(laps.wallMillis() >= 2000);
+        assertTrue(laps.itemsPerSecond() > 0 && laps.itemsPerSecond() <= 1350);
+    }
+}
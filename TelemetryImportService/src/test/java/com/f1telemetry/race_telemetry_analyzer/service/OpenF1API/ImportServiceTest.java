@@ -0,0 +1,200 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.ImportCheckpoint.EntityType;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.PositionSample;
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.f1telemetry.race_telemetry_analyzer.model.SessionSummary;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportCheckpointService;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.f1telemetry.race_telemetry_analyzer.service.LapService;
+import com.f1telemetry.race_telemetry_analyzer.service.PositionService;
+import com.f1telemetry.race_telemetry_analyzer.service.ReadThroughCache;
+import com.f1telemetry.race_telemetry_analyzer.service.SessionSummaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImportServiceTest {
+
+    @Mock
+    private RaceAPIService raceAPIService;
+    @Mock
+    private DriverAPIService driverAPIService;
+    @Mock
+    private LapAPIService lapAPIService;
+    @Mock
+    private LatestSessionService latestSessionService;
+    @Mock
+    private PositionAPIService positionAPIService;
+    @Mock
+    private LapService lapService;
+    @Mock
+    private PositionService positionService;
+    @Mock
+    private ImportCheckpointService checkpointService;
+    @Mock
+    private SessionSummaryService sessionSummaryService;
+    @Mock
+    private ReadThroughCache readThroughCache;
+    @Mock
+    private ImportMetrics importMetrics;
+
+    private ImportService importService;
+
+    private final Instant now = Instant.parse("2024-06-09T18:00:00Z");
+    private final Race completedRace = race(1, now.minus(Duration.ofDays(14)));
+    private final Race pendingRace = race(2, now.minus(Duration.ofHours(2)));
+    private final Race scheduledRace = race(3, now.plus(Duration.ofDays(1)));
+    private final List<Driver> drivers = List.of(new Driver("Lando Norris", "McLaren"));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(sessionSummaryService.rebuild(anyInt())).thenAnswer(invocation -> new SessionSummary(invocation.getArgument(0), List.of(), null));
+        importService = new ImportService(raceAPIService, driverAPIService, lapAPIService, latestSessionService, positionAPIService,
+                lapService, positionService, checkpointService, sessionSummaryService, readThroughCache, importMetrics,
+                new OpenF1Properties(), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void importSessions_ShouldSkipCompletedSessionsAndCheckpointTheRest() {
+        // Arrange
+        when(checkpointService.getCompletedSessionKeys(EntityType.DRIVERS)).thenReturn(Set.of(1, 2));
+        when(checkpointService.getCompletedSessionKeys(EntityType.LAPS)).thenReturn(Set.of(1));
+        when(checkpointService.getCompletedSessionKeys(EntityType.POSITIONS)).thenReturn(Set.of(1));
+        when(checkpointService.getCompletedSessionKeys(EntityType.SUMMARIES)).thenReturn(Set.of(1));
+        List<Lap> laps = List.of(new Lap(), new Lap());
+        when(lapAPIService.fetchLapsForSession(eq(pendingRace), anySet())).thenReturn(CompletableFuture.completedFuture(laps));
+        when(positionAPIService.fetchPositionsForSession(eq(pendingRace), anySet())).thenReturn(CompletableFuture.completedFuture(List.of(new PositionSample())));
+
+        // Act
+        importService.importSessions(List.of(completedRace, pendingRace), drivers, new ImportReport());
+
+        // Assert
+        verify(lapAPIService, never()).fetchLapsForSession(eq(completedRace), anySet());
+        verify(positionAPIService, never()).fetchPositionsForSession(eq(completedRace), anySet());
+        verify(lapService).addLaps(laps);
+        verify(positionService).replacePositionHistory(eq(2), anyList());
+        verify(checkpointService).markCompleted(2, EntityType.LAPS, 2);
+        verify(checkpointService).markCompleted(2, EntityType.POSITIONS, 1);
+        verify(sessionSummaryService).rebuild(2);
+        verify(sessionSummaryService, never()).rebuild(1);
+    }
+
+    @Test
+    void importSessions_ShouldCheckpointFailedSessionsAndFail() {
+        // Arrange
+        when(checkpointService.getCompletedSessionKeys(any())).thenReturn(Set.of());
+        when(checkpointService.getCompletedSessionKeys(EntityType.DRIVERS)).thenReturn(Set.of(2));
+        IOException failure = new IOException("Response code: 500");
+        when(lapAPIService.fetchLapsForSession(any(), anySet())).thenReturn(CompletableFuture.failedFuture(failure));
+        when(positionAPIService.fetchPositionsForSession(any(), anySet())).thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> importService.importSessions(List.of(pendingRace), drivers, new ImportReport()));
+        verify(checkpointService).markFailed(2, EntityType.LAPS, failure);
+        verify(checkpointService, never()).markCompleted(eq(2), eq(EntityType.POSITIONS), anyInt());
+        verify(lapService, never()).addLaps(any());
+        verify(sessionSummaryService, never()).rebuild(anyInt());
+    }
+
+    @Test
+    void importSessions_ShouldNotFetchLapsOrPositionsOfSessionsWithoutDrivers() {
+        // Arrange
+        when(checkpointService.getCompletedSessionKeys(any())).thenReturn(Set.of());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> importService.importSessions(List.of(pendingRace), drivers, new ImportReport()));
+        verify(lapAPIService, never()).fetchLapsForSession(any(), anySet());
+        verify(positionAPIService, never()).fetchPositionsForSession(any(), anySet());
+        verify(checkpointService).markFailed(eq(2), eq(EntityType.LAPS), any(IllegalStateException.class));
+        verify(checkpointService).markFailed(eq(2), eq(EntityType.POSITIONS), any(IllegalStateException.class));
+        verify(checkpointService, never()).markCompleted(anyInt(), any(), anyInt());
+        verify(sessionSummaryService, never()).rebuild(anyInt());
+    }
+
+    @Test
+    void importSessions_ShouldSummarizeUntouchedSessionsWithoutSummary() {
+        // Arrange
+        when(checkpointService.getCompletedSessionKeys(any())).thenReturn(Set.of(1));
+
+        // Act
+        importService.importSessions(List.of(completedRace), drivers, new ImportReport());
+
+        // Assert
+        verify(sessionSummaryService, never()).rebuild(anyInt());
+
+        // Arrange
+        when(checkpointService.getCompletedSessionKeys(EntityType.SUMMARIES)).thenReturn(Set.of());
+
+        // Act
+        importService.importSessions(List.of(completedRace), drivers, new ImportReport());
+
+        // Assert
+        verify(sessionSummaryService).rebuild(1);
+        verify(checkpointService).markCompleted(1, EntityType.SUMMARIES, 0);
+    }
+
+    @Test
+    void importSessions_ShouldLeaveRacesThatHaveNotEndedPending() throws IOException, InterruptedException {
+        // Arrange
+        when(checkpointService.getCompletedSessionKeys(any())).thenReturn(Set.of());
+        when(checkpointService.getCompletedSessionKeys(EntityType.DRIVERS)).thenReturn(Set.of(), Set.of(2));  // Before and after importDrivers
+        when(driverAPIService.fetchDriversFromOpenF1(anyList(), anyMap())).thenAnswer(invocation -> {
+            List<Race> races = invocation.getArgument(0);
+            Map<Integer, Integer> fetchedSessions = invocation.getArgument(1);
+            races.forEach(race -> fetchedSessions.put(race.getSessionKey(), 1));
+            return drivers;
+        });
+        List<Lap> laps = List.of(new Lap());
+        when(lapAPIService.fetchLapsForSession(eq(pendingRace), anySet())).thenReturn(CompletableFuture.completedFuture(laps));
+        when(positionAPIService.fetchPositionsForSession(eq(pendingRace), anySet())).thenReturn(CompletableFuture.completedFuture(List.of(new PositionSample())));
+
+        // Act
+        importService.importDrivers(List.of(pendingRace, scheduledRace));
+        importService.importSessions(List.of(pendingRace, scheduledRace), drivers, new ImportReport());
+
+        // Assert
+        verify(driverAPIService).fetchDriversFromOpenF1(eq(List.of(pendingRace)), anyMap());
+        verify(lapAPIService, never()).fetchLapsForSession(eq(scheduledRace), anySet());
+        verify(positionAPIService, never()).fetchPositionsForSession(eq(scheduledRace), anySet());
+        verify(checkpointService).markCompleted(2, EntityType.DRIVERS, 1);
+        verify(checkpointService).markCompleted(2, EntityType.LAPS, 1);
+        verify(checkpointService, never()).markCompleted(eq(3), any(), anyInt());
+        verify(checkpointService, never()).markFailed(eq(3), any(), any());
+        verify(sessionSummaryService, never()).rebuild(3);
+    }
+
+    private static Race race(int sessionKey, Instant dateEnd) {
+        Race race = new Race(sessionKey, 2024, "Race", "Country " + sessionKey, "Circuit " + sessionKey);
+        race.setDateStart(dateEnd.minus(Duration.ofHours(2)));
+        race.setDateEnd(dateEnd);
+        return race;
+    }
+}
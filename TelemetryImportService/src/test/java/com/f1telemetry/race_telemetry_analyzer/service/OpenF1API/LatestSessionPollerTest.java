@@ -0,0 +1,99 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.f1telemetry.race_telemetry_analyzer.service.OpenF1API.LatestSessionPoller.SessionWindow;
+import com.f1telemetry.race_telemetry_analyzer.service.RaceService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LatestSessionPollerTest {
+
+    private static final Instant NOW = Instant.parse("2023-09-17T14:30:00Z");
+
+    @Mock
+    private LatestSessionService latestSessionService;
+
+    @Mock
+    private RaceService raceService;
+
+    @Mock
+    private ImportJobService importJobService;
+
+    private final OpenF1Properties properties = new OpenF1Properties();
+    private LatestSessionPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        poller = new LatestSessionPoller(latestSessionService, raceService, importJobService, properties,
+                mock(ScheduledExecutorService.class), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void nextDelay_ShouldPollTightlyWhileASessionRunsOrSettles() {
+        // Arrange
+        OpenF1Properties.Poll settings = properties.getPoll();
+        SessionWindow race = new SessionWindow(Instant.parse("2023-09-17T12:00:00Z"), Instant.parse("2023-09-17T14:25:00Z"));
+
+        // Act & Assert
+        assertEquals(settings.getLiveInterval(), LatestSessionPoller.nextDelay(NOW, List.of(race), settings));
+        assertEquals(settings.getWeekendInterval(), LatestSessionPoller.nextDelay(NOW.plus(Duration.ofHours(1)), List.of(race), settings));
+    }
+
+    @Test
+    void nextDelay_ShouldNotOversleepTheNextKnownSession() {
+        // Arrange
+        OpenF1Properties.Poll settings = properties.getPoll();
+        settings.setWeekendWindow(Duration.ofHours(1));
+        SessionWindow lastRace = new SessionWindow(Instant.parse("2023-08-27T13:00:00Z"), Instant.parse("2023-08-27T15:00:00Z"));
+        SessionWindow nextRace = new SessionWindow(NOW.plus(Duration.ofHours(2)), NOW.plus(Duration.ofHours(4)));
+        SessionWindow farRace = new SessionWindow(NOW.plus(Duration.ofDays(20)), NOW.plus(Duration.ofDays(20).plusHours(2)));
+
+        // Act & Assert
+        assertEquals(Duration.ofHours(2), LatestSessionPoller.nextDelay(NOW, List.of(lastRace, nextRace), settings));
+        assertEquals(settings.getIdleInterval(), LatestSessionPoller.nextDelay(NOW, List.of(lastRace, farRace, new SessionWindow(null, null)), settings));
+    }
+
+    @Test
+    void pollOnce_ShouldImportOnlySessionsReportedNew() throws IOException, InterruptedException {
+        // Arrange
+        JsonNode running = session(9166, "2023-09-17T14:00:00+00:00", "2023-09-17T16:00:00+00:00");
+        JsonNode ended = session(9165, "2023-09-17T12:00:00+00:00", "2023-09-17T14:00:00+00:00");
+        when(latestSessionService.fetchLatestSession()).thenReturn(running, ended);
+        when(latestSessionService.isNewSession(running)).thenReturn(false);  // Not settled yet
+        when(latestSessionService.isNewSession(ended)).thenReturn(true);
+        when(raceService.getAllRaces()).thenReturn(List.of(new Race(9165, 2023, "Race", "Singapore", "Singapore")));
+
+        // Act
+        Duration whileRunning = poller.pollOnce();
+        Duration afterEnd = poller.pollOnce();
+
+        // Assert
+        assertEquals(properties.getPoll().getLiveInterval(), whileRunning);
+        assertEquals(properties.getPoll().getWeekendInterval(), afterEnd);
+        verify(importJobService, times(1)).submit("poller", ended);
+        verify(latestSessionService, times(2)).fetchLatestSession();
+    }
+
+    private static JsonNode session(int sessionKey, String dateStart, String dateEnd) throws IOException {
+        return new ObjectMapper().readTree("{\"session_key\":" + sessionKey + ",\"date_start\":\"" + dateStart
+                + "\",\"date_end\":\"" + dateEnd + "\"}");
+    }
+}
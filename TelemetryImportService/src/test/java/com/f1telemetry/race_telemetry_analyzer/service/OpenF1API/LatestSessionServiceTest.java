@@ -0,0 +1,63 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.model.LatestSession;
+import com.f1telemetry.race_telemetry_analyzer.repository.LatestSessionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LatestSessionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2023-09-17T14:05:00Z");
+
+    @Mock
+    private LatestSessionRepository latestSessionRepository;
+
+    @Spy
+    private OpenF1Properties properties = new OpenF1Properties();
+
+    @InjectMocks
+    private LatestSessionService latestSessionService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(latestSessionRepository.findById("latest_session_id"))
+                .thenReturn(Optional.of(new LatestSession("latest_session_id", 9158, "2023-09-03", "Monza Race 2023")));
+    }
+
+    @Test
+    void isNewSession_ShouldWaitUntilTheSessionHasSettled() throws IOException {
+        // Arrange
+        JsonNode justEnded = session(9165, "2023-09-17T14:00:00+00:00");
+        JsonNode settled = session(9165, "2023-09-17T13:50:00+00:00");
+
+        // Act & Assert
+        assertFalse(latestSessionService.isNewSession(justEnded, NOW));
+        assertTrue(latestSessionService.isNewSession(settled, NOW));
+        assertTrue(latestSessionService.isNewSession(justEnded, NOW.plus(properties.getPoll().getSettle())));
+    }
+
+    @Test
+    void isNewSession_ShouldIgnoreTheSessionAlreadyImported() throws IOException {
+        // Act & Assert
+        assertFalse(latestSessionService.isNewSession(session(9158, "2023-09-03T15:00:00+00:00"), NOW));
+    }
+
+    private static JsonNode session(int sessionKey, String dateEnd) throws IOException {
+        return new ObjectMapper().readTree("{\"session_key\":" + sessionKey + ",\"date_end\":\"" + dateEnd + "\"}");
+    }
+}
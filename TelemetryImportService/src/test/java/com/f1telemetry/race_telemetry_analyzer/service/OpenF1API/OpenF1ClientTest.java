@@ -0,0 +1,152 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OpenF1ClientTest {
+
+    private static final String URL = "https://api.openf1.org/v1/drivers?session_key=9158";
+
+    private ScheduledExecutorService scheduler;
+    private OpenF1HttpTransport transport;
+    private OpenF1RateLimiter rateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+    private OpenF1Client openF1Client;
+
+    @BeforeEach
+    void setUp() {
+        OpenF1Properties properties = new OpenF1Properties();
+        properties.getRateLimit().setInitialRate(100.0);
+        properties.getRateLimit().setMaxRate(200.0);
+        properties.getRateLimit().setBurst(10.0);
+        properties.getRateLimit().setMaxRetries(2);
+        properties.getRateLimit().setInitialBackoff(Duration.ofMillis(10));
+        properties.getRateLimit().setMaxBackoff(Duration.ofMillis(20));
+        properties.getCache().setMode(OpenF1Properties.Cache.Mode.OFF);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        transport = mock(OpenF1HttpTransport.class);
+        rateLimiter = new OpenF1RateLimiter(properties.getRateLimit(), System::nanoTime, scheduler);
+        meterRegistry = new SimpleMeterRegistry();
+        openF1Client = new OpenF1Client(transport, rateLimiter, new OpenF1ResponseCache(properties), new ImportMetrics(meterRegistry), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void getAsync_ShouldRetryRateLimitedRequests() {
+        // Arrange
+        when(transport.getAsync(URL)).thenReturn(
+                CompletableFuture.completedFuture(new OpenF1Response(429, InputStream.nullInputStream(), Optional.of("0"))),
+                CompletableFuture.completedFuture(new OpenF1Response(200, new ByteArrayInputStream("[]".getBytes()), Optional.empty()))
+        );
+
+        // Act
+        OpenF1Response response = openF1Client.getAsync(URL).join();
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals(50.0, rateLimiter.currentRate(), 1.0);  // Cut in half by the 429, then nudged up by the success
+        verify(transport, times(2)).getAsync(URL);
+        assertEquals(1.0, meterRegistry.get("openf1.requests.retries").tag("endpoint", "drivers").counter().count());
+        assertEquals(1, meterRegistry.get("openf1.requests").tag("status", "200").timer().count());
+        assertEquals(0.0, meterRegistry.get("openf1.requests.active").gauge().value());
+    }
+
+    @Test
+    void getAsync_ShouldNotRaiseTheRateOnServerErrors() {
+        // Arrange
+        OpenF1Properties properties = new OpenF1Properties();
+        properties.getRateLimit().setInitialRate(100.0);
+        properties.getRateLimit().setMaxRate(200.0);
+        properties.getCache().setMode(OpenF1Properties.Cache.Mode.OFF);
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock();
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        OpenF1RateLimiter meteredRateLimiter = new OpenF1RateLimiter(properties, meterRegistryProvider);
+        openF1Client = new OpenF1Client(transport, meteredRateLimiter, new OpenF1ResponseCache(properties), new ImportMetrics(meterRegistry), properties);
+        when(transport.getAsync(URL)).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(new OpenF1Response(500, InputStream.nullInputStream(), Optional.empty())));
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertEquals(500, openF1Client.getAsync(URL).join().statusCode());
+        }
+
+        // Assert
+        assertEquals(100.0, meterRegistry.get("openf1.ratelimit.rate").gauge().value());
+    }
+
+    @Test
+    void getAsync_ShouldReturnRateLimitedResponseWhenRetriesAreExhausted() {
+        // Arrange
+        when(transport.getAsync(URL)).thenReturn(CompletableFuture.completedFuture(new OpenF1Response(429, InputStream.nullInputStream(), Optional.empty())));
+
+        // Act
+        OpenF1Response response = openF1Client.getAsync(URL).join();
+
+        // Assert
+        assertEquals(429, response.statusCode());
+        verify(transport, times(3)).getAsync(URL);
+        assertEquals(1.0, meterRegistry.get("openf1.requests.dropped").tag("reason", "max-retries").counter().count());
+    }
+
+    @Test
+    void getAsync_ShouldReleaseTheActiveGaugeAndCountTheDropWhenTheTransportThrows() {
+        // Arrange
+        when(transport.getAsync(URL)).thenThrow(new IllegalArgumentException("Invalid URL"));
+
+        // Act & Assert
+        assertThrows(CompletionException.class, () -> openF1Client.getAsync(URL).join());
+        assertEquals(0.0, meterRegistry.get("openf1.requests.active").gauge().value());
+        assertEquals(0.0, meterRegistry.get("openf1.requests.waiting").gauge().value());
+        assertEquals(1, meterRegistry.get("openf1.requests").tag("status", "error").timer().count());
+        assertEquals(1.0, meterRegistry.get("openf1.requests.dropped").tag("reason", "error").counter().count());
+    }
+
+    @Test
+    void getAsync_ShouldReleaseTheWaitingGaugeWhenNoRateLimitTokenIsGranted() {
+        // Arrange
+        OpenF1RateLimiter failingRateLimiter = mock(OpenF1RateLimiter.class);
+        when(failingRateLimiter.acquire()).thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("Shut down")));
+        OpenF1Properties properties = new OpenF1Properties();
+        properties.getCache().setMode(OpenF1Properties.Cache.Mode.OFF);
+        meterRegistry = new SimpleMeterRegistry();  // The gauges of the first registry track the metrics of setUp
+        openF1Client = new OpenF1Client(transport, failingRateLimiter, new OpenF1ResponseCache(properties), new ImportMetrics(meterRegistry), properties);
+
+        // Act & Assert
+        assertThrows(CompletionException.class, () -> openF1Client.getAsync(URL).join());
+        assertEquals(0.0, meterRegistry.get("openf1.requests.waiting").gauge().value());
+        assertEquals(0.0, meterRegistry.get("openf1.requests.active").gauge().value());
+        verifyNoInteractions(transport);
+    }
+
+    @Test
+    void parseRetryAfter_ShouldAcceptSecondsAndHttpDates() {
+        assertEquals(Optional.of(Duration.ofSeconds(3)), OpenF1Client.parseRetryAfter("3"));
+        assertEquals(Optional.of(Duration.ZERO), OpenF1Client.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertEquals(Optional.empty(), OpenF1Client.parseRetryAfter("soon"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.PositionSample;
+import com.fasterxml.jackson.core.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JMH benchmarks of the OpenF1 response handling on the import hot path, run against the recorded fixtures of
+ * session 9158 in {@code src/test/resources/openf1}. Each benchmark handles one full session response.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec}; the GC profiler adds {@code gc.alloc.rate.norm},
+ * the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenF1IngestionBenchmark {
+
+    private static final int SESSION_KEY = 9158;
+
+    private byte[] driversJson;
+    private byte[] lapsJson;
+    private byte[] positionsJson;
+    private Set<Integer> driverNumbers;
+    private OpenF1JsonDecoder decoder;
+    private DriverAPIService driverAPIService;
+
+    @Setup
+    public void setUp() throws IOException {
+        driversJson = fixture("drivers_session_9158.json");
+        lapsJson = fixture("laps_session_9158.json");
+        positionsJson = fixture("position_session_9158.json");
+
+        decoder = new OpenF1JsonDecoder();
+        driverAPIService = new DriverAPIService();
+        ReflectionTestUtils.setField(driverAPIService, "decoder", decoder);
+        driverNumbers = decoder.readLaps(new ByteArrayInputStream(lapsJson)).stream()
+                .map(Lap::getDriverNumber)
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public List<Driver> processDriversResponse() {
+        List<Driver> drivers = new ArrayList<>();
+        driverAPIService.processDriversResponse(new ByteArrayInputStream(driversJson), drivers);
+        return drivers;
+    }
+
+    /**
+     * Lap rows to {@link Lap} objects grouped by driver, as done by {@code LapAPIService.fetchLapsBySessionFromOpenF1}.
+     */
+    @Benchmark
+    public Map<Integer, List<Lap>> mapLapsByDriver() throws IOException {
+        Map<Integer, List<Lap>> lapsByDriver = new HashMap<>();
+        decoder.readLaps(new ByteArrayInputStream(lapsJson), lap ->
+                lapsByDriver.computeIfAbsent(lap.getDriverNumber(), key -> new ArrayList<>()).add(lap));
+        return lapsByDriver;
+    }
+
+    /**
+     * Position history decoding, as done by {@code PositionAPIService.fetchPositionsForSession}.
+     */
+    @Benchmark
+    public List<PositionSample> readPositionHistory() throws IOException {
+        try (JsonParser parser = decoder.createParser(new ByteArrayInputStream(positionsJson))) {
+            return PositionAPIService.readPositions(parser, SESSION_KEY, driverNumbers);
+        }
+    }
+
+    private static byte[] fixture(String name) {
+        try (InputStream in = OpenF1IngestionBenchmark.class.getResourceAsStream("/openf1/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.model.Driver;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenF1JsonDecoderTest {
+
+    private final OpenF1JsonDecoder decoder = new OpenF1JsonDecoder();
+
+    @Test
+    void readLaps_ShouldBindOpenF1FieldsIntoLaps() throws IOException {
+        // Arrange
+        String json = """
+                [
+                  {"meeting_key":1219,"session_key":9165,"driver_number":63,"i1_speed":307,"i2_speed":277,
+                   "st_speed":298,"date_start":"2023-09-16T13:59:07.606000+00:00","lap_duration":91.743,
+                   "is_pit_out_lap":false,"duration_sector_1":26.966,"duration_sector_2":38.657,
+                   "duration_sector_3":26.12,"segments_sector_1":[2049,2049,2049],"lap_number":8},
+                  {"session_key":9165,"driver_number":63,"lap_number":1,"lap_duration":null,
+                   "duration_sector_1":null,"is_pit_out_lap":true,"st_speed":null}
+                ]
+                """;
+
+        // Act
+        List<Lap> laps = decoder.readLaps(stream(json));
+
+        // Assert
+        assertEquals(2, laps.size());
+        Lap lap = laps.get(0);
+        assertEquals("9165_63_8", lap.getId());
+        assertEquals(91.743f, lap.getLapDuration());
+        assertEquals(26.966f, lap.getSector1());
+        assertEquals(26.12f, lap.getSector3());
+        assertEquals(298, lap.getSpeedTrapSpeed());
+        assertFalse(lap.getIsPitOutLap());
+
+        Lap outLap = laps.get(1);
+        assertEquals(0.0f, outLap.getLapDuration());
+        assertEquals(0.0f, outLap.getSector2());
+        assertEquals(0, outLap.getSpeedTrapSpeed());
+        assertTrue(outLap.getIsPitOutLap());
+    }
+
+    @Test
+    void readLaps_ShouldSkipRowsWithoutTheIdFields() throws IOException {
+        // Arrange
+        String json = """
+                [
+                  {"session_key":9165,"lap_number":3,"lap_duration":92.1},
+                  {"session_key":9165,"driver_number":null,"lap_number":4,"lap_duration":92.4},
+                  {"session_key":9165,"driver_number":63,"lap_duration":93.0},
+                  {"driver_number":63,"lap_number":5,"lap_duration":91.8},
+                  {"session_key":9165,"driver_number":63,"lap_number":6,"lap_duration":91.5}
+                ]
+                """;
+
+        // Act
+        List<Lap> laps = decoder.readLaps(stream(json));
+
+        // Assert
+        assertEquals(1, laps.size());
+        assertEquals("9165_63_6", laps.get(0).getId());
+    }
+
+    @Test
+    void readDrivers_ShouldBindOpenF1FieldsIntoDrivers() throws IOException {
+        // Arrange
+        String json = """
+                [{"broadcast_name":"M VERSTAPPEN","country_code":"NED","driver_number":1,"first_name":"Max",
+                  "full_name":"Max VERSTAPPEN","headshot_url":null,"last_name":"Verstappen","meeting_key":1219,
+                  "name_acronym":"VER","session_key":9158,"team_colour":"3671C6","team_name":"Red Bull Racing"}]
+                """;
+        List<Driver> drivers = new ArrayList<>();
+
+        // Act
+        decoder.readDrivers(stream(json), drivers::add);
+
+        // Assert
+        assertEquals(1, drivers.size());
+        Driver driver = drivers.get(0);
+        assertEquals("Max VERSTAPPEN", driver.getFullName());
+        assertEquals("M VERSTAPPEN", driver.getBroadcastName());
+        assertEquals("Red Bull Racing", driver.getTeam());
+        assertEquals("NED", driver.getCountryCode());
+        assertEquals(1, driver.getDriverNumber());
+        assertNull(driver.getHeadshotUrl());
+    }
+
+    @Test
+    void readRaces_ShouldBindSessionRowsIntoRaces() throws IOException {
+        // Arrange
+        String json = """
+                [{"circuit_key":61,"circuit_short_name":"Singapore","country_code":"SGP","country_name":"Singapore",
+                  "date_end":"2023-09-17T14:00:00+00:00","date_start":"2023-09-17T12:00:00+00:00","session_key":9165,
+                  "session_name":"Race","year":2023}]
+                """;
+
+        // Act
+        List<Race> races = decoder.readRaces(stream(json));
+
+        // Assert
+        assertEquals(1, races.size());
+        assertEquals(9165, races.get(0).getSessionKey());
+        assertEquals(2023, races.get(0).getYear());
+        assertEquals("Race", races.get(0).getSessionName());
+        assertEquals("Singapore", races.get(0).getCircuitName());
+        assertEquals(Instant.parse("2023-09-17T12:00:00Z"), races.get(0).getDateStart());
+        assertEquals(Instant.parse("2023-09-17T14:00:00Z"), races.get(0).getDateEnd());
+    }
+
+    @Test
+    void readLaps_ShouldRejectNonArrayBody() {
+        assertThrows(IOException.class, () -> decoder.readLaps(stream("{\"detail\":\"No results found.\"}")));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
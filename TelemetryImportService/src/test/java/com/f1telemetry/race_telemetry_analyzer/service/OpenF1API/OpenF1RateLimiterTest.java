@@ -0,0 +1,105 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenF1RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+    private OpenF1Properties.RateLimit settings;
+    private OpenF1RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        settings = new OpenF1Properties.RateLimit();
+        settings.setInitialRate(2.0);
+        settings.setMinRate(0.5);
+        settings.setMaxRate(4.0);
+        settings.setBurst(2.0);
+        settings.setAdditiveIncrease(1.0);
+        settings.setDecreaseFactor(0.5);
+        rateLimiter = new OpenF1RateLimiter(settings, clock::get, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void acquire_ShouldGrantBurstImmediatelyAndDelayTheRest() {
+        // Act
+        CompletableFuture<Void> first = rateLimiter.acquire();
+        CompletableFuture<Void> second = rateLimiter.acquire();
+        CompletableFuture<Void> third = rateLimiter.acquire();
+
+        // Assert
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+        third.join();  // Completes after ~500ms at 2 requests/s
+    }
+
+    @Test
+    void acquire_ShouldRefillTokensOverTime() {
+        // Arrange
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+
+        // Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));  // One token at 2 requests/s
+
+        // Assert
+        assertTrue(rateLimiter.acquire().isDone());
+    }
+
+    @Test
+    void onRateLimited_ShouldCutRateOncePerBurstAndPauseBucket() {
+        // Act
+        rateLimiter.onRateLimited(Duration.ofSeconds(30));
+        rateLimiter.onRateLimited(Duration.ofSeconds(30));  // Same burst, must not cut again
+
+        // Assert
+        assertEquals(1.0, rateLimiter.currentRate());
+        assertFalse(rateLimiter.acquire().isDone());
+    }
+
+    @Test
+    void onRateLimited_ShouldNotGoBelowMinRate() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.onRateLimited(Duration.ZERO);
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        }
+
+        // Assert
+        assertEquals(settings.getMinRate(), rateLimiter.currentRate());
+    }
+
+    @Test
+    void onSuccess_ShouldIncreaseRateUpToMaxRate() {
+        // Act
+        rateLimiter.onSuccess();
+        double increased = rateLimiter.currentRate();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.onSuccess();
+        }
+
+        // Assert
+        assertEquals(2.5, increased);
+        assertEquals(settings.getMaxRate(), rateLimiter.currentRate());
+    }
+}
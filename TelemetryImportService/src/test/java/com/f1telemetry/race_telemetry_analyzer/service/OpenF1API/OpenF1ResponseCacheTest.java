@@ -0,0 +1,182 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties.Cache.Mode;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OpenF1ResponseCacheTest {
+
+    private static final String SESSION_URL = "https://api.openf1.org/v1/laps?session_key=9158";
+    private static final String LATEST_URL = "https://api.openf1.org/v1/sessions?session_key=latest";
+
+    @TempDir
+    Path directory;
+
+    private final Instant now = Instant.parse("2024-10-01T12:00:00Z");
+    private OpenF1Properties properties;
+    private OpenF1ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OpenF1Properties();
+        properties.getCache().setDirectory(directory);
+        properties.getCache().setVolatileTtl(Duration.ofMinutes(5));
+        cache = new OpenF1ResponseCache(properties, Clock.fixed(now, ZoneOffset.UTC));
+        cache.recordSessionEnd(9158, now.minus(Duration.ofDays(7)));
+    }
+
+    @Test
+    void store_ShouldReplayBodyFromCompressedEntry() throws IOException {
+        // Act
+        try (OpenF1Response stored = cache.store(SESSION_URL, response("[{\"lap_number\":1}]"))) {
+            assertEquals("[{\"lap_number\":1}]", read(stored));
+        }
+        Optional<OpenF1Response> cached = cache.lookup("HTTPS://API.OPENF1.ORG/v1/laps?session_key=9158");
+
+        // Assert
+        assertTrue(cached.isPresent());
+        assertEquals("[{\"lap_number\":1}]", read(cached.get()));
+        assertTrue(cache.pathFor(SESSION_URL).getFileName().toString().endsWith(".json.gz"));
+    }
+
+    @Test
+    void normalize_ShouldSortQueryParameters() {
+        // Assert
+        assertEquals(OpenF1ResponseCache.cacheKey("https://api.openf1.org/v1/laps?session_key=1&driver_number=44"),
+                OpenF1ResponseCache.cacheKey("https://api.openf1.org/v1/laps?driver_number=44&session_key=1"));
+    }
+
+    @Test
+    void lookup_ShouldExpireVolatileEntriesOnly() throws IOException {
+        // Arrange
+        cache.setLiveSessionKey(9165);
+        cache.store(SESSION_URL, response("[]")).close();
+        cache.store(LATEST_URL, response("[]")).close();
+        FileTime old = FileTime.from(now.minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(cache.pathFor(SESSION_URL), old);
+        Files.setLastModifiedTime(cache.volatilePathFor(LATEST_URL), old);
+
+        // Act & Assert
+        assertTrue(cache.lookup(SESSION_URL).isPresent());
+        assertTrue(cache.lookup(LATEST_URL).isEmpty());
+    }
+
+    @Test
+    void lookup_ShouldKeepExpiringEntriesStoredWhileTheirSessionWasLive() throws IOException {
+        // Arrange
+        String unknownLiveSession = "https://api.openf1.org/v1/position?session_key=9158";
+        cache.store(unknownLiveSession, response("[]")).close();  // Before the latest session is known
+        cache.setLiveSessionKey(9158);
+        cache.store(SESSION_URL, response("[]")).close();
+        cache.setLiveSessionKey(9165);  // A newer session started
+        FileTime old = FileTime.from(now.minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(cache.volatilePathFor(SESSION_URL), old);
+        Files.setLastModifiedTime(cache.volatilePathFor(unknownLiveSession), old);
+
+        // Act & Assert
+        assertTrue(cache.lookup(SESSION_URL).isEmpty());
+        assertTrue(cache.lookup(unknownLiveSession).isEmpty());
+
+        cache.store(SESSION_URL, response("[{\"lap_number\":1}]")).close();  // Refetched once the session is over
+        assertFalse(Files.exists(cache.volatilePathFor(SESSION_URL)));
+        Files.setLastModifiedTime(cache.pathFor(SESSION_URL), old);
+        assertEquals("[{\"lap_number\":1}]", read(cache.lookup(SESSION_URL).orElseThrow()));
+    }
+
+    @Test
+    void store_ShouldKeepResponsesOfSessionsThatHaveNotSettledVolatile() throws IOException {
+        // Arrange
+        String scheduledSession = "https://api.openf1.org/v1/laps?session_key=9166";
+        String settlingSession = "https://api.openf1.org/v1/laps?session_key=9164";
+        String unknownSession = "https://api.openf1.org/v1/laps?session_key=9100";
+        cache.setLiveSessionKey(9165);  // ex. the FP3 before a scheduled race
+        cache.recordSessionEnd(9166, now.plus(Duration.ofDays(1)));
+        cache.recordSessionEnd(9164, now.minus(properties.getPoll().getSettle()).plusSeconds(1));
+
+        // Act
+        cache.store(scheduledSession, response("[]")).close();
+        cache.store(settlingSession, response("[]")).close();
+        cache.store(unknownSession, response("[]")).close();
+
+        // Assert
+        for (String url : new String[]{scheduledSession, settlingSession, unknownSession}) {
+            assertTrue(cache.isVolatile(url), url);
+            assertTrue(Files.exists(cache.volatilePathFor(url)), url);
+            assertFalse(Files.exists(cache.pathFor(url)), url);
+        }
+        assertFalse(cache.isVolatile(SESSION_URL));
+    }
+
+    @Test
+    void getAsync_ShouldServeReplayOnlyModeWithoutNetwork() throws IOException {
+        // Arrange
+        cache.store(SESSION_URL, response("[]")).close();
+        properties.getCache().setMode(Mode.REPLAY_ONLY);
+        OpenF1HttpTransport transport = mock(OpenF1HttpTransport.class);
+        OpenF1Client client = new OpenF1Client(transport, mock(OpenF1RateLimiter.class), cache,
+                new ImportMetrics(new SimpleMeterRegistry()), properties);
+
+        // Act
+        CompletableFuture<OpenF1Response> hit = client.getAsync(SESSION_URL);
+        CompletableFuture<OpenF1Response> miss = client.getAsync("https://api.openf1.org/v1/laps?session_key=1");
+
+        // Assert
+        assertEquals(200, hit.join().statusCode());
+        CompletionException exception = assertThrows(CompletionException.class, miss::join);
+        assertInstanceOf(IOException.class, exception.getCause());
+        verifyNoInteractions(transport);
+    }
+
+    @Test
+    void getFreshAsync_ShouldBypassFreshEntriesOfTheLatestSessionButStoreTheResponse() throws IOException {
+        // Arrange
+        cache.store(LATEST_URL, response("[{\"session_key\":9158}]")).close();  // Within volatile-ttl
+        properties.getCache().setMode(Mode.READ_WRITE);
+        OpenF1HttpTransport transport = mock(OpenF1HttpTransport.class);
+        when(transport.getAsync(LATEST_URL)).thenReturn(CompletableFuture.completedFuture(response("[{\"session_key\":9165}]")));
+        OpenF1RateLimiter rateLimiter = mock(OpenF1RateLimiter.class);
+        when(rateLimiter.acquire()).thenReturn(CompletableFuture.completedFuture(null));
+        OpenF1Client client = new OpenF1Client(transport, rateLimiter, cache, new ImportMetrics(new SimpleMeterRegistry()), properties);
+
+        // Act
+        String cached = read(client.getAsync(LATEST_URL).join());
+        String fresh = read(client.getFreshAsync(LATEST_URL).join());
+
+        // Assert
+        assertEquals("[{\"session_key\":9158}]", cached);
+        assertEquals("[{\"session_key\":9165}]", fresh);
+        assertEquals("[{\"session_key\":9165}]", read(cache.lookup(LATEST_URL).orElseThrow()));
+        verify(transport, times(1)).getAsync(LATEST_URL);
+    }
+
+    private static OpenF1Response response(String body) {
+        return new OpenF1Response(200, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), Optional.empty());
+    }
+
+    private static String read(OpenF1Response response) throws IOException {
+        try (response) {
+            return new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the OpenF1 API, serving the recorded fixtures of session 9158 in {@code src/test/resources/openf1}
+ * so the import can run without api.openf1.org. Point {@code openf1.base-url} at {@link #baseUrl()}.
+ *
+ * <p>Serves {@code /v1/sessions} (both the latest session and the race list), {@code /v1/drivers}, {@code /v1/laps}
+ * and {@code /v1/position}. The race list holds {@code sessions} races, one every two weeks from March 2024, with
+ * session keys from 9158 upwards; every race returns the 9158 fixtures under its own session key. Query filters
+ * other than {@code session_key} and {@code driver_number} are ignored.
+ *
+ * <p>Three knobs shape the load:
+ * <ul>
+ *   <li>{@code latency}: added before every response, on a virtual thread, so it does not limit concurrency</li>
+ *   <li>{@code tooManyRequestsRate}: the fraction of requests answered with HTTP 429 instead</li>
+ *   <li>{@code payloadScale}: the laps and position updates of a race are repeated this many times, each copy
+ *       shifted past the previous one (later lap numbers and dates), so the rows stay distinct</li>
+ * </ul>
+ */
+public class OpenF1StandInServer implements AutoCloseable {
+
+    static final int FIRST_SESSION_KEY = 9158;
+    private static final Instant FIRST_RACE_START = Instant.parse("2024-03-02T15:00:00Z");
+    private static final Duration RACE_SPACING = Duration.ofDays(14);
+    private static final Duration RACE_LENGTH = Duration.ofHours(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int sessions;
+    private final Duration latency;
+    private final double tooManyRequestsRate;
+    private final byte[] driversTemplate;
+    private final byte[] lapsTemplate;
+    private final byte[] positionsTemplate;
+    private final Map<String, byte[]> sessionPayloads = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong tooManyRequests = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param sessions the number of races in the race list
+     * @param payloadScale how many times the laps and position updates of each race are repeated, at least 1
+     * @param latency the delay added before every response
+     * @param tooManyRequestsRate the fraction of requests, between 0 and 1, answered with HTTP 429
+     */
+    public OpenF1StandInServer(int sessions, int payloadScale, Duration latency, double tooManyRequestsRate) {
+        this.sessions = sessions;
+        this.latency = latency;
+        this.tooManyRequestsRate = tooManyRequestsRate;
+        try {
+            driversTemplate = fixture("drivers_session_9158.json");
+            lapsTemplate = scale(fixture("laps_session_9158.json"), payloadScale, this::shiftLap);
+            positionsTemplate = scale(fixture("position_session_9158.json"), payloadScale, this::shiftPosition);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts serving on a free local port.
+     *
+     * @return this server
+     * @throws IOException if the server cannot bind
+     */
+    public OpenF1StandInServer start() throws IOException {
+        System.setProperty("sun.net.httpserver.nodelay", "true");  // Avoid Nagle/delayed-ACK stalls on small responses
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/", this::handle);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.start();
+        return this;
+    }
+
+    /**
+     * @return the value for {@code openf1.base-url}
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    /**
+     * @return the number of races in the race list
+     */
+    public int sessions() {
+        return sessions;
+    }
+
+    /**
+     * @return the number of requests received, including those answered with HTTP 429
+     */
+    public long requests() {
+        return requests.get();
+    }
+
+    /**
+     * @return the number of requests answered with HTTP 429
+     */
+    public long tooManyRequests() {
+        return tooManyRequests.get();
+    }
+
+    /**
+     * @return the number of response body bytes sent
+     */
+    public long bytesServed() {
+        return bytesServed.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+            if (tooManyRequestsRate > 0 && ThreadLocalRandom.current().nextDouble() < tooManyRequestsRate) {
+                tooManyRequests.incrementAndGet();
+                exchange.sendResponseHeaders(429, -1);
+                return;
+            }
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            byte[] body = switch (exchange.getRequestURI().getPath()) {
+                case "/v1/sessions" -> sessionsResponse(query);
+                case "/v1/drivers" -> sessionPayload("drivers", driversTemplate, query);
+                case "/v1/laps" -> sessionPayload("laps", lapsTemplate, query);
+                case "/v1/position" -> sessionPayload("position", positionsTemplate, query);
+                default -> null;
+            };
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            bytesServed.addAndGet(body.length);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] sessionsResponse(Map<String, String> query) throws IOException {
+        ArrayNode rows = objectMapper.createArrayNode();
+        if ("latest".equals(query.get("session_key"))) {
+            rows.add(session(sessions - 1));
+        } else {
+            for (int i = 0; i < sessions; i++) {
+                rows.add(session(i));
+            }
+        }
+        return objectMapper.writeValueAsBytes(rows);
+    }
+
+    private ObjectNode session(int index) {
+        Instant start = FIRST_RACE_START.plus(RACE_SPACING.multipliedBy(index));
+        return objectMapper.createObjectNode()
+                .put("session_key", FIRST_SESSION_KEY + index)
+                .put("session_name", "Race")
+                .put("session_type", "Race")
+                .put("year", start.atOffset(ZoneOffset.UTC).getYear())
+                .put("country_name", "Singapore")
+                .put("circuit_short_name", "Singapore")
+                .put("date_start", start.atOffset(ZoneOffset.UTC).toString())
+                .put("date_end", start.plus(RACE_LENGTH).atOffset(ZoneOffset.UTC).toString());
+    }
+
+    /**
+     * Returns the template with its session key replaced, keeping the rows of one driver if {@code driver_number} is
+     * set. Responses are built once per distinct query.
+     */
+    private byte[] sessionPayload(String endpoint, byte[] template, Map<String, String> query) {
+        String sessionKey = query.get("session_key");
+        if (sessionKey == null) {
+            return null;
+        }
+        String driverNumber = query.get("driver_number");
+        return sessionPayloads.computeIfAbsent(endpoint + "?" + sessionKey + "&" + driverNumber, key -> {
+            String json = new String(template, StandardCharsets.UTF_8)
+                    .replace("\"session_key\":" + FIRST_SESSION_KEY, "\"session_key\":" + sessionKey);
+            if (driverNumber == null) {
+                return json.getBytes(StandardCharsets.UTF_8);
+            }
+            try {
+                ArrayNode rows = objectMapper.createArrayNode();
+                for (JsonNode row : objectMapper.readTree(json)) {
+                    if (driverNumber.equals(row.path("driver_number").asText())) {
+                        rows.add(row);
+                    }
+                }
+                return objectMapper.writeValueAsBytes(rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private byte[] scale(byte[] fixture, int payloadScale, RowShift shift) throws IOException {
+        if (payloadScale <= 1) {
+            return fixture;
+        }
+        JsonNode rows = objectMapper.readTree(fixture);
+        ArrayNode scaled = objectMapper.createArrayNode();
+        for (int copy = 0; copy < payloadScale; copy++) {
+            for (JsonNode row : rows) {
+                ObjectNode shifted = row.deepCopy();
+                shift.apply(shifted, copy);
+                scaled.add(shifted);
+            }
+        }
+        return objectMapper.writeValueAsBytes(scaled);
+    }
+
+    private void shiftLap(ObjectNode lap, int copy) {
+        lap.put("lap_number", lap.path("lap_number").asInt() + copy * 100);
+    }
+
+    private void shiftPosition(ObjectNode position, int copy) {
+        OffsetDateTime date = OffsetDateTime.parse(position.path("date").asText());
+        position.put("date", date.plus(RACE_LENGTH.multipliedBy(copy)).toString());
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery != null) {
+            for (String parameter : rawQuery.split("&")) {
+                int separator = parameter.indexOf('=');
+                if (separator > 0) {
+                    parameters.put(parameter.substring(0, separator), parameter.substring(separator + 1));
+                }
+            }
+        }
+        return parameters;
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = OpenF1StandInServer.class.getResourceAsStream("/openf1/" + name)) {
+            if (in == null) {
+                throw new IOException("Missing fixture " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowShift {
+        void apply(ObjectNode row, int copy);
+    }
+}
@@ -0,0 +1,97 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.config.OpenF1Properties;
+import com.f1telemetry.race_telemetry_analyzer.model.Lap;
+import com.f1telemetry.race_telemetry_analyzer.service.ImportMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenF1StandInServerTest {
+
+    private final OpenF1Properties properties = new OpenF1Properties();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final JdkOpenF1HttpTransport transport = new JdkOpenF1HttpTransport(Duration.ofSeconds(5), Duration.ofSeconds(5));
+    private OpenF1StandInServer server;
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        transport.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void fetchLapsBySessionFromOpenF1_ShouldImportScaledFixtureLapsFromTheStandIn() throws IOException {
+        // Arrange
+        server = new OpenF1StandInServer(3, 2, Duration.ZERO, 0).start();
+        LapAPIService lapAPIService = new LapAPIService(client(0), new OpenF1JsonDecoder(),
+                new ImportMetrics(new SimpleMeterRegistry()), properties);
+        int fixtureLaps;
+        try (InputStream fixture = getClass().getResourceAsStream("/openf1/laps_session_9158.json")) {
+            fixtureLaps = new OpenF1JsonDecoder().readLaps(fixture).size();
+        }
+
+        // Act
+        Map<Integer, List<Lap>> lapsByDriver = lapAPIService.fetchLapsBySessionFromOpenF1(9160).join();
+        JsonNode latest = client(0).getAsync(server.baseUrl() + "/sessions?session_key=latest")
+                .thenApply(response -> {
+                    try (response) {
+                        return new OpenF1JsonDecoder().readTree(response.body());
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }).join();
+
+        // Assert
+        List<Lap> laps = lapsByDriver.values().stream().flatMap(List::stream).toList();
+        assertEquals(2 * fixtureLaps, laps.size());
+        assertTrue(laps.stream().allMatch(lap -> lap.getSessionKey() == 9160));
+        assertEquals(9160, latest.get(0).get("session_key").asInt());
+        assertEquals(2, server.requests());
+    }
+
+    @Test
+    void getAsync_ShouldGiveUpWhenTheStandInOnlyAnswersTooManyRequests() throws IOException {
+        // Arrange
+        server = new OpenF1StandInServer(1, 1, Duration.ZERO, 1.0).start();
+        OpenF1Client client = client(2);
+
+        // Act
+        int status;
+        try (OpenF1Response response = client.getAsync(server.baseUrl() + "/drivers?session_key=9158").join()) {
+            status = response.statusCode();
+        }
+
+        // Assert
+        assertEquals(429, status);
+        assertEquals(3, server.requests());
+        assertEquals(3, server.tooManyRequests());
+    }
+
+    private OpenF1Client client(int maxRetries) {
+        properties.setBaseUrl(server.baseUrl());
+        properties.getRateLimit().setInitialRate(100.0);
+        properties.getRateLimit().setMaxRate(200.0);
+        properties.getRateLimit().setBurst(10.0);
+        properties.getRateLimit().setMaxRetries(maxRetries);
+        properties.getRateLimit().setInitialBackoff(Duration.ofMillis(10));
+        properties.getRateLimit().setMaxBackoff(Duration.ofMillis(20));
+        properties.getCache().setMode(OpenF1Properties.Cache.Mode.OFF);
+        OpenF1RateLimiter rateLimiter = new OpenF1RateLimiter(properties.getRateLimit(), System::nanoTime, scheduler);
+        return new OpenF1Client(transport, rateLimiter, new OpenF1ResponseCache(properties),
+                new ImportMetrics(new SimpleMeterRegistry()), properties);
+    }
+}
@@ -0,0 +1,79 @@
+package com.f1telemetry.race_telemetry_analyzer.service.OpenF1API;
+
+import com.f1telemetry.race_telemetry_analyzer.model.PositionSample;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionAPIServiceTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void readPositions_ShouldKeepEveryUpdateOfRequestedDrivers() throws IOException {
+        // Arrange
+        String json = """
+                [
+                  {"date":"2023-09-17T12:03:00+00:00","driver_number":1,"meeting_key":1219,"position":2,"session_key":9165},
+                  {"date":"2023-09-17T12:03:00+00:00","driver_number":55,"meeting_key":1219,"position":1,"session_key":9165},
+                  {"date":"2023-09-17T13:45:00.214912+00:00","driver_number":1,"meeting_key":1219,"position":5,"session_key":9165},
+                  {"date":"2023-09-17T13:45:10+00:00","driver_number":11,"meeting_key":1219,"position":4,"session_key":9165}
+                ]
+                """;
+        List<PositionSample> samples;
+
+        // Act
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            samples = PositionAPIService.readPositions(parser, 9165, Set.of(1, 55));
+        }
+
+        // Assert
+        assertEquals(3, samples.size());
+        assertEquals(9165, samples.get(0).getMeta().getSessionKey());
+        assertEquals(1, samples.get(2).getMeta().getDriverNumber());
+        assertEquals(5, samples.get(2).getPosition());
+        assertEquals(Instant.parse("2023-09-17T13:45:00.214912Z"), samples.get(2).getDate());
+    }
+
+    @Test
+    void readPositions_ShouldSkipNestedFieldsAndIncompleteUpdates() throws IOException {
+        // Arrange
+        String json = """
+                [{"date":"2023-09-17T12:00:00+00:00","driver_number":44,"extra":{"a":[1,2]},"position":null},
+                 {"driver_number":44,"position":2},
+                 {"date":"2023-09-17T12:01:00+00:00","driver_number":44,"position":3}]
+                """;
+        List<PositionSample> samples;
+
+        // Act
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            samples = PositionAPIService.readPositions(parser, 9165, Set.of(44));
+        }
+
+        // Assert
+        assertEquals(1, samples.size());
+        assertEquals(3, samples.get(0).getPosition());
+    }
+
+    @Test
+    void readPositions_ShouldRejectNonArrayResponsesAndInvalidDates() {
+        // Act & Assert
+        assertThrows(IOException.class, () -> {
+            try (JsonParser parser = jsonFactory.createParser("{\"detail\":\"Not Found\"}")) {
+                PositionAPIService.readPositions(parser, 9165, Set.of(44));
+            }
+        });
+        assertThrows(IOException.class, () -> {
+            try (JsonParser parser = jsonFactory.createParser("[{\"date\":\"yesterday\",\"driver_number\":44,\"position\":3}]")) {
+                PositionAPIService.readPositions(parser, 9165, Set.of(44));
+            }
+        });
+    }
+}
@@ -1,6 +1,9 @@
 package com.f1telemetry.race_telemetry_analyzer.service;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Position;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
+import com.f1telemetry.race_telemetry_analyzer.repository.PositionHistoryRepository;
 import com.f1telemetry.race_telemetry_analyzer.repository.PositionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +15,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class PositionServiceTest {
@@ -19,6 +23,12 @@ class PositionServiceTest {
     @Mock
     private PositionRepository positionRepository;
 
+    @Mock
+    private BulkUpsertWriter bulkUpsertWriter;
+
+    @Mock
+    private PositionHistoryRepository positionHistoryRepository;
+
     @InjectMocks
     private PositionService positionService;
 
@@ -69,10 +79,23 @@ class PositionServiceTest {
                 new Position(1, 44, 2)
         );
 
+        when(bulkUpsertWriter.upsertAll(Position.class, positionsToSave)).thenReturn(new BulkUpsertResult(1, 1, 1, 1));
+
+        // Act
+        BulkUpsertResult result = positionService.addPositions(positionsToSave);
+
+        // Assert
+        assertEquals(2, result.written());
+        verify(bulkUpsertWriter, times(1)).upsertAll(Position.class, positionsToSave);
+        verify(positionRepository, never()).saveAll(positionsToSave);
+    }
+
+    @Test
+    void replacePositionHistory_ShouldReplaceASessionWithoutSamples() {
         // Act
-        positionService.addPositions(positionsToSave);
+        positionService.replacePositionHistory(1, List.of());
 
         // Assert
-        verify(positionRepository, times(1)).saveAll(positionsToSave);
+        verify(positionHistoryRepository).replaceSession(1, List.of());
     }
 }
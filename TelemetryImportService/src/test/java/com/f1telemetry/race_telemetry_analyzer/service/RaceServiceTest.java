@@ -1,6 +1,9 @@
 package com.f1telemetry.race_telemetry_analyzer.service;
 
 import com.f1telemetry.race_telemetry_analyzer.model.Race;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertResult;
+import com.f1telemetry.race_telemetry_analyzer.repository.BulkUpsertWriter;
+import com.f1telemetry.race_telemetry_analyzer.repository.ProjectionRepository;
 import com.f1telemetry.race_telemetry_analyzer.repository.RaceRepository;
 import com.f1telemetry.race_telemetry_analyzer.service.RaceService;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,10 +11,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,6 +27,15 @@ class RaceServiceTest {
     @Mock
     private RaceRepository raceRepository;
 
+    @Mock
+    private BulkUpsertWriter bulkUpsertWriter;
+
+    @Mock
+    private ProjectionRepository projectionRepository;
+
+    @Spy
+    private ReadThroughCache readThroughCache = new ReadThroughCache(1000);
+
     @InjectMocks
     private RaceService raceService;
 
@@ -47,6 +62,22 @@ class RaceServiceTest {
         verify(raceRepository, times(1)).findAll();
     }
 
+    @Test
+    void getAllRaces_ShouldServeRepeatedReadsFromCacheUntilRacesAreWritten() {
+        // Arrange
+        List<Race> mockRaces = List.of(new Race(1, 2022, "Race", "Country A", "Circuit A"));
+        when(raceRepository.findAll()).thenReturn(mockRaces);
+
+        // Act
+        raceService.getAllRaces();
+        raceService.getAllSessionKeys();
+        raceService.addRaces(mockRaces);
+        raceService.getAllRaces();
+
+        // Assert
+        verify(raceRepository, times(2)).findAll();
+    }
+
     // Test case for getAllSessionKeys()
     @Test
     void getAllSessionKeys_ShouldReturnAllSessionKeys() {
@@ -94,6 +125,16 @@ class RaceServiceTest {
         verify(raceRepository, times(1)).findById("1");
     }
 
+    @Test
+    void getRaceBySessionKey_ShouldReturnEmptyFieldsWhenSessionKeyIsNotANumber() {
+        // Act
+        Optional<Map<String, Object>> result = raceService.getRaceBySessionKey("abc", Set.of("year"));
+
+        // Assert
+        assertFalse(result.isPresent());
+        verifyNoInteractions(projectionRepository);
+    }
+
     // Test case for addRace()
     @Test
     void addRace_ShouldSaveAndReturnNewRace() {
@@ -118,14 +159,14 @@ class RaceServiceTest {
                 new Race(3, 2022, "Race", "Country C", "Circuit C"),
                 new Race(4, 2022, "Sprint", "Country D", "Circuit D")
         );
-        when(raceRepository.saveAll(newRaces)).thenReturn(newRaces);
+        when(bulkUpsertWriter.upsertAll(Race.class, newRaces)).thenReturn(new BulkUpsertResult(0, 0, 2, 1));
 
         // Act
-        List<Race> result = raceService.addRaces(newRaces);
+        BulkUpsertResult result = raceService.addRaces(newRaces);
 
         // Assert
-        assertEquals(2, result.size());
-        verify(raceRepository, times(1)).saveAll(newRaces);
+        assertEquals(2, result.written());
+        verify(bulkUpsertWriter, times(1)).upsertAll(Race.class, newRaces);
     }
 
     // Test case for deleteRace()
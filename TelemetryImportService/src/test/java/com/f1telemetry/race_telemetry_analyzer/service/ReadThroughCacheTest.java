@@ -0,0 +1,42 @@
+package com.f1telemetry.race_telemetry_analyzer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadThroughCacheTest {
+
+    @Test
+    void get_ShouldLoadOnceUntilInvalidated() {
+        // Arrange
+        ReadThroughCache cache = new ReadThroughCache(100);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get("races", loads::incrementAndGet);
+        Integer cached = cache.get("races", loads::incrementAndGet);
+        cache.invalidateAll();
+        cache.get("races", loads::incrementAndGet);
+
+        // Assert
+        assertEquals(1, cached);
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void get_ShouldEvictByWeightOfCachedCollections() {
+        // Arrange
+        ReadThroughCache cache = new ReadThroughCache(10);
+
+        // Act
+        cache.get("drivers", () -> List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        cache.get("races", () -> List.of(1, 2, 3, 4, 5, 6));
+
+        // Assert
+        assertEquals(1, cache.size());
+    }
+}